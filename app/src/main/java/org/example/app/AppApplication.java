@@ -3,9 +3,13 @@ package org.example.app;
 import org.example.loggingstarter.annotation.EnableMethodLogging;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableMethodLogging
+@EnableAsync
+@EnableScheduling
 public class AppApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,67 @@
+package org.example.app.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.app.domain.model.SpendingLimit;
+import org.example.app.domain.repository.SpendingLimitRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Кэш активных лимитов расходов пользователей.
+ * <p>
+ * Список лимитов загружается из БД при первом обращении и хранится до явной инвалидации,
+ * которую выполняет {@code SpendingLimitService} после каждого изменения лимитов пользователя.
+ * Размер кэша ограничен, а записи устаревают по TTL, чтобы изменения, сделанные в обход сервиса,
+ * со временем тоже становились видны.
+ * </p>
+ */
+@Component
+public class ActiveSpendingLimitCache {
+    public static final String CACHE_NAME = "spending-limits.active";
+
+    private final SpendingLimitRepository spendingLimitRepository;
+    private final Cache<Long, List<SpendingLimit>> limitsByUser;
+
+    public ActiveSpendingLimitCache(SpendingLimitRepository spendingLimitRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.cache.spending-limits.maximum-size:100000}") long maximumSize,
+                                    @Value("${app.cache.spending-limits.ttl:PT10M}") Duration ttl) {
+        this.spendingLimitRepository = spendingLimitRepository;
+        this.limitsByUser = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, limitsByUser, CACHE_NAME);
+    }
+
+    /**
+     * Возвращает активные лимиты пользователя, загружая их из БД при отсутствии в кэше.
+     * Одновременные промахи по одному пользователю приводят к одному запросу в БД.
+     *
+     * @param userId идентификатор пользователя
+     * @return неизменяемый список активных лимитов
+     */
+    public List<SpendingLimit> get(Long userId) {
+        return limitsByUser.get(userId,
+                id -> List.copyOf(spendingLimitRepository.findAllActiveByUserId(id)));
+    }
+
+    /**
+     * Удаляет лимиты пользователя из кэша. Вызывается после фиксации изменений в БД,
+     * поэтому следующее чтение получит актуальные данные.
+     *
+     * @param userId идентификатор пользователя
+     */
+    public void invalidate(Long userId) {
+        if (userId != null) {
+            limitsByUser.invalidate(userId);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.app.application.cache;
+
+import org.example.app.domain.model.Transaction;
+import org.example.app.domain.model.TransactionChange;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Применение изменений транзакций к состояниям пользователей, уже загруженным в кэш.
+ * Изменение применяется к состоянию владельца транзакции до изменения и, если транзакция перешла
+ * к другому пользователю, к состоянию нового владельца. Отсутствующие в кэше состояния не загружаются:
+ * при следующем чтении они будут построены из БД, где изменения уже зафиксированы.
+ */
+final class CachedUserStates {
+
+    /**
+     * Функция, строящая новое состояние пользователя по изменению транзакции.
+     *
+     * @param <V> тип состояния
+     */
+    @FunctionalInterface
+    interface Patch<V> {
+        V apply(Long userId, V state, TransactionChange change);
+    }
+
+    private CachedUserStates() {
+        // Приватный конструктор для предотвращения создания экземпляров класса
+    }
+
+    /**
+     * Применяет изменения к загруженным состояниям пользователей.
+     *
+     * @param changes изменения, упорядоченные по позиции в outbox
+     * @param states  состояния пользователей в кэше
+     * @param patch   функция обновления состояния
+     * @param <V>     тип состояния
+     */
+    static <V> void apply(List<TransactionChange> changes, ConcurrentMap<Long, V> states, Patch<V> patch) {
+        for (TransactionChange change : changes) {
+            Transaction before = change.getBefore();
+            Transaction after = change.getAfter();
+            if (before != null) {
+                applyTo(states, before.getUserId(), change, patch);
+            }
+            if (after != null && (before == null || !after.getUserId().equals(before.getUserId()))) {
+                applyTo(states, after.getUserId(), change, patch);
+            }
+        }
+    }
+
+    private static <V> void applyTo(ConcurrentMap<Long, V> states, Long userId, TransactionChange change,
+                                    Patch<V> patch) {
+        states.computeIfPresent(userId, (id, state) -> patch.apply(id, state, change));
+    }
+}
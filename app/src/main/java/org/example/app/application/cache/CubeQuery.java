@@ -0,0 +1,51 @@
+package org.example.app.application.cache;
+
+import org.example.app.domain.model.Category;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Запрос агрегата к {@link TransactionCube}.
+ *
+ * @param from        начало периода включительно, или null без ограничения
+ * @param to          конец периода не включительно, или null без ограничения
+ * @param granularity группировка по времени
+ * @param byCategory  группировать ли по категориям
+ * @param categories  учитываемые категории; пустое множество означает все категории
+ * @param income      учитывать только доходы (true) или только расходы (false); null — все транзакции
+ */
+public record CubeQuery(LocalDate from,
+                        LocalDate to,
+                        Granularity granularity,
+                        boolean byCategory,
+                        Set<Category> categories,
+                        Boolean income) {
+
+    public CubeQuery {
+        granularity = granularity != null ? granularity : Granularity.NONE;
+        categories = categories != null ? Set.copyOf(categories) : Set.of();
+    }
+
+    /**
+     * Группировка по времени.
+     */
+    public enum Granularity {
+        /**
+         * Без группировки: один итог за весь период.
+         */
+        NONE,
+        /**
+         * По дням.
+         */
+        DAY,
+        /**
+         * По неделям, начиная с понедельника.
+         */
+        WEEK,
+        /**
+         * По календарным месяцам.
+         */
+        MONTH
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.app.application.cache;
+
+import org.example.app.domain.model.Category;
+
+import java.time.LocalDate;
+
+/**
+ * Строка результата агрегата {@link TransactionCube}. Суммы выражены в копейках.
+ *
+ * @param period  первый день периода, или null без группировки по времени
+ * @param category категория, или null без группировки по категориям
+ * @param income  сумма доходов
+ * @param expense сумма расходов
+ * @param count   количество транзакций
+ */
+public record CubeRow(LocalDate period, Category category, long income, long expense, long count) {
+}
@@ -0,0 +1,101 @@
+package org.example.app.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.example.app.domain.model.IdempotencyRecord;
+import org.example.app.domain.repository.IdempotencyKeyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Хранилище ключей идемпотентности запросов на создание транзакций.
+ * <p>
+ * Ключи хранятся в таблице {@code idempotency_keys}, которая и определяет результат одновременных повторов.
+ * Перед таблицей стоит кэш в памяти узла: повтор, пришедший на тот же узел, не обращается к БД.
+ * Кэшируются только сохранённые ключи, поэтому кэш не может скрыть ключ, записанный другим узлом.
+ * Ключи с истёкшим сроком жизни периодически удаляются из таблицы.
+ * </p>
+ */
+@Slf4j
+@Component
+public class IdempotencyKeyCache {
+    public static final String CACHE_NAME = "idempotency.keys";
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final Cache<CacheKey, IdempotencyRecord> records;
+    private final Duration ttl;
+
+    public IdempotencyKeyCache(IdempotencyKeyRepository idempotencyKeyRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.idempotency.cache-maximum-size:100000}") long maximumSize,
+                               @Value("${app.idempotency.ttl:PT24H}") Duration ttl) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.ttl = ttl;
+        this.records = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, records, CACHE_NAME);
+    }
+
+    /**
+     * Возвращает срок жизни ключа.
+     *
+     * @return срок жизни ключа
+     */
+    public Duration ttl() {
+        return ttl;
+    }
+
+    /**
+     * Находит действующий ключ пользователя в кэше или в БД.
+     *
+     * @param userId идентификатор пользователя
+     * @param key    значение ключа
+     * @return сохранённый результат запроса, если ключ найден
+     */
+    public Optional<IdempotencyRecord> find(Long userId, String key) {
+        CacheKey cacheKey = new CacheKey(userId, key);
+        IdempotencyRecord cached = records.getIfPresent(cacheKey);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<IdempotencyRecord> stored = idempotencyKeyRepository.findLive(userId, key, ttl);
+        stored.ifPresent(record -> records.put(cacheKey, record));
+        return stored;
+    }
+
+    /**
+     * Добавляет в кэш ключ, сохранённый в БД.
+     *
+     * @param record сохранённый результат запроса
+     */
+    public void put(IdempotencyRecord record) {
+        records.put(new CacheKey(record.userId(), record.key()), record);
+    }
+
+    /**
+     * Удаляет из БД ключи с истёкшим сроком жизни.
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:PT1H}")
+    public void purgeExpired() {
+        try {
+            int deleted = idempotencyKeyRepository.deleteExpired(ttl);
+            log.debug("Удалено ключей идемпотентности с истёкшим сроком: {}", deleted);
+        } catch (RuntimeException e) {
+            log.error("Не удалось удалить ключи идемпотентности с истёкшим сроком", e);
+        }
+    }
+
+    private record CacheKey(Long userId, String key) {
+    }
+}
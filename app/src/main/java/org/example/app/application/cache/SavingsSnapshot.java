@@ -0,0 +1,124 @@
+package org.example.app.application.cache;
+
+import org.example.app.domain.model.SavingsHistory;
+import org.example.app.domain.model.Transaction;
+import org.example.app.domain.model.TransactionChange;
+import org.example.app.utils.Money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Неизменяемый снимок накоплений пользователя: баланс и чистые накопления по последним месяцам.
+ * <p>
+ * Снимок строится из {@link SavingsHistory} и далее обновляется инкрементально по изменениям
+ * транзакций из outbox. Изменения, которые уже были в outbox при построении снимка и потому
+ * уже учтены в агрегатах, пропускаются. Суммы хранятся в копейках ({@link Money}).
+ * </p>
+ */
+public final class SavingsSnapshot {
+    private final long balance;
+    private final YearMonth windowStart;
+    private final Map<YearMonth, Long> monthlyNet;
+    private final Set<Long> loadedChangeIds;
+
+    private SavingsSnapshot(long balance,
+                            YearMonth windowStart,
+                            Map<YearMonth, Long> monthlyNet,
+                            Set<Long> loadedChangeIds) {
+        this.balance = balance;
+        this.windowStart = windowStart;
+        this.monthlyNet = monthlyNet;
+        this.loadedChangeIds = loadedChangeIds;
+    }
+
+    /**
+     * Создаёт снимок из агрегированной истории накоплений.
+     *
+     * @param history     история накоплений пользователя
+     * @param windowStart первый месяц, накопления за который хранятся по отдельности
+     * @return снимок накоплений
+     */
+    public static SavingsSnapshot of(SavingsHistory history, YearMonth windowStart) {
+        Map<YearMonth, Long> monthlyNet = new HashMap<>();
+        history.getMonthlyNet().forEach((month, net) -> monthlyNet.put(month, Money.toMinor(net)));
+        return new SavingsSnapshot(Money.toMinor(history.getBalance()),
+                windowStart,
+                Map.copyOf(monthlyNet),
+                Set.copyOf(history.getPendingChangeIds()));
+    }
+
+    /**
+     * Возвращает снимок с учётом изменения транзакции пользователя.
+     *
+     * @param userId идентификатор пользователя, которому принадлежит снимок
+     * @param change изменение транзакции
+     * @return новый снимок, или текущий, если изменение уже учтено
+     */
+    public SavingsSnapshot apply(Long userId, TransactionChange change) {
+        if (loadedChangeIds.contains(change.getId())) {
+            return this;
+        }
+
+        long newBalance = balance;
+        Map<YearMonth, Long> newMonthlyNet = new HashMap<>(monthlyNet);
+
+        if (belongsTo(change.getBefore(), userId)) {
+            long net = Money.negate(net(change.getBefore()));
+            newBalance = Money.add(newBalance, net);
+            addToMonth(newMonthlyNet, change.getBefore(), net);
+        }
+        if (belongsTo(change.getAfter(), userId)) {
+            long net = net(change.getAfter());
+            newBalance = Money.add(newBalance, net);
+            addToMonth(newMonthlyNet, change.getAfter(), net);
+        }
+
+        return new SavingsSnapshot(newBalance, windowStart, newMonthlyNet, loadedChangeIds);
+    }
+
+    /**
+     * Возвращает текущий баланс пользователя.
+     *
+     * @return баланс (доходы минус расходы)
+     */
+    public BigDecimal getBalance() {
+        return Money.toBigDecimal(balance);
+    }
+
+    /**
+     * Возвращает среднемесячные чистые накопления за указанное число завершённых месяцев,
+     * предшествующих текущему. Месяцы без транзакций считаются нулевыми.
+     *
+     * @param currentMonth текущий месяц, не входящий в расчёт
+     * @param months       число месяцев в окне
+     * @return среднемесячные накопления
+     */
+    public BigDecimal getMonthlySavingsRate(YearMonth currentMonth, int months) {
+        long total = 0;
+        for (int i = 1; i <= months; i++) {
+            total = Money.add(total, monthlyNet.getOrDefault(currentMonth.minusMonths(i), 0L));
+        }
+        return Money.toBigDecimal(total).divide(BigDecimal.valueOf(months), Money.SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static boolean belongsTo(Transaction transaction, Long userId) {
+        return transaction != null && userId.equals(transaction.getUserId());
+    }
+
+    private static long net(Transaction transaction) {
+        long amount = Money.toMinor(transaction.getAmount());
+        return transaction.isIncome() ? amount : Money.negate(amount);
+    }
+
+    private void addToMonth(Map<YearMonth, Long> monthlyNet, Transaction transaction, long net) {
+        YearMonth month = YearMonth.from(transaction.getDate());
+        if (!month.isBefore(windowStart)) {
+            monthlyNet.merge(month, net, Money::add);
+        }
+    }
+}
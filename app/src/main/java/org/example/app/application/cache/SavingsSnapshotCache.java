@@ -0,0 +1,108 @@
+package org.example.app.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.app.application.event.TransactionChangeListener;
+import org.example.app.domain.model.TransactionChange;
+import org.example.app.domain.repository.TransactionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Кэш снимков накоплений пользователей.
+ * <p>
+ * Снимок загружается при первом обращении одним агрегирующим запросом и далее обновляется
+ * инкрементально по изменениям транзакций из outbox, без повторного чтения истории.
+ * Инкрементальные обновления не продлевают жизнь записи: по истечении TTL снимок
+ * перестраивается из БД, что ограничивает накопление расхождений при повторной доставке изменений.
+ * </p>
+ * Снимок догоняет изменения с задержкой доставки outbox, поэтому ответы на его основе не помечаются
+ * {@code @UserDataETag}: версия данных пользователя увеличивается сразу при записи.
+ */
+@Component
+@Order(0)
+public class SavingsSnapshotCache implements TransactionChangeListener {
+    public static final String CACHE_NAME = "savings.snapshots";
+
+    private final TransactionRepository transactionRepository;
+    private final Cache<Long, SavingsSnapshot> snapshots;
+    private final int windowMonths;
+
+    public SavingsSnapshotCache(TransactionRepository transactionRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.cache.savings.maximum-size:100000}") long maximumSize,
+                                @Value("${app.cache.savings.ttl:PT1H}") Duration ttl,
+                                @Value("${app.goals.savings-window-months:3}") int windowMonths) {
+        this.transactionRepository = transactionRepository;
+        this.windowMonths = windowMonths;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<Long, SavingsSnapshot>() {
+                    @Override
+                    public long expireAfterCreate(Long userId, SavingsSnapshot snapshot, long currentTime) {
+                        return ttl.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long userId, SavingsSnapshot snapshot,
+                                                  long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long userId, SavingsSnapshot snapshot,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, CACHE_NAME);
+    }
+
+    /**
+     * Возвращает снимок накоплений пользователя, загружая его из БД при отсутствии в кэше.
+     *
+     * @param userId идентификатор пользователя
+     * @return снимок накоплений
+     */
+    public SavingsSnapshot get(Long userId) {
+        return snapshots.get(userId, this::load);
+    }
+
+
+    /**
+     * Возвращает число завершённых месяцев, по которым рассчитывается среднемесячное накопление.
+     *
+     * @return размер окна в месяцах
+     */
+    public int getWindowMonths() {
+        return windowMonths;
+    }
+
+    /**
+     * Применяет изменения транзакций к загруженным снимкам.
+     *
+     * @param changes изменения, упорядоченные по позиции в outbox
+     */
+    @Override
+    public void onTransactionChanges(List<TransactionChange> changes) {
+        CachedUserStates.apply(changes, snapshots.asMap(),
+                (userId, snapshot, change) -> snapshot.apply(userId, change));
+    }
+
+    private SavingsSnapshot load(Long userId) {
+        YearMonth windowStart = YearMonth.now().minusMonths(windowMonths);
+        return SavingsSnapshot.of(
+                transactionRepository.getSavingsHistory(userId, windowStart.atDay(1)),
+                windowStart);
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.app.application.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Объединение одновременных одинаковых вычислений (single-flight).
+ * <p>
+ * Первый вызов с данными операцией и аргументами выполняет вычисление, а вызовы с тем же ключом,
+ * пришедшие до его завершения, ожидают и получают тот же результат или то же исключение.
+ * Результат не кэшируется: ключ удаляется сразу после завершения вычисления, поэтому следующий вызов
+ * снова обращается к БД и видит все изменения, зафиксированные к этому моменту.
+ * </p>
+ * Число выполненных и присоединившихся вызовов публикуется в Micrometer под именем {@value #METRIC_NAME}
+ * с тегами {@code operation} и {@code role}, число вычислений в процессе — под именем {@value #IN_FLIGHT_METRIC_NAME}.
+ */
+@Component
+public class SingleFlight {
+    public static final String METRIC_NAME = "single-flight.calls";
+    public static final String IN_FLIGHT_METRIC_NAME = "single-flight.in-flight";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<List<Object>, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(IN_FLIGHT_METRIC_NAME, inFlight, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Выполняет вычисление или присоединяется к уже выполняющемуся вычислению с тем же ключом.
+     *
+     * @param operation   имя операции
+     * @param computation вычисление
+     * @param args        аргументы операции; вместе с именем операции образуют ключ
+     * @param <T>         тип результата
+     * @return результат вычисления
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Supplier<T> computation, Object... args) {
+        List<Object> key = new ArrayList<>(args.length + 1);
+        key.add(operation);
+        key.addAll(Arrays.asList(args));
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            meterRegistry.counter(METRIC_NAME, "operation", operation, "role", "coalesced").increment();
+            return (T) await(existing);
+        }
+
+        meterRegistry.counter(METRIC_NAME, "operation", operation, "role", "leader").increment();
+        try {
+            T result = computation.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
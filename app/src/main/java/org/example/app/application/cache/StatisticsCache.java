@@ -0,0 +1,87 @@
+package org.example.app.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Кэш агрегатов по транзакциям пользователей: балансов, сумм доходов и расходов.
+ * <p>
+ * Ключ записи состоит из пользователя, текущей версии его данных из {@link UserDataVersions}, имени запроса
+ * и параметров, поэтому запись, посчитанная до изменения, больше не запрашивается и вытесняется как не используемая;
+ * сбрасывать кэш не требуется. Объём кэша ограничен оценкой занимаемой памяти. Промахи по одному ключу
+ * объединяются через {@link SingleFlight}.
+ * </p>
+ */
+@Component
+public class StatisticsCache {
+    public static final String CACHE_NAME = "statistics.aggregates";
+
+    /**
+     * Оценка размера записи без параметров запроса: ключ, строка версии, значение и служебные узлы кэша.
+     */
+    private static final int ENTRY_BASE_BYTES = 256;
+    private static final int PARAM_BYTES = 48;
+
+    private final UserDataVersions userDataVersions;
+    private final SingleFlight singleFlight;
+    private final Cache<StatisticsKey, BigDecimal> entries;
+
+    public StatisticsCache(UserDataVersions userDataVersions,
+                           SingleFlight singleFlight,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.cache.statistics.max-memory:16MB}") DataSize maxMemory,
+                           @Value("${app.cache.statistics.ttl:PT10M}") Duration ttl) {
+        this.userDataVersions = userDataVersions;
+        this.singleFlight = singleFlight;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxMemory.toBytes())
+                .weigher((StatisticsKey key, BigDecimal value) -> key.weight())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, CACHE_NAME);
+    }
+
+    /**
+     * Возвращает агрегат из кэша или вычисляет его и сохраняет под текущей версией данных пользователя.
+     * Версия читается до вычисления, поэтому значение, посчитанное одновременно с изменением данных,
+     * сохраняется под уже неактуальной версией и не отдаётся последующим запросам.
+     *
+     * @param query  имя запроса
+     * @param userId идентификатор пользователя
+     * @param loader вычисление агрегата
+     * @param params параметры запроса, кроме пользователя
+     * @return значение агрегата
+     */
+    public BigDecimal get(String query, Long userId, Supplier<BigDecimal> loader, Object... params) {
+        StatisticsKey key = new StatisticsKey(userId, userDataVersions.get(userId), query, Arrays.asList(params));
+        BigDecimal cached = entries.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        BigDecimal value = singleFlight.execute(query, loader, key);
+        if (value != null) {
+            entries.put(key, value);
+        }
+        return value;
+    }
+
+    private record StatisticsKey(Long userId, String version, String query, List<Object> params) {
+
+        int weight() {
+            return ENTRY_BASE_BYTES + params.size() * PARAM_BYTES;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package org.example.app.application.cache;
+
+import org.example.app.domain.model.Category;
+import org.example.app.domain.model.Transaction;
+import org.example.app.domain.model.TransactionChange;
+import org.example.app.domain.model.TransactionHistory;
+import org.example.app.utils.Money;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Неизменяемое колоночное представление транзакций пользователя для произвольных агрегатов.
+ * <p>
+ * Транзакции хранятся в параллельных массивах примитивов, упорядоченных по дате и идентификатору:
+ * день в эпохе, сумма в копейках и байт с кодом категории и признаком дохода. Диапазон дат находится
+ * двоичным поиском, агрегат считается одним проходом без выделения памяти на строку.
+ * Изменения транзакций из outbox применяются копированием массивов; изменения, уже отражённые
+ * при загрузке, пропускаются.
+ * </p>
+ */
+public final class TransactionCube {
+    private static final Category[] CATEGORIES = Category.values();
+    private static final int INCOME_FLAG = 0x80;
+    private static final int CATEGORY_MASK = 0x7F;
+
+    private final long[] ids;
+    private final int[] days;
+    private final long[] amounts;
+    private final byte[] codes;
+    private final Set<Long> loadedChangeIds;
+
+    private TransactionCube(long[] ids, int[] days, long[] amounts, byte[] codes, Set<Long> loadedChangeIds) {
+        this.ids = ids;
+        this.days = days;
+        this.amounts = amounts;
+        this.codes = codes;
+        this.loadedChangeIds = loadedChangeIds;
+    }
+
+    /**
+     * Строит колоночное представление из истории транзакций.
+     *
+     * @param history транзакции пользователя, упорядоченные по дате и идентификатору
+     * @return колоночное представление
+     */
+    public static TransactionCube of(TransactionHistory history) {
+        List<Transaction> transactions = history.getTransactions();
+        int size = transactions.size();
+        long[] ids = new long[size];
+        int[] days = new int[size];
+        long[] amounts = new long[size];
+        byte[] codes = new byte[size];
+
+        for (int i = 0; i < size; i++) {
+            Transaction transaction = transactions.get(i);
+            ids[i] = transaction.getId();
+            days[i] = (int) transaction.getDate().toEpochDay();
+            amounts[i] = Money.toMinor(transaction.getAmount());
+            codes[i] = code(transaction);
+        }
+        return new TransactionCube(ids, days, amounts, codes, Set.copyOf(history.getPendingChangeIds()));
+    }
+
+    /**
+     * Возвращает представление с учётом изменения транзакции пользователя.
+     * Строка изменённой транзакции заменяется по идентификатору, поэтому повторное применение
+     * изменения не искажает агрегаты.
+     *
+     * @param userId идентификатор пользователя, которому принадлежит представление
+     * @param change изменение транзакции
+     * @return новое представление, или текущее, если изменение уже учтено или не затрагивает пользователя
+     */
+    public TransactionCube apply(Long userId, TransactionChange change) {
+        if (loadedChangeIds.contains(change.getId())) {
+            return this;
+        }
+
+        long id = change.getTransactionId();
+        int removed = indexOf(id);
+        Transaction after = change.getAfter();
+        boolean insert = after != null && userId.equals(after.getUserId());
+        if (removed < 0 && !insert) {
+            return this;
+        }
+
+        int size = ids.length - (removed >= 0 ? 1 : 0) + (insert ? 1 : 0);
+        long[] newIds = new long[size];
+        int[] newDays = new int[size];
+        long[] newAmounts = new long[size];
+        byte[] newCodes = new byte[size];
+        int day = insert ? (int) after.getDate().toEpochDay() : 0;
+
+        int target = 0;
+        for (int i = 0; i <= ids.length; i++) {
+            if (insert && (i == ids.length || days[i] > day || (days[i] == day && ids[i] > id))) {
+                newIds[target] = id;
+                newDays[target] = day;
+                newAmounts[target] = Money.toMinor(after.getAmount());
+                newCodes[target] = code(after);
+                target++;
+                insert = false;
+            }
+            if (i < ids.length && i != removed) {
+                newIds[target] = ids[i];
+                newDays[target] = days[i];
+                newAmounts[target] = amounts[i];
+                newCodes[target] = codes[i];
+                target++;
+            }
+        }
+        return new TransactionCube(newIds, newDays, newAmounts, newCodes, loadedChangeIds);
+    }
+
+    /**
+     * Считает агрегат по транзакциям.
+     *
+     * @param query параметры агрегата
+     * @return строки агрегата в порядке возрастания периода и категории; пустые группы не возвращаются
+     */
+    public List<CubeRow> aggregate(CubeQuery query) {
+        int from = query.from() != null ? lowerBound((int) query.from().toEpochDay()) : 0;
+        int to = query.to() != null ? lowerBound((int) query.to().toEpochDay()) : ids.length;
+        long categoryMask = 0;
+        for (Category category : query.categories()) {
+            categoryMask |= 1L << category.ordinal();
+        }
+
+        int groups = query.byCategory() ? CATEGORIES.length : 1;
+        long[][] totals = new long[groups][3];
+        List<CubeRow> rows = new ArrayList<>();
+        int period = Integer.MIN_VALUE;
+        int monthEnd = Integer.MIN_VALUE;
+
+        for (int i = from; i < to; i++) {
+            int code = codes[i] & 0xFF;
+            boolean income = (code & INCOME_FLAG) != 0;
+            int category = code & CATEGORY_MASK;
+            if (query.income() != null && query.income() != income
+                    || categoryMask != 0 && (categoryMask & (1L << category)) == 0) {
+                continue;
+            }
+
+            int day = days[i];
+            int rowPeriod = switch (query.granularity()) {
+                case NONE -> 0;
+                case DAY -> day;
+                case WEEK -> day - Math.floorMod(day + 3, 7);
+                case MONTH -> {
+                    if (day >= monthEnd || day < period) {
+                        LocalDate monthStart = LocalDate.ofEpochDay(day).withDayOfMonth(1);
+                        monthEnd = (int) monthStart.plusMonths(1).toEpochDay();
+                        yield (int) monthStart.toEpochDay();
+                    }
+                    yield period;
+                }
+            };
+            if (rowPeriod != period) {
+                flush(rows, totals, period, query);
+                period = rowPeriod;
+            }
+
+            long[] group = totals[query.byCategory() ? category : 0];
+            int column = income ? 0 : 1;
+            group[column] = Money.add(group[column], amounts[i]);
+            group[2]++;
+        }
+        flush(rows, totals, period, query);
+        return rows;
+    }
+
+    /**
+     * Возвращает количество транзакций в представлении.
+     *
+     * @return количество транзакций
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Оценивает объём памяти, занимаемый представлением.
+     *
+     * @return приблизительный размер в байтах
+     */
+    public long estimatedBytes() {
+        return 128L + ids.length * (8L + 4L + 8L + 1L) + loadedChangeIds.size() * 32L;
+    }
+
+    private void flush(List<CubeRow> rows, long[][] totals, int period, CubeQuery query) {
+        for (int group = 0; group < totals.length; group++) {
+            long[] total = totals[group];
+            if (total[2] > 0) {
+                rows.add(new CubeRow(
+                        query.granularity() == CubeQuery.Granularity.NONE ? null : LocalDate.ofEpochDay(period),
+                        query.byCategory() ? CATEGORIES[group] : null,
+                        total[0], total[1], total[2]));
+                total[0] = 0;
+                total[1] = 0;
+                total[2] = 0;
+            }
+        }
+    }
+
+    private int lowerBound(int day) {
+        int low = 0;
+        int high = days.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (days[middle] < day) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int indexOf(long id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte code(Transaction transaction) {
+        return (byte) (transaction.getCategory().ordinal() | (transaction.isIncome() ? INCOME_FLAG : 0));
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.app.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.app.application.event.TransactionChangeListener;
+import org.example.app.domain.model.TransactionChange;
+import org.example.app.domain.repository.TransactionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Кэш колоночных представлений транзакций активных пользователей.
+ * <p>
+ * Представление загружается при первом обращении и далее обновляется по изменениям транзакций
+ * из outbox. Объём кэша ограничен бюджетом памяти: вес записи равен оценке её размера в байтах,
+ * при превышении бюджета вытесняются давно не использованные представления. Представления
+ * пользователей, к которым не обращались дольше заданного времени, удаляются.
+ * </p>
+ * <p>
+ * Вместе с представлением хранится версия данных пользователя ({@link UserDataVersions}), прочитанная
+ * до загрузки. Версия увеличивается сразу при записи, а изменение из outbox приходит позже, поэтому
+ * представление с устаревшей версией при обращении перезагружается из БД: ответ, помеченный ETag
+ * новой версии, не строится по данным до изменения.
+ * </p>
+ */
+@Component
+@Order(0)
+public class TransactionCubeCache implements TransactionChangeListener {
+    public static final String CACHE_NAME = "transactions.cubes";
+
+    private final TransactionRepository transactionRepository;
+    private final UserDataVersions userDataVersions;
+    private final Cache<Long, Entry> cubes;
+
+    public TransactionCubeCache(TransactionRepository transactionRepository,
+                                UserDataVersions userDataVersions,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.cache.cubes.memory-budget:256MB}") DataSize memoryBudget,
+                                @Value("${app.cache.cubes.idle-ttl:PT30M}") Duration idleTtl) {
+        this.transactionRepository = transactionRepository;
+        this.userDataVersions = userDataVersions;
+        this.cubes = Caffeine.newBuilder()
+                .maximumWeight(memoryBudget.toBytes())
+                .weigher((Long userId, Entry entry) -> (int) Math.min(Integer.MAX_VALUE, entry.cube().estimatedBytes()))
+                .expireAfterAccess(idleTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cubes, CACHE_NAME);
+    }
+
+    /**
+     * Возвращает колоночное представление транзакций пользователя, загружая его из БД при отсутствии в кэше
+     * или если оно загружено до последнего изменения данных пользователя.
+     *
+     * @param userId идентификатор пользователя
+     * @return колоночное представление
+     */
+    public TransactionCube get(Long userId) {
+        String version = userDataVersions.get(userId);
+        Entry entry = cubes.get(userId, id -> load(id, version));
+        if (!entry.version().equals(version)) {
+            entry = cubes.asMap().compute(userId, (id, current) -> current != null && current.version().equals(version)
+                    ? current
+                    : load(id, version));
+        }
+        return entry.cube();
+    }
+
+    /**
+     * Возвращает колоночное представление транзакций пользователя, только если оно уже загружено
+     * и соответствует текущей версии данных пользователя.
+     *
+     * @param userId идентификатор пользователя
+     * @return колоночное представление, или null, если его нет в кэше или оно устарело
+     */
+    public TransactionCube getIfPresent(Long userId) {
+        Entry entry = cubes.getIfPresent(userId);
+        return entry != null && entry.version().equals(userDataVersions.get(userId)) ? entry.cube() : null;
+    }
+
+
+    /**
+     * Применяет изменения транзакций к загруженным представлениям, сохраняя их версию.
+     *
+     * @param changes изменения, упорядоченные по позиции в outbox
+     */
+    @Override
+    public void onTransactionChanges(List<TransactionChange> changes) {
+        CachedUserStates.apply(changes, cubes.asMap(),
+                (userId, entry, change) -> new Entry(entry.version(), entry.cube().apply(userId, change)));
+    }
+
+    private Entry load(Long userId, String version) {
+        return new Entry(version, TransactionCube.of(transactionRepository.getTransactionHistory(userId)));
+    }
+
+    private record Entry(String version, TransactionCube cube) {
+    }
+}
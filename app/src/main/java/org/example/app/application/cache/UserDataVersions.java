@@ -0,0 +1,68 @@
+package org.example.app.application.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.example.app.application.event.TransactionChangeListener;
+import org.example.app.domain.model.Transaction;
+import org.example.app.domain.model.TransactionChange;
+import org.example.app.domain.repository.UserDataVersionRepository;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Версии данных пользователей: транзакций, целей и лимитов расходов.
+ * <p>
+ * Версия увеличивается сервисами после каждого успешного изменения данных пользователя и используется
+ * как ETag для условных GET-запросов и как часть ключа {@link StatisticsCache}. Изменения транзакций,
+ * сделанные в обход сервисов, учитываются через outbox; из слушателей outbox версия увеличивается последней,
+ * после обновления кэшей. Версии хранятся в БД и читаются при каждом обращении: изменение, сделанное
+ * через любой экземпляр, должно сразу делать неактуальными кэши и ETag всех экземпляров, не дожидаясь outbox.
+ * </p>
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class UserDataVersions implements TransactionChangeListener {
+    private final UserDataVersionRepository userDataVersionRepository;
+
+    /**
+     * Возвращает текущую версию данных пользователя.
+     *
+     * @param userId идентификатор пользователя
+     * @return версия данных пользователя
+     */
+    public String get(Long userId) {
+        return Long.toString(userDataVersionRepository.findVersion(userId));
+    }
+
+    /**
+     * Увеличивает версию данных пользователя. Вызывается после фиксации изменений в БД.
+     *
+     * @param userId идентификатор пользователя
+     */
+    public void bump(Long userId) {
+        if (userId != null) {
+            userDataVersionRepository.increment(List.of(userId));
+        }
+    }
+
+    @Override
+    public void onTransactionChanges(List<TransactionChange> changes) {
+        Set<Long> userIds = new HashSet<>();
+        for (TransactionChange change : changes) {
+            addUserId(userIds, change.getBefore());
+            addUserId(userIds, change.getAfter());
+        }
+        userDataVersionRepository.increment(userIds);
+    }
+
+    private static void addUserId(Set<Long> userIds, Transaction transaction) {
+        if (transaction != null && transaction.getUserId() != null) {
+            userIds.add(transaction.getUserId());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.app.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.example.app.utils.BatchLookup;
+
+import java.util.List;
+
+/**
+ * Класс DTO (Data Transfer Object) для пакетного получения сущностей по списку идентификаторов.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGetDTO {
+
+    /**
+     * Идентификаторы запрашиваемых сущностей. Не более {@value BatchLookup#MAX_IDS} за один запрос.
+     */
+    @NotEmpty
+    @Size(max = BatchLookup.MAX_IDS)
+    private List<@NotNull Long> ids;
+}
@@ -40,4 +40,9 @@ public class GoalDTO {
      * Используется тип {@link BigDecimal} для точного представления денежных значений.
      */
     private BigDecimal targetAmount;
+
+    /**
+     * Текущая версия цели. Передаётся обратно при обновлении для проверки одновременных изменений.
+     */
+    private Long version;
 }
@@ -39,4 +39,10 @@ public class GoalEditDTO {
      * Используется тип {@link BigDecimal} для точного представления денежных значений.
      */
     private BigDecimal targetAmount;
+
+    /**
+     * Версия цели, на основе которой сделаны изменения. Если версия в БД уже другая, обновление отклоняется
+     * с кодом 409. Если версия не указана, обновление выполняется без проверки.
+     */
+    private Long version;
 }
@@ -0,0 +1,58 @@
+package org.example.app.application.dto.goal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Класс DTO (Data Transfer Object) для представления прогресса достижения цели.
+ * Включает идентификатор и описание цели, целевую сумму, текущий баланс пользователя,
+ * процент выполнения, среднемесячные накопления и прогнозируемую дату достижения цели.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalProgressDTO {
+
+    /**
+     * Уникальный идентификатор цели.
+     */
+    private Long goalId;
+
+    /**
+     * Описание цели.
+     */
+    private String description;
+
+    /**
+     * Целевая сумма, которую пользователь хочет накопить.
+     */
+    private BigDecimal targetAmount;
+
+    /**
+     * Текущий баланс пользователя (доходы минус расходы).
+     */
+    private BigDecimal currentAmount;
+
+    /**
+     * Процент выполнения цели от 0 до 100.
+     */
+    private BigDecimal progressPercent;
+
+    /**
+     * Среднемесячные чистые накопления за последние завершённые месяцы.
+     */
+    private BigDecimal monthlySavingsRate;
+
+    /**
+     * Прогнозируемая дата достижения цели, или null, если при текущем темпе накоплений цель недостижима.
+     */
+    private LocalDate projectedCompletionDate;
+}
@@ -1,5 +1,6 @@
 package org.example.app.application.dto.limit;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -28,6 +29,7 @@ public class SpendingLimitCreateDTO {
      * Значение лимита расходов. Используется тип {@link BigDecimal} для точного представления денежных значений.
      */
     @NotNull
+    @Digits(integer = 8, fraction = 2)
     private BigDecimal limit;
 
     /**
@@ -39,4 +39,9 @@ public class SpendingLimitDTO {
      * Флаг, указывающий, активен ли лимит. Если true, лимит учитывается при расчетах, иначе — игнорируется.
      */
     private boolean active;
+
+    /**
+     * Текущая версия лимита расходов. Передаётся обратно при обновлении для проверки одновременных изменений.
+     */
+    private Long version;
 }
@@ -1,5 +1,6 @@
 package org.example.app.application.dto.limit;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -34,6 +35,7 @@ public class SpendingLimitEditDTO {
      * Новое значение лимита расходов. Используется тип {@link BigDecimal} для точного представления денежных значений.
      */
     @NotNull
+    @Digits(integer = 8, fraction = 2)
     private BigDecimal limit;
 
     /**
@@ -41,4 +43,10 @@ public class SpendingLimitEditDTO {
      */
     @NotNull
     private boolean active;
+
+    /**
+     * Версия лимита расходов, на основе которой сделаны изменения. Если версия в БД уже другая, обновление отклоняется
+     * с кодом 409. Если версия не указана, обновление выполняется без проверки.
+     */
+    private Long version;
 }
@@ -0,0 +1,32 @@
+package org.example.app.application.dto.statistic;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Класс DTO (Data Transfer Object) для представления точки временного ряда расходов.
+ * Включает первый день интервала и сумму расходов за интервал.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeSeriesPointDTO {
+
+    /**
+     * Первый день интервала.
+     */
+    private LocalDate period;
+
+    /**
+     * Сумма расходов за интервал. Равна нулю, если расходов не было.
+     */
+    private BigDecimal amount;
+}
@@ -0,0 +1,53 @@
+package org.example.app.application.dto.statistic;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.example.app.domain.model.Category;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Класс DTO (Data Transfer Object) для представления строки агрегата по транзакциям.
+ * Включает период и категорию группы, суммы доходов и расходов, их разницу и количество транзакций.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionAggregateDTO {
+
+    /**
+     * Первый день периода группы. Отсутствует, если группировка по времени не запрашивалась.
+     */
+    private LocalDate period;
+
+    /**
+     * Категория группы. Отсутствует, если группировка по категориям не запрашивалась.
+     */
+    private Category category;
+
+    /**
+     * Сумма доходов в группе.
+     */
+    private BigDecimal income;
+
+    /**
+     * Сумма расходов в группе.
+     */
+    private BigDecimal expense;
+
+    /**
+     * Разница доходов и расходов в группе.
+     */
+    private BigDecimal net;
+
+    /**
+     * Количество транзакций в группе.
+     */
+    private long count;
+}
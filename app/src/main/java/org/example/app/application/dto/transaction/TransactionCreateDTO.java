@@ -1,5 +1,6 @@
 package org.example.app.application.dto.transaction;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -31,6 +32,7 @@ public class TransactionCreateDTO {
      * Сумма транзакции. Используется тип {@link BigDecimal} для точного представления денежных значений.
      */
     @NotNull
+    @Digits(integer = 8, fraction = 2)
     private BigDecimal amount;
 
     /**
@@ -52,4 +52,9 @@ public class TransactionDTO {
      * Флаг, указывающий, является ли транзакция доходом (true) или расходом (false).
      */
     private boolean income;
+
+    /**
+     * Текущая версия транзакции. Передаётся обратно при обновлении для проверки одновременных изменений.
+     */
+    private Long version;
 }
@@ -1,5 +1,6 @@
 package org.example.app.application.dto.transaction;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -33,6 +34,7 @@ public class TransactionEditDTO {
     /**
      * Новая сумма транзакции. Используется тип {@link BigDecimal} для точного представления денежных значений.
      */
+    @Digits(integer = 8, fraction = 2)
     private BigDecimal amount;
 
     /**
@@ -55,4 +57,10 @@ public class TransactionEditDTO {
      * Флаг, указывающий, является ли транзакция доходом (true) или расходом (false).
      */
     private boolean income;
+
+    /**
+     * Версия транзакции, на основе которой сделаны изменения. Если версия в БД уже другая, обновление отклоняется
+     * с кодом 409. Если версия не указана, обновление выполняется без проверки.
+     */
+    private Long version;
 }
@@ -38,4 +38,9 @@ public class UserDTO {
      * Флаг, указывающий, заблокирован ли пользователь. Если true, пользователь не может войти в систему.
      */
     private boolean banned;
+
+    /**
+     * Текущая версия пользователя. Передаётся обратно при обновлении для проверки одновременных изменений.
+     */
+    private Long version;
 }
@@ -50,4 +50,10 @@ public class UserEditDTO {
      * Флаг, указывающий, заблокирован ли пользователь. Если true, пользователь не может войти в систему.
      */
     private boolean banned;
+
+    /**
+     * Версия пользователя, на основе которой сделаны изменения. Если версия в БД уже другая, обновление отклоняется
+     * с кодом 409. Если версия не указана, обновление выполняется без проверки.
+     */
+    private Long version;
 }
@@ -0,0 +1,46 @@
+package org.example.app.application.dto.user;
+
+import lombok.*;
+import org.example.app.domain.model.UserErasureStatus;
+
+/**
+ * Класс DTO (Data Transfer Object) для передачи хода удаления пользователя и всех его данных.
+ * Содержит состояние задачи удаления и количество уже удалённых записей каждого типа.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserErasureDTO {
+
+    /**
+     * Идентификатор удаляемого пользователя.
+     */
+    private Long userId;
+
+    /**
+     * Состояние задачи удаления.
+     */
+    private UserErasureStatus status;
+
+    /**
+     * Количество удалённых транзакций пользователя.
+     */
+    private long transactionsDeleted;
+
+    /**
+     * Количество удалённых целей пользователя.
+     */
+    private long goalsDeleted;
+
+    /**
+     * Количество удалённых лимитов расходов пользователя.
+     */
+    private long spendingLimitsDeleted;
+
+    /**
+     * Причина ошибки, если удаление завершилось неудачно.
+     */
+    private String error;
+}
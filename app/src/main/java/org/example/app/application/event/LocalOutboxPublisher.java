@@ -0,0 +1,29 @@
+package org.example.app.application.event;
+
+import lombok.RequiredArgsConstructor;
+import org.example.app.domain.model.TransactionChange;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Публикатор outbox, доставляющий изменения транзакций всем {@link TransactionChangeListener}
+ * внутри приложения. Заменяет внешний брокер сообщений.
+ */
+@Component
+@RequiredArgsConstructor
+public class LocalOutboxPublisher implements OutboxPublisher {
+    private final ObjectProvider<TransactionChangeListener> listeners;
+
+    /**
+     * Передаёт пачку изменений каждому слушателю по очереди в порядке {@code @Order}.
+     * Ошибка любого слушателя прерывает публикацию всей пачки.
+     *
+     * @param changes пачка изменений
+     */
+    @Override
+    public void publish(List<TransactionChange> changes) {
+        listeners.orderedStream().forEach(listener -> listener.onTransactionChanges(changes));
+    }
+}
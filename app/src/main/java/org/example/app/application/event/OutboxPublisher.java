@@ -0,0 +1,26 @@
+package org.example.app.application.event;
+
+import org.example.app.domain.model.TransactionChange;
+
+import java.util.List;
+
+/**
+ * Точка расширения для публикации изменений транзакций из outbox.
+ * <p>
+ * По умолчанию используется {@link LocalOutboxPublisher}, доставляющий изменения
+ * слушателям внутри приложения. Для доставки во внешний брокер достаточно объявить
+ * собственную реализацию с аннотацией {@code @Primary}.
+ * </p>
+ * Публикация выполняется каждым экземпляром приложения для всех изменений. Доставка выполняется
+ * по схеме «как минимум один раз»: при ошибке публикации позиция экземпляра в outbox не сдвигается,
+ * и пачка будет опубликована повторно, поэтому обработчики должны быть идемпотентны.
+ */
+public interface OutboxPublisher {
+
+    /**
+     * Публикует пачку изменений, упорядоченных по позиции в outbox.
+     *
+     * @param changes пачка изменений
+     */
+    void publish(List<TransactionChange> changes);
+}
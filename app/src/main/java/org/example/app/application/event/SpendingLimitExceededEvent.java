@@ -0,0 +1,21 @@
+package org.example.app.application.event;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Событие превышения лимита расходов.
+ * Публикуется в момент, когда расходы пользователя за текущий месяц впервые превышают активный лимит.
+ *
+ * @param userId      идентификатор пользователя
+ * @param limitId     идентификатор превышенного лимита
+ * @param limit       значение лимита
+ * @param consumption сумма расходов пользователя за месяц после записи транзакции
+ * @param month       месяц, за который считаются расходы
+ */
+public record SpendingLimitExceededEvent(Long userId,
+                                         Long limitId,
+                                         BigDecimal limit,
+                                         BigDecimal consumption,
+                                         YearMonth month) {
+}
@@ -0,0 +1,26 @@
+package org.example.app.application.event;
+
+import org.example.app.application.cache.UserDataVersions;
+import org.example.app.domain.model.TransactionChange;
+import org.springframework.core.annotation.Order;
+
+import java.util.List;
+
+/**
+ * Слушатель изменений транзакций, получаемых из outbox через {@link LocalOutboxPublisher}.
+ * Вызывается вне запроса пользователя, поэтому подходит для дорогих производных вычислений.
+ * <p>
+ * Каждый экземпляр приложения получает все изменения. Слушатели вызываются в порядке {@link Order}:
+ * сначала обновляются производные данные, и только затем {@link UserDataVersions} увеличивает
+ * версию данных пользователя, чтобы новая версия не сочеталась с ещё не обновлёнными данными.
+ * </p>
+ */
+public interface TransactionChangeListener {
+
+    /**
+     * Обрабатывает пачку изменений транзакций.
+     *
+     * @param changes изменения, упорядоченные по позиции в outbox
+     */
+    void onTransactionChanges(List<TransactionChange> changes);
+}
@@ -0,0 +1,7 @@
+package org.example.app.application.exception;
+
+public class UserErasureInProgressException extends RuntimeException {
+    public UserErasureInProgressException(String message) {
+        super(message);
+    }
+}
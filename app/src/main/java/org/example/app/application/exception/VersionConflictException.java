@@ -0,0 +1,7 @@
+package org.example.app.application.exception;
+
+public class VersionConflictException extends RuntimeException {
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.app.application.exception;
+
+import java.time.Duration;
+
+public class WorkloadSaturatedException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public WorkloadSaturatedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * Возвращает значение заголовка {@code Retry-After}: задержку, округлённую вверх до целых секунд, не меньше 1.
+     *
+     * @return задержка перед повтором в секундах
+     */
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
@@ -42,6 +42,7 @@ public interface GoalMapper {
      * @return сущность цели
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "userId", source = "dto.userId")
     @Mapping(target = "description", source = "dto.description")
     @Mapping(target = "targetAmount", source = "dto.targetAmount")
@@ -40,6 +40,7 @@ public interface LimitMapper {
      * @return сущность лимита расходов
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "limit", source = "dto.limit")
     @Mapping(target = "userId", source = "dto.userId")
     @Mapping(target = "active", source = "dto.active")
@@ -41,6 +41,7 @@ public interface TransactionMapper {
      * @return сущность транзакции для сохранения в БД
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "userId", source = "dto.userId")
     @Mapping(target = "description", source = "dto.description")
     @Mapping(target = "amount", source = "dto.amount")
@@ -41,6 +41,7 @@ public abstract class UserMapper {
     @Mapping(target = "role", source = "dto.role")
     @Mapping(target = "banned", source = "dto.banned")
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     public abstract User map(UserCreateDTO dto);
 
     /**
@@ -1,16 +1,28 @@
 package org.example.app.application.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.app.application.cache.SavingsSnapshot;
+import org.example.app.application.cache.SavingsSnapshotCache;
+import org.example.app.application.cache.UserDataVersions;
 import org.example.app.application.dto.goal.GoalCreateDTO;
 import org.example.app.application.dto.goal.GoalDTO;
 import org.example.app.application.dto.goal.GoalEditDTO;
+import org.example.app.application.dto.goal.GoalProgressDTO;
 import org.example.app.application.exception.ResourceNotFoundException;
+import org.example.app.application.exception.VersionConflictException;
 import org.example.app.application.mapper.GoalMapper;
 import org.example.app.domain.model.Goal;
 import org.example.app.domain.repository.GoalRepository;
+import org.example.app.utils.BatchLookup;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Сервис для управления целями.
@@ -21,6 +33,9 @@ import java.util.List;
 public class GoalService {
     private final GoalRepository goalRepository;
     private final GoalMapper goalMapper;
+    private final SavingsSnapshotCache savingsSnapshotCache;
+    private final UserDataVersions userDataVersions;
+    private final UserErasureService userErasureService;
 
     /**
      * Возвращает цель для указанного идентификатора.
@@ -38,6 +53,23 @@ public class GoalService {
         return goalMapper.map(goal);
     }
 
+    /**
+     * Возвращает цели по списку идентификаторов одним запросом к БД.
+     * Результат упорядочен как запрошенные идентификаторы; повторы и отсутствующие идентификаторы пропускаются.
+     *
+     * @param ids идентификаторы
+     * @return найденные цели
+     */
+    public List<GoalDTO> getAllByIds(List<Long> ids) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        List<Goal> goals = BatchLookup.inRequestOrder(uniqueIds,
+                goalRepository.findAllByIds(uniqueIds), Goal::getId);
+
+        return goals.stream()
+                .map(goalMapper::map)
+                .toList();
+    }
+
     /**
      * Возвращает список всех целей для указанного пользователя.
      *
@@ -52,6 +84,38 @@ public class GoalService {
                 .toList();
     }
 
+    /**
+     * Возвращает прогресс достижения всех целей пользователя.
+     * <p>
+     * Прогресс рассчитывается по текущему балансу пользователя и среднемесячным накоплениям
+     * за последние завершённые месяцы из {@link SavingsSnapshotCache}, без чтения истории транзакций.
+     * </p>
+     *
+     * @param userId идентификатор пользователя
+     * @return список прогресса по целям пользователя
+     */
+    public List<GoalProgressDTO> getProgressByUser(Long userId) {
+        List<Goal> goals = goalRepository.findAllByUserId(userId);
+        if (goals.isEmpty()) {
+            return List.of();
+        }
+
+        SavingsSnapshot snapshot = savingsSnapshotCache.get(userId);
+        BigDecimal balance = snapshot.getBalance();
+        BigDecimal rate = snapshot.getMonthlySavingsRate(YearMonth.now(), savingsSnapshotCache.getWindowMonths());
+        LocalDate today = LocalDate.now();
+
+        return goals.stream()
+                .map(goal -> new GoalProgressDTO(goal.getId(),
+                        goal.getDescription(),
+                        goal.getTargetAmount(),
+                        balance,
+                        progressPercent(balance, goal.getTargetAmount()),
+                        rate,
+                        projectedCompletionDate(balance, goal.getTargetAmount(), rate, today)))
+                .toList();
+    }
+
     /**
      * Создает новую цель.
      *
@@ -59,9 +123,12 @@ public class GoalService {
      * @return идентификатор цели
      */
     public Long create(GoalCreateDTO dto) {
+        userErasureService.requireNotErasing(dto.getUserId());
         Goal goal = goalMapper.map(dto);
 
-        return goalRepository.save(goal);
+        Long id = goalRepository.save(goal);
+        userDataVersions.bump(goal.getUserId());
+        return id;
     }
 
     /**
@@ -70,12 +137,16 @@ public class GoalService {
      *
      * @param dto цель с обновленными данными
      */
-    public void update(GoalEditDTO dto) throws ResourceNotFoundException {
-        Goal goal = goalRepository.findById(dto.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Goal not found"));
+    public void update(GoalEditDTO dto) throws ResourceNotFoundException, VersionConflictException {
+        Goal goal = goalMapper.update(dto, new Goal());
 
-        goalMapper.update(dto, goal);
-        goalRepository.update(goal);
+        Long previousUserId = goalRepository.update(goal)
+                .orElseThrow(() -> goalRepository.findById(dto.getId()).isPresent()
+                        ? new VersionConflictException("Goal was modified concurrently")
+                        : new ResourceNotFoundException("Goal not found"))
+                .getUserId();
+        userDataVersions.bump(previousUserId);
+        userDataVersions.bump(goal.getUserId());
     }
 
     /**
@@ -88,9 +159,31 @@ public class GoalService {
             throw new IllegalArgumentException("Invalid id");
         }
 
-        Goal goal = goalRepository.findById(id)
+        Long userId = goalRepository.deleteById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Goal not found"));
 
-        goalRepository.deleteById(goal.getId());
+        userDataVersions.bump(userId);
+    }
+
+    private BigDecimal progressPercent(BigDecimal balance, BigDecimal target) {
+        if (target.signum() <= 0 || balance.compareTo(target) >= 0) {
+            return BigDecimal.valueOf(100).setScale(2, RoundingMode.UNNECESSARY);
+        }
+        if (balance.signum() <= 0) {
+            return BigDecimal.ZERO.setScale(2, RoundingMode.UNNECESSARY);
+        }
+        return balance.multiply(BigDecimal.valueOf(100)).divide(target, 2, RoundingMode.DOWN);
+    }
+
+    private LocalDate projectedCompletionDate(BigDecimal balance, BigDecimal target, BigDecimal rate, LocalDate today) {
+        if (balance.compareTo(target) >= 0) {
+            return today;
+        }
+        if (rate.signum() <= 0) {
+            return null;
+        }
+
+        long months = target.subtract(balance).divide(rate, 0, RoundingMode.CEILING).longValueExact();
+        return today.plusMonths(months);
     }
 }
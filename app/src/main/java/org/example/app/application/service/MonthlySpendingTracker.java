@@ -0,0 +1,121 @@
+package org.example.app.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.app.domain.model.MonthlySpending;
+import org.example.app.domain.model.OutboxPosition;
+import org.example.app.domain.model.Transaction;
+import org.example.app.domain.model.TransactionChange;
+import org.example.app.domain.repository.TransactionRepository;
+import org.example.app.utils.Money;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Счётчик расходов пользователей за текущий месяц.
+ * <p>
+ * Счётчики заполняются одним агрегирующим запросом по всем пользователям при первом изменении
+ * и при смене месяца, далее поддерживаются инкрементально по изменениям из outbox, без обращений к БД.
+ * Изменения, уже учтённые в прочитанных суммах, определяются по снимку транзакций БД и пропускаются,
+ * повторно доставленные изменения пропускаются по позиции в outbox.
+ * </p>
+ * Суммы хранятся в копейках ({@link Money}); нулевые суммы не хранятся, поэтому счётчик удалённого
+ * пользователя освобождается вместе с его транзакциями.
+ * Каждый экземпляр приложения получает все изменения, поэтому счётчики учитывают записи со всех узлов.
+ * Методы вызываются из потока доставки outbox.
+ */
+@Component
+@RequiredArgsConstructor
+public class MonthlySpendingTracker {
+    private final TransactionRepository transactionRepository;
+
+    private MonthState state;
+    private OutboxPosition lastApplied;
+
+    /**
+     * Изменение расходов пользователя за месяц в результате одной записи.
+     *
+     * @param before сумма расходов до изменения в копейках
+     * @param after  сумма расходов после изменения в копейках
+     */
+    public record SpendingChange(long before, long after) {
+    }
+
+    /**
+     * Применяет изменение транзакции к расходам за текущий месяц.
+     * Изменение суммы вычисляется один раз как разность нового и старого состояния,
+     * поэтому изменение транзакции без изменения суммы не меняет расходы.
+     *
+     * @param change изменение транзакции из outbox
+     * @return расходы до и после изменения по идентификатору пользователя; пусто, если расходы не изменились
+     */
+    public synchronized Map<Long, SpendingChange> apply(TransactionChange change) {
+        OutboxPosition position = OutboxPosition.of(change);
+        if (lastApplied != null && position.compareTo(lastApplied) <= 0) {
+            return Map.of();
+        }
+
+        MonthState current = current();
+        lastApplied = position;
+        if (current.spending().getSnapshot().includes(change.getTxId())) {
+            return Map.of();
+        }
+
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        addExpense(deltas, current.spending().getMonth(), change.getBefore(), true);
+        addExpense(deltas, current.spending().getMonth(), change.getAfter(), false);
+
+        Map<Long, SpendingChange> result = new LinkedHashMap<>();
+        deltas.forEach((userId, delta) -> {
+            if (delta != 0) {
+                long before = current.totals().getOrDefault(userId, 0L);
+                long after = Money.add(before, delta);
+                if (after == 0) {
+                    current.totals().remove(userId);
+                } else {
+                    current.totals().put(userId, after);
+                }
+                result.put(userId, new SpendingChange(before, after));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Возвращает расходы пользователя за текущий месяц.
+     *
+     * @param userId идентификатор пользователя
+     * @return сумма расходов за текущий месяц
+     */
+    public synchronized BigDecimal get(Long userId) {
+        return Money.toBigDecimal(current().totals().getOrDefault(userId, 0L));
+    }
+
+    private void addExpense(Map<Long, Long> deltas, YearMonth month, Transaction transaction, boolean removed) {
+        if (transaction == null || transaction.isIncome() || transaction.getAmount() == null
+                || transaction.getDate() == null || !month.equals(YearMonth.from(transaction.getDate()))) {
+            return;
+        }
+
+        long amount = Money.toMinor(transaction.getAmount());
+        deltas.merge(transaction.getUserId(), removed ? Money.negate(amount) : amount, Money::add);
+    }
+
+    private MonthState current() {
+        YearMonth now = YearMonth.now();
+        if (state == null || !state.spending().getMonth().equals(now)) {
+            MonthlySpending spending = transactionRepository.getMonthlySpending(now);
+            Map<Long, Long> totals = new HashMap<>();
+            spending.getConsumption().forEach((userId, amount) -> totals.put(userId, Money.toMinor(amount)));
+            state = new MonthState(spending, totals);
+        }
+        return state;
+    }
+
+    private record MonthState(MonthlySpending spending, Map<Long, Long> totals) {
+    }
+}
@@ -1,34 +1,29 @@
 package org.example.app.application.service;
 
-import lombok.RequiredArgsConstructor;
-import org.example.app.application.dto.limit.SpendingLimitDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.example.app.application.event.SpendingLimitExceededEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
-import java.util.List;
-
 /**
  * Сервис для отправки уведомлений.
- * Предоставляет функциональность для проверки превышения лимита расходов и отправки уведомлений.
+ * Асинхронно обрабатывает события превышения лимита расходов, не задерживая запрос,
+ * в рамках которого была записана транзакция.
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class NotificationService {
-    private final SpendingLimitService spendingLimitService;
+
     /**
-     * Проверяет, превышен ли лимит расходов для указанного пользователя.
-     * Если лимит превышен, выводит предупреждение в консоль.
+     * Уведомляет пользователя о превышении лимита расходов за текущий месяц.
      *
-     * @param userId идентификатор пользователя
-     * @param consumption сумма расходов за текущий месяц
+     * @param event событие превышения лимита
      */
-    public void checkSpendingLimit(Long userId, BigDecimal consumption) {
-        List<SpendingLimitDTO> limits = spendingLimitService.findAllByUserId(userId);
-
-        for (SpendingLimitDTO limit : limits) {
-            if (limit != null && consumption.compareTo(limit.getLimit()) > 0) {
-                System.out.println("Превышен лимит расходов за текущий месяц!");
-            }
-        }
+    @Async
+    @EventListener
+    public void onSpendingLimitExceeded(SpendingLimitExceededEvent event) {
+        log.warn("Превышен лимит расходов за {}: пользователь {}, лимит {} ({}), расходы {}",
+                event.month(), event.userId(), event.limitId(), event.limit(), event.consumption());
     }
 }
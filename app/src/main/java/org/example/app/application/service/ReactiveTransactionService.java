@@ -0,0 +1,185 @@
+package org.example.app.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.app.application.dto.transaction.TransactionDTO;
+import org.example.app.application.exception.ResourceNotFoundException;
+import org.example.app.application.mapper.TransactionMapper;
+import org.example.app.domain.model.Category;
+import org.example.app.domain.model.DateRange;
+import org.example.app.domain.repository.ReactiveTransactionRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Неблокирующий сервис чтения транзакций и статистики.
+ * Зеркалирует методы чтения {@link TransactionService}, используя {@link ReactiveTransactionRepository}.
+ * Активен только в профиле "reactive".
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveTransactionService {
+    private final ReactiveTransactionRepository transactionRepository;
+    private final TransactionMapper transactionMapper;
+
+    /**
+     * Возвращает транзакцию по идентификатору.
+     *
+     * @param id идентификатор транзакции
+     * @return транзакция или ошибка {@link ResourceNotFoundException}, если транзакция не найдена
+     */
+    public Mono<TransactionDTO> getById(Long id) {
+        if (id == null || id <= 0) {
+            return Mono.error(new IllegalArgumentException("Invalid transaction id"));
+        }
+
+        return transactionRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Transaction not found")))
+                .map(transactionMapper::map);
+    }
+
+    /**
+     * Возвращает поток всех транзакций для указанного пользователя.
+     *
+     * @param userId идентификатор пользователя
+     * @return поток транзакций пользователя
+     */
+    public Flux<TransactionDTO> getAllByUserId(Long userId) {
+        return transactionRepository.findAllByUserId(userId)
+                .map(transactionMapper::map);
+    }
+
+    /**
+     * Возвращает поток всех транзакций.
+     *
+     * @return поток всех транзакций
+     */
+    public Flux<TransactionDTO> getAll() {
+        return transactionRepository.findAll()
+                .map(transactionMapper::map);
+    }
+
+    /**
+     * Возвращает поток транзакций пользователя за указанную дату.
+     *
+     * @param userId идентификатор пользователя
+     * @param date дата транзакции
+     * @return поток транзакций пользователя за указанную дату
+     */
+    public Flux<TransactionDTO> getAllByUserIdByDate(Long userId, LocalDate date) {
+        return transactionRepository.findAllByUserIdByDate(userId, date)
+                .map(transactionMapper::map);
+    }
+
+    /**
+     * Возвращает поток транзакций пользователя по указанной категории.
+     *
+     * @param userId идентификатор пользователя
+     * @param category категория транзакции
+     * @return поток транзакций пользователя по указанной категории
+     */
+    public Flux<TransactionDTO> getAllByUserIdByCategory(Long userId, Category category) {
+        return transactionRepository.findAllByUserIdByCategory(userId, category)
+                .map(transactionMapper::map);
+    }
+
+    /**
+     * Возвращает поток транзакций пользователя по типу (доход/расход).
+     *
+     * @param userId идентификатор пользователя
+     * @param income true для доходов, false для расходов
+     * @return поток транзакций пользователя по указанному типу
+     */
+    public Flux<TransactionDTO> getAllByUserIdByIncome(Long userId, boolean income) {
+        return transactionRepository.findAllByUserIdByIncome(userId, income)
+                .map(transactionMapper::map);
+    }
+
+    /**
+     * Возвращает сумму расходов для указанного пользователя.
+     *
+     * @param userId идентификатор пользователя
+     * @return сумма расходов пользователя
+     */
+    public Mono<BigDecimal> getConsumptionByUserId(Long userId) {
+        return transactionRepository.getConsumptionByUserId(userId);
+    }
+
+    /**
+     * Возвращает сумму доходов для указанного пользователя.
+     *
+     * @param userId идентификатор пользователя
+     * @return сумма доходов пользователя
+     */
+    public Mono<BigDecimal> getIncomeByUserId(Long userId) {
+        return transactionRepository.getIncomeByUserId(userId);
+    }
+
+    /**
+     * Возвращает сумму расходов для указанного пользователя за текущий месяц.
+     *
+     * @param userId идентификатор пользователя
+     * @return сумма расходов пользователя за текущий месяц
+     */
+    public Mono<BigDecimal> getConsumptionByUserIdByMonth(Long userId) {
+        return transactionRepository.getConsumptionByUserIdByMonth(userId);
+    }
+
+    /**
+     * Возвращает текущий баланс для указанного пользователя.
+     *
+     * @param userId идентификатор пользователя
+     * @return текущий баланс пользователя (доходы минус расходы)
+     */
+    public Mono<BigDecimal> getBalanceByUserId(Long userId) {
+        return transactionRepository.getBalanceByUserId(userId);
+    }
+
+    /**
+     * Возвращает сумму расходов для указанного пользователя за указанный период.
+     *
+     * @param userId идентификатор пользователя
+     * @param startDate начальная дата периода (включительно)
+     * @param endDate конечная дата периода (включительно)
+     * @return сумма расходов пользователя за указанный период
+     * @throws IllegalArgumentException если конечная дата раньше начальной
+     */
+    public Mono<BigDecimal> getConsumptionByUserIdByPeriodDate(Long userId,
+                                                               LocalDate startDate,
+                                                               LocalDate endDate) {
+        return Mono.fromCallable(() -> DateRange.closed(startDate, endDate))
+                .flatMap(period -> transactionRepository.getConsumptionByUserIdByPeriodDate(userId, period));
+    }
+
+    /**
+     * Возвращает сумму доходов для указанного пользователя за указанный период.
+     *
+     * @param userId идентификатор пользователя
+     * @param startDate начальная дата периода (включительно)
+     * @param endDate конечная дата периода (включительно)
+     * @return сумма доходов пользователя за указанный период
+     * @throws IllegalArgumentException если конечная дата раньше начальной
+     */
+    public Mono<BigDecimal> getIncomeByUserIdByPeriodDate(Long userId,
+                                                          LocalDate startDate,
+                                                          LocalDate endDate) {
+        return Mono.fromCallable(() -> DateRange.closed(startDate, endDate))
+                .flatMap(period -> transactionRepository.getIncomeByUserIdByPeriodDate(userId, period));
+    }
+
+    /**
+     * Возвращает сумму расходов для указанного пользователя по указанной категории.
+     *
+     * @param userId идентификатор пользователя
+     * @param category категория транзакции
+     * @return сумма расходов пользователя по указанной категории
+     */
+    public Mono<BigDecimal> getConsumptionByUserIdByCategory(Long userId, Category category) {
+        return transactionRepository.getConsumptionByUserIdByCategory(userId, category);
+    }
+}
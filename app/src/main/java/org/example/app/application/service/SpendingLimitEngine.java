@@ -0,0 +1,70 @@
+package org.example.app.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.app.application.cache.ActiveSpendingLimitCache;
+import org.example.app.application.event.SpendingLimitExceededEvent;
+import org.example.app.application.event.TransactionChangeListener;
+import org.example.app.application.service.MonthlySpendingTracker.SpendingChange;
+import org.example.app.domain.model.SpendingLimit;
+import org.example.app.domain.model.TransactionChange;
+import org.example.app.domain.repository.TransactionOutboxRepository;
+import org.example.app.utils.Money;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Движок проверки лимитов расходов.
+ * <p>
+ * Получает изменения транзакций из outbox, обновляет расходы пользователя за текущий месяц
+ * в {@link MonthlySpendingTracker} и сравнивает их с активными лимитами из {@link ActiveSpendingLimitCache}.
+ * Проверка выполняется в памяти за O(число активных лимитов) и не обращается к БД.
+ * </p>
+ * Событие {@link SpendingLimitExceededEvent} публикуется только в момент перехода через лимит,
+ * чтобы последующие расходы сверх лимита не порождали повторных уведомлений. Все экземпляры приложения
+ * обрабатывают одни и те же изменения, поэтому событие публикует только экземпляр, первым закрепивший
+ * уведомление за изменением в outbox.
+ */
+@Service
+@Order(1)
+@RequiredArgsConstructor
+public class SpendingLimitEngine implements TransactionChangeListener {
+    private final MonthlySpendingTracker spendingTracker;
+    private final ActiveSpendingLimitCache limitCache;
+    private final TransactionOutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Учитывает изменения транзакций и проверяет лимиты затронутых пользователей.
+     *
+     * @param changes изменения, упорядоченные по позиции в outbox
+     */
+    @Override
+    public void onTransactionChanges(List<TransactionChange> changes) {
+        for (TransactionChange change : changes) {
+            List<SpendingLimitExceededEvent> events = new ArrayList<>();
+            for (Map.Entry<Long, SpendingChange> entry : spendingTracker.apply(change).entrySet()) {
+                evaluate(entry.getKey(), entry.getValue(), events);
+            }
+
+            if (!events.isEmpty() && outboxRepository.claimNotification(change.getId())) {
+                events.forEach(eventPublisher::publishEvent);
+            }
+        }
+    }
+
+    private void evaluate(Long userId, SpendingChange change, List<SpendingLimitExceededEvent> events) {
+        for (SpendingLimit limit : limitCache.get(userId)) {
+            long threshold = Money.toMinor(limit.getLimit());
+            if (change.before() <= threshold && change.after() > threshold) {
+                events.add(new SpendingLimitExceededEvent(userId, limit.getId(), limit.getLimit(),
+                        Money.toBigDecimal(change.after()), YearMonth.now()));
+            }
+        }
+    }
+}
@@ -1,16 +1,22 @@
 package org.example.app.application.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.app.application.cache.ActiveSpendingLimitCache;
+import org.example.app.application.cache.UserDataVersions;
 import org.example.app.application.dto.limit.SpendingLimitCreateDTO;
 import org.example.app.application.dto.limit.SpendingLimitDTO;
 import org.example.app.application.dto.limit.SpendingLimitEditDTO;
 import org.example.app.application.exception.ResourceNotFoundException;
+import org.example.app.application.exception.VersionConflictException;
 import org.example.app.application.mapper.LimitMapper;
 import org.example.app.domain.model.SpendingLimit;
 import org.example.app.domain.repository.SpendingLimitRepository;
+import org.example.app.utils.BatchLookup;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Сервис для управления лимитами расходов.
@@ -21,6 +27,9 @@ import java.util.List;
 public class SpendingLimitService {
     private final SpendingLimitRepository spendingLimitRepository;
     private final LimitMapper limitMapper;
+    private final ActiveSpendingLimitCache activeSpendingLimitCache;
+    private final UserDataVersions userDataVersions;
+    private final UserErasureService userErasureService;
 
     /**
      * Возвращает лимит расходов по идентификатору.
@@ -39,6 +48,23 @@ public class SpendingLimitService {
         return limitMapper.map(limit);
     }
 
+    /**
+     * Возвращает лимиты расходов по списку идентификаторов одним запросом к БД.
+     * Результат упорядочен как запрошенные идентификаторы; повторы и отсутствующие идентификаторы пропускаются.
+     *
+     * @param ids идентификаторы
+     * @return найденные лимиты расходов
+     */
+    public List<SpendingLimitDTO> getAllByIds(List<Long> ids) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        List<SpendingLimit> limits = BatchLookup.inRequestOrder(uniqueIds,
+                spendingLimitRepository.findAllByIds(uniqueIds), SpendingLimit::getId);
+
+        return limits.stream()
+                .map(limitMapper::map)
+                .toList();
+    }
+
     /**
      * Устанавливает лимит расходов для пользователя и возвращает id лимита
      *
@@ -46,20 +72,25 @@ public class SpendingLimitService {
      * @return id лимита
      */
     public Long create(SpendingLimitCreateDTO dto) {
+        userErasureService.requireNotErasing(dto.getUserId());
 
         SpendingLimit limit = limitMapper.map(dto);
 
-        return spendingLimitRepository.save(limit);
+        Long id = spendingLimitRepository.save(limit);
+        activeSpendingLimitCache.invalidate(limit.getUserId());
+        userDataVersions.bump(limit.getUserId());
+        return id;
     }
 
     /**
-     * Возвращает лимит расходов для указанного пользователя.
+     * Возвращает активные лимиты расходов для указанного пользователя.
+     * Лимиты читаются через {@link ActiveSpendingLimitCache}.
      *
      * @param userId идентификатор пользователя
      * @return список лимитов расходов пользователя
      */
     public List<SpendingLimitDTO> findAllByUserId(Long userId) {
-        List<SpendingLimit> limits = spendingLimitRepository.findAllActiveByUserId(userId);
+        List<SpendingLimit> limits = activeSpendingLimitCache.get(userId);
         return limits.stream()
                 .map(limitMapper::map)
                 .toList();
@@ -70,12 +101,20 @@ public class SpendingLimitService {
      *
      * @param dto лимит с обновленными данными
      */
-    public void update(SpendingLimitEditDTO dto) throws ResourceNotFoundException, IllegalArgumentException {
-        SpendingLimit limit = spendingLimitRepository.findById(dto.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Spending limit not found"));
-
+    public void update(SpendingLimitEditDTO dto)
+            throws ResourceNotFoundException, IllegalArgumentException, VersionConflictException {
+        SpendingLimit limit = new SpendingLimit();
         limitMapper.update(dto, limit);
-        spendingLimitRepository.update(limit);
+
+        Long previousUserId = spendingLimitRepository.update(limit)
+                .orElseThrow(() -> spendingLimitRepository.findById(dto.getId()).isPresent()
+                        ? new VersionConflictException("Spending limit was modified concurrently")
+                        : new ResourceNotFoundException("Spending limit not found"))
+                .getUserId();
+        activeSpendingLimitCache.invalidate(previousUserId);
+        activeSpendingLimitCache.invalidate(limit.getUserId());
+        userDataVersions.bump(previousUserId);
+        userDataVersions.bump(limit.getUserId());
     }
 
     /**
@@ -88,9 +127,10 @@ public class SpendingLimitService {
             throw new IllegalArgumentException("Invalid id");
         }
 
-        SpendingLimit limit = spendingLimitRepository.findById(id)
+        Long userId = spendingLimitRepository.deleteById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Spending limit not found"));
 
-        spendingLimitRepository.deleteById(limit.getId());
+        activeSpendingLimitCache.invalidate(userId);
+        userDataVersions.bump(userId);
     }
 }
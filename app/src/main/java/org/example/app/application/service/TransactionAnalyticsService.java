@@ -0,0 +1,113 @@
+package org.example.app.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.app.application.cache.CubeQuery;
+import org.example.app.application.cache.CubeRow;
+import org.example.app.application.cache.TransactionCube;
+import org.example.app.application.cache.TransactionCubeCache;
+import org.example.app.application.dto.statistic.TimeSeriesPointDTO;
+import org.example.app.application.dto.statistic.TransactionAggregateDTO;
+import org.example.app.domain.model.Category;
+import org.example.app.domain.model.DateRange;
+import org.example.app.domain.model.TimeBucket;
+import org.example.app.domain.repository.TransactionRepository;
+import org.example.app.utils.Money;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Сервис произвольных агрегатов и временных рядов по транзакциям пользователя.
+ * Агрегаты считаются по колоночному представлению транзакций из {@link TransactionCubeCache} без обращения к БД.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionAnalyticsService {
+    /**
+     * Максимальное число интервалов во временном ряду.
+     */
+    public static final int MAX_TIME_SERIES_BUCKETS = 1000;
+
+    private final TransactionCubeCache transactionCubeCache;
+    private final TransactionRepository transactionRepository;
+
+    /**
+     * Возвращает агрегат по транзакциям пользователя.
+     *
+     * @param userId идентификатор пользователя
+     * @param query  параметры агрегата
+     * @return строки агрегата в порядке возрастания периода и категории
+     */
+    public List<TransactionAggregateDTO> aggregate(Long userId, CubeQuery query) {
+        return transactionCubeCache.get(userId).aggregate(query).stream()
+                .map(TransactionAnalyticsService::toDto)
+                .toList();
+    }
+
+    /**
+     * Возвращает временной ряд расходов пользователя за период [from, to) с заполнением нулями интервалов
+     * без расходов. Если колоночное представление транзакций пользователя уже загружено, ряд считается
+     * по нему, иначе — одним группирующим запросом к БД.
+     *
+     * @param userId   идентификатор пользователя
+     * @param bucket   шаг временного ряда
+     * @param from     начальная дата периода (включительно)
+     * @param to       конечная дата периода (не включительно)
+     * @param category категория расходов, или null для всех категорий
+     * @return точки ряда в порядке возрастания периода
+     * @throws IllegalArgumentException если период пуст или содержит больше {@value #MAX_TIME_SERIES_BUCKETS}
+     *                                  интервалов
+     */
+    public List<TimeSeriesPointDTO> getConsumptionTimeSeries(Long userId, TimeBucket bucket, LocalDate from,
+                                                             LocalDate to, Category category)
+            throws IllegalArgumentException {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+
+        List<LocalDate> periods = new ArrayList<>();
+        for (LocalDate period = bucket.start(from); period.isBefore(to); period = bucket.next(period)) {
+            if (periods.size() == MAX_TIME_SERIES_BUCKETS) {
+                throw new IllegalArgumentException("Time series exceeds " + MAX_TIME_SERIES_BUCKETS + " buckets");
+            }
+            periods.add(period);
+        }
+
+        Map<LocalDate, Long> consumption = loadConsumption(userId, bucket, from, to, category);
+        return periods.stream()
+                .map(period -> new TimeSeriesPointDTO(period,
+                        Money.toBigDecimal(consumption.getOrDefault(period, 0L))))
+                .toList();
+    }
+
+    private Map<LocalDate, Long> loadConsumption(Long userId, TimeBucket bucket, LocalDate from, LocalDate to,
+                                                 Category category) {
+        Map<LocalDate, Long> consumption = new HashMap<>();
+        TransactionCube cube = transactionCubeCache.getIfPresent(userId);
+        if (cube != null) {
+            CubeQuery query = new CubeQuery(from, to, CubeQuery.Granularity.valueOf(bucket.name()), false,
+                    category == null ? null : Set.of(category), false);
+            for (CubeRow row : cube.aggregate(query)) {
+                consumption.put(row.period(), row.expense());
+            }
+        } else {
+            transactionRepository.getConsumptionTimeSeries(userId, bucket, category, DateRange.of(from, to))
+                    .forEach((period, amount) -> consumption.put(period, Money.toMinor(amount)));
+        }
+        return consumption;
+    }
+
+    private static TransactionAggregateDTO toDto(CubeRow row) {
+        return new TransactionAggregateDTO(row.period(),
+                row.category(),
+                Money.toBigDecimal(row.income()),
+                Money.toBigDecimal(row.expense()),
+                Money.toBigDecimal(Money.subtract(row.income(), row.expense())),
+                row.count());
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.app.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.app.application.event.OutboxPublisher;
+import org.example.app.domain.model.OutboxPosition;
+import org.example.app.domain.model.TransactionChange;
+import org.example.app.domain.repository.TransactionOutboxRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Сервис, периодически вычитывающий outbox изменений транзакций и передающий их {@link OutboxPublisher}.
+ * <p>
+ * Каждый экземпляр приложения читает outbox со своей позиции, поэтому производные данные в памяти
+ * (кэши, счётчики расходов) получают изменения, сделанные через любой экземпляр. Позиция хранится в памяти
+ * и при запуске устанавливается на текущий конец outbox, до обработки первого запроса: состояние, загруженное
+ * из БД после этого, не пропустит ни одного изменения. За один запуск outbox вычитывается пачками до конца.
+ * </p>
+ * Записи хранятся заданное время и удаляются любым из экземпляров; экземпляр, отставший больше
+ * срока хранения, пропустит удалённые изменения.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionOutboxPoller implements SmartInitializingSingleton {
+    private final TransactionOutboxRepository outboxRepository;
+    private final OutboxPublisher outboxPublisher;
+
+    @Value("${app.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.outbox.retention:PT1H}")
+    private Duration retention;
+
+    private volatile OutboxPosition position;
+
+    /**
+     * Запоминает текущий конец outbox как позицию этого экземпляра.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        position = outboxRepository.currentPosition();
+    }
+
+    /**
+     * Публикует все накопленные изменения транзакций.
+     * При ошибке публикации позиция не сдвигается, и пачка будет повторена при следующем запуске.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT1S}")
+    public void poll() {
+        try {
+            List<TransactionChange> changes;
+            do {
+                changes = outboxRepository.findAfter(position, batchSize);
+                if (!changes.isEmpty()) {
+                    outboxPublisher.publish(changes);
+                    TransactionChange last = changes.get(changes.size() - 1);
+                    position = OutboxPosition.of(last);
+                }
+            } while (changes.size() == batchSize);
+        } catch (RuntimeException e) {
+            log.error("Не удалось опубликовать изменения транзакций из outbox", e);
+        }
+    }
+
+    /**
+     * Удаляет из outbox изменения старше срока хранения.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval:PT5M}")
+    public void purge() {
+        try {
+            int deleted = outboxRepository.deleteOlderThan(retention);
+            log.debug("Удалено изменений транзакций из outbox: {}", deleted);
+        } catch (RuntimeException e) {
+            log.error("Не удалось удалить устаревшие изменения транзакций из outbox", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.app.application.service;
+
+import org.example.app.application.dto.transaction.TransactionCreateDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Хеш тела запроса на создание транзакции для проверки повторов с ключом идемпотентности.
+ * <p>
+ * Хеш сохраняется в БД и сравнивается при повторе, который может прийти на другой экземпляр приложения
+ * или после перезапуска, поэтому строится только из значений полей, а не из {@code hashCode()}:
+ * хеш перечисления зависит от экземпляра JVM. Поля записываются с длиной, чтобы разделитель в описании
+ * не давал одинаковую строку для разных запросов. Сумма приводится к виду без незначащих нулей.
+ * </p>
+ */
+public final class TransactionRequestHash {
+
+    private TransactionRequestHash() {
+        // Приватный конструктор для предотвращения создания экземпляров класса
+    }
+
+    /**
+     * Возвращает SHA-256 канонического представления запроса в шестнадцатеричном виде.
+     *
+     * @param dto запрос на создание транзакции
+     * @return хеш запроса из 64 символов
+     */
+    public static String of(TransactionCreateDTO dto) {
+        StringBuilder canonical = new StringBuilder();
+        append(canonical, dto.getUserId());
+        append(canonical, dto.getAmount() != null ? dto.getAmount().stripTrailingZeros().toPlainString() : null);
+        append(canonical, dto.getCategory() != null ? dto.getCategory().name() : null);
+        append(canonical, dto.getDescription());
+        append(canonical, dto.getDate());
+        append(canonical, dto.isIncome());
+        return sha256(canonical.toString());
+    }
+
+    private static void append(StringBuilder canonical, Object value) {
+        if (value == null) {
+            canonical.append("-|");
+            return;
+        }
+        String text = value.toString();
+        canonical.append(text.length()).append(':').append(text).append('|');
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
@@ -1,30 +1,52 @@
 package org.example.app.application.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.app.application.cache.IdempotencyKeyCache;
+import org.example.app.application.cache.StatisticsCache;
+import org.example.app.application.cache.UserDataVersions;
 import org.example.app.application.dto.transaction.TransactionCreateDTO;
 import org.example.app.application.dto.transaction.TransactionDTO;
 import org.example.app.application.dto.transaction.TransactionEditDTO;
 import org.example.app.application.exception.ResourceNotFoundException;
+import org.example.app.application.exception.VersionConflictException;
 import org.example.app.application.mapper.TransactionMapper;
 import org.example.app.domain.model.Category;
+import org.example.app.domain.model.DateRange;
+import org.example.app.domain.model.IdempotencyRecord;
 import org.example.app.domain.model.Transaction;
 import org.example.app.domain.repository.TransactionRepository;
+import org.example.app.utils.BatchLookup;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Сервис для управления транзакциями.
  * Предоставляет методы для работы с транзакциями, такие как создание, обновление, удаление и поиск,
  * а также методы для получения статистики по транзакциям.
+ * Агрегаты по транзакциям читаются через {@link StatisticsCache}: повторные запросы до следующего изменения данных
+ * пользователя не обращаются к БД, а одновременные одинаковые запросы объединяются в одно обращение.
  */
 @Service
 @RequiredArgsConstructor
 public class TransactionService {
+    /**
+     * Максимальная длина ключа идемпотентности.
+     */
+    public static final int MAX_IDEMPOTENCY_KEY_LENGTH = 64;
+
     private final TransactionRepository transactionRepository;
     private final TransactionMapper transactionMapper;
+    private final UserDataVersions userDataVersions;
+    private final StatisticsCache statisticsCache;
+    private final IdempotencyKeyCache idempotencyKeyCache;
+    private final UserErasureService userErasureService;
 
     public TransactionDTO getById(Long id) throws ResourceNotFoundException, IllegalArgumentException {
         if (id == null || id <= 0) {
@@ -36,6 +58,23 @@ public class TransactionService {
         return transactionMapper.map(transaction);
     }
 
+    /**
+     * Возвращает транзакции по списку идентификаторов одним запросом к БД.
+     * Результат упорядочен как запрошенные идентификаторы; повторы и отсутствующие идентификаторы пропускаются.
+     *
+     * @param ids идентификаторы
+     * @return найденные транзакции
+     */
+    public List<TransactionDTO> getAllByIds(List<Long> ids) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        List<Transaction> transactions = BatchLookup.inRequestOrder(uniqueIds,
+                transactionRepository.findAllByIds(uniqueIds), Transaction::getId);
+
+        return transactions.stream()
+                .map(transactionMapper::map)
+                .toList();
+    }
+
     /**
      * Возвращает список всех транзакций для указанного пользователя.
      *
@@ -67,10 +106,52 @@ public class TransactionService {
      * @param dto транзакция для создания
      */
     public Long create(TransactionCreateDTO dto) {
+        userErasureService.requireNotErasing(dto.getUserId());
 
         Transaction transaction = transactionMapper.map(dto);
 
-        return transactionRepository.save(transaction);
+        Long id = transactionRepository.save(transaction);
+        userDataVersions.bump(transaction.getUserId());
+        return id;
+    }
+
+    /**
+     * Создает новую транзакцию с учётом ключа идемпотентности.
+     * <p>
+     * Повтор запроса с тем же ключом возвращает идентификатор транзакции, созданной первым запросом,
+     * без повторной вставки. Ключ сохраняется в одной транзакции БД с созданной транзакцией,
+     * поэтому из одновременных повторов транзакцию создаёт только один.
+     * </p>
+     *
+     * @param dto            транзакция для создания
+     * @param idempotencyKey значение заголовка {@code Idempotency-Key}
+     * @return идентификатор созданной транзакции
+     * @throws IllegalArgumentException если ключ некорректен или уже использован для другого запроса
+     */
+    public Long create(TransactionCreateDTO dto, String idempotencyKey) throws IllegalArgumentException {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException("Invalid idempotency key");
+        }
+
+        userErasureService.requireNotErasing(dto.getUserId());
+        String requestHash = TransactionRequestHash.of(dto);
+        Optional<IdempotencyRecord> existing = idempotencyKeyCache.find(dto.getUserId(), idempotencyKey);
+        if (existing.isPresent()) {
+            return replay(existing.get(), requestHash);
+        }
+
+        Transaction transaction = transactionMapper.map(dto);
+        Optional<Long> id = transactionRepository.saveWithIdempotencyKey(transaction, idempotencyKey, requestHash,
+                idempotencyKeyCache.ttl());
+        if (id.isEmpty()) {
+            IdempotencyRecord stored = idempotencyKeyCache.find(dto.getUserId(), idempotencyKey)
+                    .orElseThrow(() -> new IllegalStateException("Idempotency key is in use"));
+            return replay(stored, requestHash);
+        }
+
+        idempotencyKeyCache.put(new IdempotencyRecord(transaction.getUserId(), idempotencyKey, requestHash, id.get()));
+        userDataVersions.bump(transaction.getUserId());
+        return id.get();
     }
 
     /**
@@ -78,12 +159,16 @@ public class TransactionService {
      *
      * @param dto транзакция с обновленными данными
      */
-    public void update(TransactionEditDTO dto) throws ResourceNotFoundException {
-        Transaction transaction = transactionRepository.findById(dto.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Transaction not found"));
-
+    public void update(TransactionEditDTO dto) throws ResourceNotFoundException, VersionConflictException {
+        Transaction transaction = new Transaction();
         transactionMapper.update(dto, transaction);
-        transactionRepository.update(transaction);
+
+        Transaction previous = transactionRepository.update(transaction)
+                .orElseThrow(() -> transactionRepository.findById(dto.getId()).isPresent()
+                        ? new VersionConflictException("Transaction was modified concurrently")
+                        : new ResourceNotFoundException("Transaction not found"));
+        userDataVersions.bump(previous.getUserId());
+        userDataVersions.bump(transaction.getUserId());
     }
 
     /**
@@ -96,10 +181,10 @@ public class TransactionService {
             throw new IllegalArgumentException("Invalid transaction id");
         }
 
-        Transaction transaction = transactionRepository.findById(id)
+        Transaction transaction = transactionRepository.deleteById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction not found"));
 
-        transactionRepository.deleteById(transaction.getId());
+        userDataVersions.bump(transaction.getUserId());
     }
 
     /**
@@ -109,7 +194,8 @@ public class TransactionService {
      * @return сумма расходов пользователя
      */
     public BigDecimal getConsumptionByUserId(Long userId) {
-        return transactionRepository.getConsumptionByUserId(userId);
+        return statisticsCache.get("consumption", userId,
+                () -> transactionRepository.getConsumptionByUserId(userId));
     }
 
     /**
@@ -119,7 +205,8 @@ public class TransactionService {
      * @return сумма доходов пользователя
      */
     public BigDecimal getIncomeByUserId(Long userId) {
-        return transactionRepository.getIncomeByUserId(userId);
+        return statisticsCache.get("income", userId,
+                () -> transactionRepository.getIncomeByUserId(userId));
     }
 
     /**
@@ -129,7 +216,8 @@ public class TransactionService {
      * @return сумма расходов пользователя за текущий месяц
      */
     public BigDecimal getConsumptionByUserIdByMonth(Long userId) {
-        return transactionRepository.getConsumptionByUserIdByMonth(userId);
+        return statisticsCache.get("consumption-by-month", userId,
+                () -> transactionRepository.getConsumptionByUserIdByMonth(userId), YearMonth.now());
     }
 
     /**
@@ -139,7 +227,8 @@ public class TransactionService {
      * @return текущий баланс пользователя (доходы минус расходы)
      */
     public BigDecimal getBalanceByUserId(Long userId) {
-        return transactionRepository.getBalanceByUserId(userId);
+        return statisticsCache.get("balance", userId,
+                () -> transactionRepository.getBalanceByUserId(userId));
     }
 
     /**
@@ -188,28 +277,34 @@ public class TransactionService {
      * Возвращает сумму расходов для указанного пользователя за указанный период.
      *
      * @param userId идентификатор пользователя
-     * @param startDate начальная дата периода
-     * @param endDate конечная дата периода
+     * @param startDate начальная дата периода (включительно)
+     * @param endDate конечная дата периода (включительно)
      * @return сумма расходов пользователя за указанный период
+     * @throws IllegalArgumentException если конечная дата раньше начальной
      */
     public BigDecimal getConsumptionByUserIdByPeriodDate(Long userId,
                                                          LocalDate startDate,
                                                          LocalDate endDate) {
-        return transactionRepository.getConsumptionByUserIdByPeriodDate(userId, startDate, endDate);
+        DateRange range = DateRange.closed(startDate, endDate);
+        return statisticsCache.get("consumption-by-period", userId,
+                () -> transactionRepository.getConsumptionByUserIdByPeriodDate(userId, range), range);
     }
 
     /**
      * Возвращает сумму доходов для указанного пользователя за указанный период.
      *
      * @param userId идентификатор пользователя
-     * @param startDate начальная дата периода
-     * @param endDate конечная дата периода
+     * @param startDate начальная дата периода (включительно)
+     * @param endDate конечная дата периода (включительно)
      * @return сумма доходов пользователя за указанный период
+     * @throws IllegalArgumentException если конечная дата раньше начальной
      */
     public BigDecimal getIncomeByUserIdByPeriodDate(Long userId,
                                                     LocalDate startDate,
                                                     LocalDate endDate) {
-        return transactionRepository.getIncomeByUserIdByPeriodDate(userId, startDate, endDate);
+        DateRange range = DateRange.closed(startDate, endDate);
+        return statisticsCache.get("income-by-period", userId,
+                () -> transactionRepository.getIncomeByUserIdByPeriodDate(userId, range), range);
     }
 
     /**
@@ -220,6 +315,14 @@ public class TransactionService {
      * @return сумма расходов пользователя по указанной категории
      */
     public BigDecimal getConsumptionByUserIdByCategory(Long userId, Category category) {
-        return transactionRepository.getConsumptionByUserIdByCategory(userId, category);
+        return statisticsCache.get("consumption-by-category", userId,
+                () -> transactionRepository.getConsumptionByUserIdByCategory(userId, category), category);
+    }
+
+    private static Long replay(IdempotencyRecord record, String requestHash) {
+        if (!record.requestHash().equals(requestHash)) {
+            throw new IllegalArgumentException("Idempotency key was already used for a different request");
+        }
+        return record.transactionId();
     }
 }
@@ -0,0 +1,229 @@
+package org.example.app.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.app.application.cache.ActiveSpendingLimitCache;
+import org.example.app.application.cache.UserDataVersions;
+import org.example.app.application.dto.user.UserErasureDTO;
+import org.example.app.application.exception.ResourceNotFoundException;
+import org.example.app.application.exception.UserErasureInProgressException;
+import org.example.app.domain.model.UserErasure;
+import org.example.app.domain.model.UserErasureStatus;
+import org.example.app.domain.repository.GoalRepository;
+import org.example.app.domain.repository.SpendingLimitRepository;
+import org.example.app.domain.repository.TransactionRepository;
+import org.example.app.domain.repository.UserErasureRepository;
+import org.example.app.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.LongConsumer;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Сервис фонового удаления пользователя вместе со всеми его данными.
+ * <p>
+ * Транзакции, цели и лимиты расходов ссылаются на пользователя внешним ключом без каскадного удаления,
+ * поэтому они удаляются заранее пачками ограниченного размера, каждая пачка — отдельным коротким выражением
+ * с паузой между пачками. Так удаление пользователя с большим объёмом данных не держит блокировки строк
+ * долго и не создаёт отставания реплик. Проход по таблицам повторяется, пока в них остаются записи
+ * пользователя; затем остаток и сам пользователь удаляются в одной транзакции БД под блокировкой пользователя.
+ * Удаление транзакций записывается в outbox, поэтому кэши и счётчики расходов всех экземпляров приложения
+ * узнают о нём так же, как об обычном удалении.
+ * </p>
+ * <p>
+ * Задача удаления хранится в БД: ход виден через любой экземпляр, а попытку, брошенную остановленным
+ * экземпляром, можно запустить повторно. Пока удаление выполняется, создание данных пользователя отклоняется.
+ * </p>
+ */
+@Slf4j
+@Service
+public class UserErasureService {
+    private final UserRepository userRepository;
+    private final TransactionRepository transactionRepository;
+    private final GoalRepository goalRepository;
+    private final SpendingLimitRepository spendingLimitRepository;
+    private final UserErasureRepository userErasureRepository;
+    private final ActiveSpendingLimitCache activeSpendingLimitCache;
+    private final UserDataVersions userDataVersions;
+    private final TaskExecutor taskExecutor;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final Duration staleAfter;
+    private final Duration retention;
+
+    public UserErasureService(UserRepository userRepository,
+                              TransactionRepository transactionRepository,
+                              GoalRepository goalRepository,
+                              SpendingLimitRepository spendingLimitRepository,
+                              UserErasureRepository userErasureRepository,
+                              ActiveSpendingLimitCache activeSpendingLimitCache,
+                              UserDataVersions userDataVersions,
+                              @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                              @Value("${app.user-erasure.batch-size:1000}") int batchSize,
+                              @Value("${app.user-erasure.batch-pause:PT0.05S}") Duration batchPause,
+                              @Value("${app.user-erasure.stale-after:PT5M}") Duration staleAfter,
+                              @Value("${app.user-erasure.retention:PT24H}") Duration retention) {
+        this.userRepository = userRepository;
+        this.transactionRepository = transactionRepository;
+        this.goalRepository = goalRepository;
+        this.spendingLimitRepository = spendingLimitRepository;
+        this.userErasureRepository = userErasureRepository;
+        this.activeSpendingLimitCache = activeSpendingLimitCache;
+        this.userDataVersions = userDataVersions;
+        this.taskExecutor = taskExecutor;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.staleAfter = staleAfter;
+        this.retention = retention;
+    }
+
+    /**
+     * Запускает удаление пользователя. Если удаление этого пользователя уже выполняется,
+     * возвращает ход существующей задачи.
+     *
+     * @param userId идентификатор пользователя
+     * @return ход удаления
+     */
+    public UserErasureDTO start(Long userId) throws ResourceNotFoundException {
+        Optional<UserErasure> existing = userErasureRepository.findByUserId(userId);
+        if (existing.isPresent() && existing.get().getStatus().isActive()) {
+            return toDTO(existing.get());
+        }
+        if (userRepository.findById(userId).isEmpty()) {
+            throw new ResourceNotFoundException("User not found");
+        }
+
+        Optional<UserErasure> claimed = userErasureRepository.claim(userId, staleAfter);
+        if (claimed.isEmpty()) {
+            return getProgress(userId)
+                    .orElseThrow(() -> new IllegalStateException("User erasure disappeared while starting"));
+        }
+
+        UserErasure erasure = claimed.get();
+        UserErasureDTO accepted = toDTO(erasure);
+        try {
+            taskExecutor.execute(() -> run(erasure));
+        } catch (RuntimeException e) {
+            fail(erasure, e);
+            return toDTO(erasure);
+        }
+        return accepted;
+    }
+
+    /**
+     * Возвращает ход удаления пользователя.
+     *
+     * @param userId идентификатор пользователя
+     * @return ход удаления, если удаление запускалось и сведения о нём ещё хранятся
+     */
+    public Optional<UserErasureDTO> getProgress(Long userId) {
+        return userErasureRepository.findByUserId(userId).map(this::toDTO);
+    }
+
+    /**
+     * Проверяет, что данные пользователя можно создавать: удаление пользователя не выполняется.
+     *
+     * @param userId идентификатор пользователя
+     * @throws UserErasureInProgressException если пользователь удаляется
+     */
+    public void requireNotErasing(Long userId) throws UserErasureInProgressException {
+        if (userId != null && userErasureRepository.findByUserId(userId)
+                .filter(erasure -> erasure.getStatus().isActive())
+                .isPresent()) {
+            throw new UserErasureInProgressException("User is being deleted");
+        }
+    }
+
+    /**
+     * Удаляет из БД сведения о завершённых удалениях, хранящиеся дольше срока хранения.
+     */
+    @Scheduled(fixedDelayString = "${app.user-erasure.purge-interval:PT1H}")
+    public void purgeFinished() {
+        try {
+            int deleted = userErasureRepository.deleteFinishedOlderThan(retention);
+            log.debug("Удалено сведений о завершённых удалениях пользователей: {}", deleted);
+        } catch (RuntimeException e) {
+            log.error("Не удалось удалить сведения о завершённых удалениях пользователей", e);
+        }
+    }
+
+    private void run(UserErasure erasure) {
+        Long userId = erasure.getUserId();
+        erasure.setStatus(UserErasureStatus.RUNNING);
+        try {
+            save(erasure);
+            long deleted;
+            do {
+                deleted = drain(erasure, transactionRepository::deleteBatchByUserId,
+                        count -> erasure.setTransactionsDeleted(erasure.getTransactionsDeleted() + count))
+                        + drain(erasure, goalRepository::deleteBatchByUserId,
+                        count -> erasure.setGoalsDeleted(erasure.getGoalsDeleted() + count))
+                        + drain(erasure, spendingLimitRepository::deleteBatchByUserId,
+                        count -> erasure.setSpendingLimitsDeleted(erasure.getSpendingLimitsDeleted() + count));
+            } while (deleted > 0);
+
+            if (!userErasureRepository.complete(erasure)) {
+                throw new IllegalStateException("User erasure was taken over by another instance");
+            }
+            log.info("Пользователь {} удалён: транзакций {}, целей {}, лимитов {}", userId,
+                    erasure.getTransactionsDeleted(), erasure.getGoalsDeleted(), erasure.getSpendingLimitsDeleted());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(erasure, e);
+        } catch (RuntimeException e) {
+            fail(erasure, e);
+        } finally {
+            activeSpendingLimitCache.invalidate(userId);
+            userDataVersions.bump(userId);
+        }
+    }
+
+    /**
+     * Удаляет записи пользователя из одной таблицы пачками, пока очередная пачка не окажется неполной,
+     * записывая ход после каждой пачки.
+     *
+     * @return количество удалённых записей
+     */
+    private long drain(UserErasure erasure, ToIntBiFunction<Long, Integer> deleteBatch,
+                       LongConsumer counter) throws InterruptedException {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = deleteBatch.applyAsInt(erasure.getUserId(), batchSize);
+            total += deleted;
+            counter.accept(deleted);
+            save(erasure);
+            if (deleted == batchSize && !batchPause.isZero()) {
+                Thread.sleep(batchPause.toMillis());
+            }
+        } while (deleted == batchSize);
+        return total;
+    }
+
+    private void save(UserErasure erasure) {
+        if (!userErasureRepository.update(erasure)) {
+            throw new IllegalStateException("User erasure was taken over by another instance");
+        }
+    }
+
+    private void fail(UserErasure erasure, Exception e) {
+        erasure.setError(e.getMessage());
+        erasure.setStatus(UserErasureStatus.FAILED);
+        log.error("Не удалось удалить пользователя {}", erasure.getUserId(), e);
+        try {
+            userErasureRepository.update(erasure);
+        } catch (RuntimeException updateError) {
+            log.error("Не удалось записать ошибку удаления пользователя {}", erasure.getUserId(), updateError);
+        }
+    }
+
+    private UserErasureDTO toDTO(UserErasure erasure) {
+        return new UserErasureDTO(erasure.getUserId(), erasure.getStatus(), erasure.getTransactionsDeleted(),
+                erasure.getGoalsDeleted(), erasure.getSpendingLimitsDeleted(), erasure.getError());
+    }
+}
@@ -1,11 +1,14 @@
 package org.example.app.application.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.app.application.cache.UserDataVersions;
 import org.example.app.application.dto.AuthDTO;
 import org.example.app.application.dto.user.UserCreateDTO;
 import org.example.app.application.dto.user.UserDTO;
 import org.example.app.application.dto.user.UserEditDTO;
+import org.example.app.application.dto.user.UserErasureDTO;
 import org.example.app.application.exception.ResourceNotFoundException;
+import org.example.app.application.exception.VersionConflictException;
 import org.example.app.application.mapper.UserMapper;
 import org.example.app.domain.model.User;
 import org.example.app.domain.repository.UserRepository;
@@ -25,6 +28,8 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final UserDataVersions userDataVersions;
+    private final UserErasureService userErasureService;
 
     /**
      * Регистрирует нового пользователя в системе.
@@ -66,28 +71,44 @@ public class UserService {
      *
      * @param dto Данные для обновления пользователя.
      */
-    public void update(UserEditDTO dto) throws ResourceNotFoundException {
-        User user = userRepository.findById(dto.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
+    public void update(UserEditDTO dto) throws ResourceNotFoundException, VersionConflictException {
+        User user = new User();
         userMapper.update(dto, user);
-        userRepository.update(user);
+
+        userRepository.update(user)
+                .orElseThrow(() -> userRepository.findById(dto.getId()).isPresent()
+                        ? new VersionConflictException("User was modified concurrently")
+                        : new ResourceNotFoundException("User not found"));
     }
 
     /**
-     * Удаляет пользователя по его идентификатору.
+     * Запускает фоновое удаление пользователя вместе со всеми его данными.
      *
      * @param id Идентификатор пользователя, которого необходимо удалить.
+     * @return Объект {@link UserErasureDTO}, представляющий ход удаления.
+     * @see UserErasureService
      */
-    public void delete(Long id) throws ResourceNotFoundException, IllegalArgumentException {
+    public UserErasureDTO delete(Long id) throws ResourceNotFoundException, IllegalArgumentException {
         if (id == null || id <= 0) {
             throw new IllegalArgumentException("Invalid id");
         }
 
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return userErasureService.start(id);
+    }
+
+    /**
+     * Возвращает ход удаления пользователя.
+     *
+     * @param id Идентификатор пользователя.
+     * @return Объект {@link UserErasureDTO}, представляющий ход удаления.
+     */
+    public UserErasureDTO getErasure(Long id) throws ResourceNotFoundException, IllegalArgumentException {
+        if (id == null || id <= 0) {
+            throw new IllegalArgumentException("Invalid id");
+        }
 
-        userRepository.deleteById(user.getId());
+        return userErasureService.getProgress(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User erasure not found"));
     }
 
     /**
@@ -0,0 +1,84 @@
+package org.example.app.domain.model;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * Полуоткрытый интервал дат [from, to).
+ * <p>
+ * Все запросы за период строятся на таком интервале: условие {@code date >= from AND date < to}
+ * не зависит от длины месяца, не теряет последний день и позволяет использовать индекс {@code (user_id, date)}.
+ * Интервалы, заданные включительно с обеих сторон, преобразуются через {@link #closed(LocalDate, LocalDate)}.
+ * </p>
+ *
+ * @param from первый день интервала (включительно)
+ * @param to   день, следующий за последним днём интервала (не включительно)
+ */
+public record DateRange(LocalDate from, LocalDate to) {
+
+    public DateRange {
+        Objects.requireNonNull(from, "from");
+        Objects.requireNonNull(to, "to");
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+    }
+
+    /**
+     * Создаёт интервал [from, to).
+     *
+     * @param from первый день (включительно)
+     * @param to   конечный день (не включительно)
+     * @return интервал
+     * @throws IllegalArgumentException если конечный день раньше первого
+     */
+    public static DateRange of(LocalDate from, LocalDate to) {
+        return new DateRange(from, to);
+    }
+
+    /**
+     * Создаёт интервал по первому и последнему дню включительно.
+     *
+     * @param first первый день (включительно)
+     * @param last  последний день (включительно)
+     * @return интервал [first, last + 1 день)
+     * @throws IllegalArgumentException если последний день раньше первого
+     */
+    public static DateRange closed(LocalDate first, LocalDate last) {
+        Objects.requireNonNull(last, "last");
+        if (last.isBefore(first)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        return new DateRange(first, last.plusDays(1));
+    }
+
+    /**
+     * Создаёт интервал, покрывающий календарный месяц.
+     *
+     * @param month месяц
+     * @return интервал [первый день месяца, первый день следующего месяца)
+     */
+    public static DateRange month(YearMonth month) {
+        return new DateRange(month.atDay(1), month.plusMonths(1).atDay(1));
+    }
+
+    /**
+     * Проверяет, входит ли дата в интервал.
+     *
+     * @param date дата
+     * @return true, если from &lt;= date &lt; to
+     */
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(from) && date.isBefore(to);
+    }
+
+    /**
+     * Проверяет, пуст ли интервал.
+     *
+     * @return true, если from равно to
+     */
+    public boolean isEmpty() {
+        return from.equals(to);
+    }
+}
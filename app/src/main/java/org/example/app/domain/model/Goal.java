@@ -35,4 +35,17 @@ public class Goal {
      * Используется тип {@link BigDecimal} для точного представления денежных значений.
      */
     private BigDecimal targetAmount;
+
+    /**
+     * Версия цели. Увеличивается при каждом обновлении и используется для оптимистичной блокировки:
+     * обновление с устаревшей версией не применяется.
+     */
+    private Long version;
+
+    /**
+     * Создаёт цель без версии.
+     */
+    public Goal(Long id, Long userId, String description, BigDecimal targetAmount) {
+        this(id, userId, description, targetAmount, null);
+    }
 }
@@ -0,0 +1,12 @@
+package org.example.app.domain.model;
+
+/**
+ * Сохранённый результат запроса на создание транзакции с ключом идемпотентности.
+ *
+ * @param userId        идентификатор владельца транзакции
+ * @param key           значение заголовка {@code Idempotency-Key}
+ * @param requestHash   SHA-256 канонического представления тела запроса
+ * @param transactionId идентификатор созданной транзакции
+ */
+public record IdempotencyRecord(Long userId, String key, String requestHash, Long transactionId) {
+}
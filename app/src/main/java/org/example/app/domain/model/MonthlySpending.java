@@ -0,0 +1,35 @@
+package org.example.app.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Map;
+
+/**
+ * Класс, представляющий расходы всех пользователей за месяц.
+ * Содержит снимок транзакций БД, в котором были прочитаны суммы, чтобы не учитывать повторно
+ * изменения outbox, уже вошедшие в них.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class MonthlySpending {
+
+    /**
+     * Месяц, за который прочитаны расходы.
+     */
+    private YearMonth month;
+
+    /**
+     * Суммы расходов по идентификатору пользователя.
+     */
+    private Map<Long, BigDecimal> consumption;
+
+    /**
+     * Снимок транзакций БД, в котором прочитаны суммы.
+     */
+    private OutboxSnapshot snapshot;
+}
@@ -0,0 +1,32 @@
+package org.example.app.domain.model;
+
+/**
+ * Позиция в outbox изменений транзакций, до которой изменения уже доставлены.
+ * <p>
+ * Изменения упорядочиваются по идентификатору транзакции БД, которая их записала, и по идентификатору записи.
+ * Выдаются только изменения транзакций БД, завершившихся раньше всех ещё выполняющихся: такое изменение уже
+ * не может появиться позади позиции, поэтому курсор не пропускает записи, зафиксированные не в порядке
+ * идентификаторов.
+ * </p>
+ *
+ * @param txId идентификатор транзакции БД последнего доставленного изменения
+ * @param id   идентификатор записи outbox последнего доставленного изменения
+ */
+public record OutboxPosition(long txId, long id) implements Comparable<OutboxPosition> {
+
+    /**
+     * Возвращает позицию изменения в outbox.
+     *
+     * @param change изменение транзакции
+     * @return позиция изменения
+     */
+    public static OutboxPosition of(TransactionChange change) {
+        return new OutboxPosition(change.getTxId(), change.getId());
+    }
+
+    @Override
+    public int compareTo(OutboxPosition other) {
+        int byTxId = Long.compare(txId, other.txId);
+        return byTxId != 0 ? byTxId : Long.compare(id, other.id);
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.app.domain.model;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Снимок видимости транзакций БД, в котором были прочитаны агрегаты.
+ * <p>
+ * Позволяет определить, учтено ли изменение из outbox в прочитанных агрегатах: изменение видно в снимке,
+ * если записавшая его транзакция БД завершилась до снятия снимка.
+ * </p>
+ *
+ * @param xmin       самая ранняя транзакция БД, выполнявшаяся на момент снимка
+ * @param xmax       первая транзакция БД, ещё не начатая на момент снимка
+ * @param inProgress транзакции БД из интервала [xmin, xmax), выполнявшиеся на момент снимка
+ */
+public record OutboxSnapshot(long xmin, long xmax, Set<Long> inProgress) {
+
+    /**
+     * Разбирает текстовое представление {@code pg_snapshot} вида {@code xmin:xmax:xip,xip,...}.
+     *
+     * @param snapshot текстовое представление снимка
+     * @return снимок
+     * @throws IllegalArgumentException если строка не является снимком
+     */
+    public static OutboxSnapshot parse(String snapshot) {
+        String[] parts = snapshot.split(":", -1);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid snapshot: " + snapshot);
+        }
+
+        Set<Long> inProgress = new HashSet<>();
+        if (!parts[2].isEmpty()) {
+            for (String txId : parts[2].split(",")) {
+                inProgress.add(Long.parseLong(txId));
+            }
+        }
+        return new OutboxSnapshot(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Set.copyOf(inProgress));
+    }
+
+    /**
+     * Проверяет, видно ли в снимке изменение транзакции БД.
+     *
+     * @param txId идентификатор транзакции БД, записавшей изменение
+     * @return true, если транзакция завершилась до снятия снимка
+     */
+    public boolean includes(long txId) {
+        return txId < xmin || (txId < xmax && !inProgress.contains(txId));
+    }
+}
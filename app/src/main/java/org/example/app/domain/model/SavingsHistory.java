@@ -0,0 +1,36 @@
+package org.example.app.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Класс, представляющий агрегированную историю накоплений пользователя.
+ * Содержит текущий баланс, чистые накопления по месяцам за последние месяцы и
+ * идентификаторы ещё не опубликованных изменений outbox, уже учтённых в агрегатах.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class SavingsHistory {
+
+    /**
+     * Баланс пользователя за всю историю (доходы минус расходы).
+     */
+    private BigDecimal balance;
+
+    /**
+     * Чистые накопления (доходы минус расходы) по месяцам, начиная с запрошенного месяца.
+     */
+    private Map<YearMonth, BigDecimal> monthlyNet;
+
+    /**
+     * Идентификаторы записей outbox пользователя, видимых на момент чтения агрегатов.
+     */
+    private Set<Long> pendingChangeIds;
+}
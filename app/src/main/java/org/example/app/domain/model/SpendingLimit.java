@@ -34,4 +34,17 @@ public class SpendingLimit {
      * Флаг, указывающий, активен ли лимит. Если true, лимит учитывается при расчетах, иначе — игнорируется.
      */
     private boolean active;
+
+    /**
+     * Версия лимита расходов. Увеличивается при каждом обновлении и используется для оптимистичной блокировки:
+     * обновление с устаревшей версией не применяется.
+     */
+    private Long version;
+
+    /**
+     * Создаёт лимит расходов без версии.
+     */
+    public SpendingLimit(Long id, Long userId, BigDecimal limit, boolean active) {
+        this(id, userId, limit, active, null);
+    }
 }
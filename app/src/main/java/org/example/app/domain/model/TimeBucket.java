@@ -0,0 +1,56 @@
+package org.example.app.domain.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * Перечисление, представляющее шаг временного ряда.
+ * Границы интервалов совпадают с {@code date_trunc} в PostgreSQL: неделя начинается с понедельника.
+ */
+public enum TimeBucket {
+    /** Интервал в один день. */
+    DAY,
+    /** Интервал в одну неделю, начиная с понедельника. */
+    WEEK,
+    /** Интервал в один календарный месяц. */
+    MONTH;
+
+    /**
+     * Возвращает первый день интервала, содержащего дату.
+     *
+     * @param date дата
+     * @return первый день интервала
+     */
+    public LocalDate start(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * Возвращает первый день следующего интервала.
+     *
+     * @param start первый день интервала
+     * @return первый день следующего интервала
+     */
+    public LocalDate next(LocalDate start) {
+        return switch (this) {
+            case DAY -> start.plusDays(1);
+            case WEEK -> start.plusWeeks(1);
+            case MONTH -> start.plusMonths(1);
+        };
+    }
+
+    /**
+     * Возвращает имя поля для функции {@code date_trunc}.
+     *
+     * @return имя поля в нижнем регистре
+     */
+    public String sqlField() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
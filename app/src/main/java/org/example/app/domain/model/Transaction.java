@@ -54,4 +54,18 @@ public class Transaction {
      * Флаг, указывающий, является ли транзакция доходом (true) или расходом (false).
      */
     private boolean income;
+
+    /**
+     * Версия транзакции. Увеличивается при каждом обновлении и используется для оптимистичной блокировки:
+     * обновление с устаревшей версией не применяется.
+     */
+    private Long version;
+
+    /**
+     * Создаёт транзакцию без версии.
+     */
+    public Transaction(Long id, Long userId, BigDecimal amount, Category category, String description,
+                       LocalDate date, boolean income) {
+        this(id, userId, amount, category, description, date, income, null);
+    }
 }
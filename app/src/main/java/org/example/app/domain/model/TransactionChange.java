@@ -0,0 +1,54 @@
+package org.example.app.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Класс, представляющий изменение транзакции, зафиксированное в outbox.
+ * Содержит состояние транзакции до и после изменения, что позволяет потребителям
+ * пересчитывать производные данные инкрементально, не обращаясь к таблице транзакций.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class TransactionChange {
+
+    /**
+     * Уникальный идентификатор записи в outbox. Определяет порядок изменений.
+     */
+    private Long id;
+
+    /**
+     * Идентификатор транзакции БД, записавшей изменение. Вместе с {@link #id} определяет позицию
+     * изменения в outbox (см. {@link OutboxPosition}).
+     */
+    private Long txId;
+
+    /**
+     * Идентификатор изменённой транзакции.
+     */
+    private Long transactionId;
+
+    /**
+     * Тип изменения.
+     */
+    private TransactionChangeType type;
+
+    /**
+     * Состояние транзакции до изменения, или null для созданной транзакции.
+     */
+    private Transaction before;
+
+    /**
+     * Состояние транзакции после изменения, или null для удалённой транзакции.
+     */
+    private Transaction after;
+
+    /**
+     * Дата и время фиксации изменения.
+     */
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,13 @@
+package org.example.app.domain.model;
+
+/**
+ * Перечисление, представляющее тип изменения транзакции, записанного в outbox.
+ */
+public enum TransactionChangeType {
+    /** Транзакция создана. */
+    CREATED,
+    /** Транзакция изменена. */
+    UPDATED,
+    /** Транзакция удалена. */
+    DELETED
+}
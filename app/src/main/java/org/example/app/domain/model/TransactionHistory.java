@@ -0,0 +1,29 @@
+package org.example.app.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Класс, представляющий полную историю транзакций пользователя без описаний.
+ * Содержит транзакции, упорядоченные по дате и идентификатору, и идентификаторы
+ * ещё не опубликованных изменений outbox, уже отражённых в этом списке.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class TransactionHistory {
+
+    /**
+     * Транзакции пользователя в порядке возрастания даты и идентификатора.
+     */
+    private List<Transaction> transactions;
+
+    /**
+     * Идентификаторы записей outbox пользователя, видимых на момент чтения транзакций.
+     */
+    private Set<Long> pendingChangeIds;
+}
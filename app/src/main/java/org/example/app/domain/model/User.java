@@ -53,6 +53,19 @@ public class User implements UserDetails {
      */
     private boolean banned;
 
+    /**
+     * Версия пользователя. Увеличивается при каждом обновлении и используется для оптимистичной блокировки:
+     * обновление с устаревшей версией не применяется.
+     */
+    private Long version;
+
+    /**
+     * Создаёт пользователя без версии.
+     */
+    public User(Long id, String name, String email, String password, Role role, boolean banned) {
+        this(id, name, email, password, role, banned, null);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority(role.getAuthority()));
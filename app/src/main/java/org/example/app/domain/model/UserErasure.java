@@ -0,0 +1,53 @@
+package org.example.app.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Класс, представляющий задачу удаления пользователя вместе со всеми его данными.
+ * Хранится в БД, поэтому ход удаления виден через любой экземпляр приложения.
+ */
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+public class UserErasure {
+
+    /**
+     * Идентификатор удаляемого пользователя.
+     */
+    private Long userId;
+
+    /**
+     * Состояние задачи.
+     */
+    private UserErasureStatus status;
+
+    /**
+     * Номер попытки. Увеличивается, когда задачу забирает другой экземпляр приложения;
+     * ход удаления записывается только попыткой с актуальным номером.
+     */
+    private int attempt;
+
+    /**
+     * Количество удалённых транзакций пользователя.
+     */
+    private long transactionsDeleted;
+
+    /**
+     * Количество удалённых целей пользователя.
+     */
+    private long goalsDeleted;
+
+    /**
+     * Количество удалённых лимитов расходов пользователя.
+     */
+    private long spendingLimitsDeleted;
+
+    /**
+     * Причина ошибки, если попытка завершилась неудачно.
+     */
+    private String error;
+}
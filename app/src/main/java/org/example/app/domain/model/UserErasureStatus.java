@@ -0,0 +1,35 @@
+package org.example.app.domain.model;
+
+/**
+ * Состояние задачи удаления пользователя.
+ */
+public enum UserErasureStatus {
+    /**
+     * Задача принята и ожидает выполнения.
+     */
+    PENDING,
+
+    /**
+     * Данные пользователя удаляются.
+     */
+    RUNNING,
+
+    /**
+     * Пользователь и все его данные удалены.
+     */
+    COMPLETED,
+
+    /**
+     * Удаление прервано ошибкой; задачу можно запустить повторно.
+     */
+    FAILED;
+
+    /**
+     * Проверяет, выполняется ли удаление.
+     *
+     * @return true для задач, ожидающих выполнения или выполняющихся
+     */
+    public boolean isActive() {
+        return this == PENDING || this == RUNNING;
+    }
+}
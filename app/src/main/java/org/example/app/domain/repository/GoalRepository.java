@@ -2,6 +2,7 @@ package org.example.app.domain.repository;
 
 import org.example.app.domain.model.Goal;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,14 @@ public interface GoalRepository {
      */
     Optional<Goal> findById(Long id);
 
+    /**
+     * Находит цели по списку идентификаторов одним запросом.
+     *
+     * @param ids Идентификаторы.
+     * @return Найденные цели в произвольном порядке; отсутствующие идентификаторы пропускаются.
+     */
+    List<Goal> findAllByIds(Collection<Long> ids);
+
     /**
      * Находит все цели, связанные с определённым пользователем.
      *
@@ -43,16 +52,31 @@ public interface GoalRepository {
     Long save(Goal goal);
 
     /**
-     * Обновляет данные существующей цели.
+     * Обновляет цель одним запросом, если версия цели в БД
+     * совпадает с версией в {@code goal}.
+     * Если версия не указана, обновление выполняется без проверки. При успешном обновлении
+     * в {@code goal} записывается новая версия.
      *
      * @param goal Цель с обновлёнными данными.
+     * @return Состояние цели до обновления
+     * или пустое значение, если цель не найдена или версия изменилась.
      */
-    void update(Goal goal);
+    Optional<Goal> update(Goal goal);
 
     /**
      * Удаляет цель по её идентификатору.
      *
      * @param id Идентификатор цели, которую необходимо удалить.
+     * @return Идентификатор владельца удалённой цели или пустое значение, если цель не найдена.
+     */
+    Optional<Long> deleteById(Long id);
+
+    /**
+     * Удаляет не более {@code batchSize} целей пользователя одним выражением.
+     *
+     * @param userId    Идентификатор пользователя.
+     * @param batchSize Максимальное количество удаляемых целей.
+     * @return Количество удалённых целей.
      */
-    void deleteById(Long id);
+    int deleteBatchByUserId(Long userId, int batchSize);
 }
@@ -0,0 +1,31 @@
+package org.example.app.domain.repository;
+
+import org.example.app.domain.model.IdempotencyRecord;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Интерфейс репозитория ключей идемпотентности запросов на создание транзакций.
+ * Ключи сохраняются {@link TransactionRepository} в одной транзакции БД с созданной транзакцией.
+ */
+public interface IdempotencyKeyRepository {
+
+    /**
+     * Находит ключ пользователя, срок жизни которого ещё не истёк.
+     *
+     * @param userId идентификатор пользователя
+     * @param key    значение ключа
+     * @param ttl    срок жизни ключа
+     * @return сохранённый результат запроса, если ключ найден
+     */
+    Optional<IdempotencyRecord> findLive(Long userId, String key, Duration ttl);
+
+    /**
+     * Удаляет ключи с истёкшим сроком жизни.
+     *
+     * @param ttl срок жизни ключа
+     * @return количество удалённых ключей
+     */
+    int deleteExpired(Duration ttl);
+}
@@ -0,0 +1,129 @@
+package org.example.app.domain.repository;
+
+import org.example.app.domain.model.Category;
+import org.example.app.domain.model.DateRange;
+import org.example.app.domain.model.Transaction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Неблокирующий репозиторий для чтения транзакций.
+ * Повторяет запросы чтения {@link TransactionRepository}, но возвращает {@link Flux}/{@link Mono}
+ * и использует ту же доменную модель {@link Transaction}.
+ * Списки отдаются потоком: строки читаются из БД по мере запроса подписчиком (backpressure).
+ * Суммы, для которых в БД нет строк, возвращаются пустым {@link Mono}.
+ */
+public interface ReactiveTransactionRepository {
+
+    /**
+     * Находит транзакцию по её идентификатору.
+     *
+     * @param id Идентификатор транзакции.
+     * @return {@link Mono} с найденной транзакцией или пустой {@link Mono}, если транзакция не найдена.
+     */
+    Mono<Transaction> findById(Long id);
+
+    /**
+     * Находит все транзакции, связанные с определённым пользователем.
+     *
+     * @param userId Идентификатор пользователя.
+     * @return Поток транзакций пользователя.
+     */
+    Flux<Transaction> findAllByUserId(Long userId);
+
+    /**
+     * Находит все транзакции.
+     *
+     * @return Поток всех транзакций.
+     */
+    Flux<Transaction> findAll();
+
+    /**
+     * Возвращает общую сумму расходов пользователя.
+     *
+     * @param userId Идентификатор пользователя.
+     * @return Сумма расходов пользователя.
+     */
+    Mono<BigDecimal> getConsumptionByUserId(Long userId);
+
+    /**
+     * Возвращает сумму расходов пользователя за указанный период.
+     *
+     * @param userId Идентификатор пользователя.
+     * @param period Период [from, to).
+     * @return Сумма расходов пользователя за указанный период.
+     */
+    Mono<BigDecimal> getConsumptionByUserIdByPeriodDate(Long userId, DateRange period);
+
+    /**
+     * Возвращает сумму доходов пользователя за указанный период.
+     *
+     * @param userId Идентификатор пользователя.
+     * @param period Период [from, to).
+     * @return Сумма доходов пользователя за указанный период.
+     */
+    Mono<BigDecimal> getIncomeByUserIdByPeriodDate(Long userId, DateRange period);
+
+    /**
+     * Возвращает общую сумму доходов пользователя.
+     *
+     * @param userId Идентификатор пользователя.
+     * @return Сумма доходов пользователя.
+     */
+    Mono<BigDecimal> getIncomeByUserId(Long userId);
+
+    /**
+     * Возвращает сумму расходов пользователя за текущий месяц.
+     *
+     * @param userId Идентификатор пользователя.
+     * @return Сумма расходов пользователя за текущий месяц.
+     */
+    Mono<BigDecimal> getConsumptionByUserIdByMonth(Long userId);
+
+    /**
+     * Возвращает баланс пользователя (разницу между доходами и расходами).
+     *
+     * @param userId Идентификатор пользователя.
+     * @return Баланс пользователя.
+     */
+    Mono<BigDecimal> getBalanceByUserId(Long userId);
+
+    /**
+     * Находит все транзакции пользователя по указанной дате.
+     *
+     * @param userId Идентификатор пользователя.
+     * @param date   Дата, по которой выполняется поиск транзакций.
+     * @return Поток транзакций пользователя за указанную дату.
+     */
+    Flux<Transaction> findAllByUserIdByDate(Long userId, LocalDate date);
+
+    /**
+     * Находит все транзакции пользователя по указанной категории.
+     *
+     * @param userId   Идентификатор пользователя.
+     * @param category Категория, по которой выполняется поиск транзакций.
+     * @return Поток транзакций пользователя по указанной категории.
+     */
+    Flux<Transaction> findAllByUserIdByCategory(Long userId, Category category);
+
+    /**
+     * Находит все транзакции пользователя по типу (доход/расход).
+     *
+     * @param userId Идентификатор пользователя.
+     * @param income Флаг, указывающий тип транзакции: true — доход, false — расход.
+     * @return Поток транзакций пользователя по указанному типу.
+     */
+    Flux<Transaction> findAllByUserIdByIncome(Long userId, boolean income);
+
+    /**
+     * Возвращает сумму расходов пользователя по указанной категории.
+     *
+     * @param userId   Идентификатор пользователя.
+     * @param category Категория, по которой выполняется расчёт расходов.
+     * @return Сумма расходов пользователя по указанной категории.
+     */
+    Mono<BigDecimal> getConsumptionByUserIdByCategory(Long userId, Category category);
+}
@@ -2,6 +2,7 @@ package org.example.app.domain.repository;
 
 import org.example.app.domain.model.SpendingLimit;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,14 @@ public interface SpendingLimitRepository {
      */
     Optional<SpendingLimit> findById(Long id);
 
+    /**
+     * Находит лимиты расходов по списку идентификаторов одним запросом.
+     *
+     * @param ids Идентификаторы.
+     * @return Найденные лимиты расходов в произвольном порядке; отсутствующие идентификаторы пропускаются.
+     */
+    List<SpendingLimit> findAllByIds(Collection<Long> ids);
+
     /**
      * Находит все активные лимиты расходов, связанные с определённым пользователем.
      *
@@ -36,16 +45,31 @@ public interface SpendingLimitRepository {
     Long save(SpendingLimit spendingLimit);
 
     /**
-     * Обновляет данные существующего лимита расходов.
+     * Обновляет лимит расходов одним запросом, если версия лимита расходов в БД
+     * совпадает с версией в {@code spendingLimit}.
+     * Если версия не указана, обновление выполняется без проверки. При успешном обновлении
+     * в {@code spendingLimit} записывается новая версия.
      *
      * @param spendingLimit Лимит расходов с обновлёнными данными.
+     * @return Состояние лимита расходов до обновления
+     * или пустое значение, если лимит расходов не найден или версия изменилась.
      */
-    void update(SpendingLimit spendingLimit);
+    Optional<SpendingLimit> update(SpendingLimit spendingLimit);
 
     /**
      * Удаляет лимит расходов по его идентификатору.
      *
      * @param id Идентификатор лимита расходов, который необходимо удалить.
+     * @return Идентификатор владельца удалённого лимита или пустое значение, если лимит не найден.
+     */
+    Optional<Long> deleteById(Long id);
+
+    /**
+     * Удаляет не более {@code batchSize} лимитов расходов пользователя одним выражением.
+     *
+     * @param userId    Идентификатор пользователя.
+     * @param batchSize Максимальное количество удаляемых лимитов.
+     * @return Количество удалённых лимитов.
      */
-    void deleteById(Long id);
+    int deleteBatchByUserId(Long userId, int batchSize);
 }
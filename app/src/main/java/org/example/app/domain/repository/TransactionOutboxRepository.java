@@ -0,0 +1,53 @@
+package org.example.app.domain.repository;
+
+import org.example.app.domain.model.OutboxPosition;
+import org.example.app.domain.model.TransactionChange;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Интерфейс репозитория outbox изменений транзакций.
+ * Записи в outbox создаются {@link TransactionRepository} в одной транзакции БД с изменением транзакции.
+ * <p>
+ * Записи не удаляются при чтении: каждый экземпляр приложения читает outbox со своей позиции
+ * и получает все изменения. Записи удаляются по истечении срока хранения.
+ * </p>
+ */
+public interface TransactionOutboxRepository {
+
+    /**
+     * Возвращает позицию, начиная с которой будут выдаваться изменения, зафиксированные после вызова.
+     *
+     * @return текущая позиция outbox
+     */
+    OutboxPosition currentPosition();
+
+    /**
+     * Возвращает изменения, следующие за позицией, в порядке позиций.
+     * Изменения транзакций БД, которые ещё выполняются или начались позже самой ранней из выполняющихся,
+     * не выдаются, пока та не завершится.
+     *
+     * @param position  позиция последнего доставленного изменения
+     * @param batchSize максимальное число изменений
+     * @return изменения, упорядоченные по позиции
+     */
+    List<TransactionChange> findAfter(OutboxPosition position, int batchSize);
+
+    /**
+     * Закрепляет отправку уведомления по изменению за вызывающим экземпляром приложения.
+     * Все экземпляры обрабатывают одни и те же изменения, и уведомление отправляет только первый из них.
+     *
+     * @param changeId идентификатор записи outbox
+     * @return true, если уведомление по изменению ещё никем не отправлялось
+     */
+    boolean claimNotification(long changeId);
+
+    /**
+     * Удаляет изменения, хранящиеся дольше срока хранения.
+     *
+     * @param retention срок хранения изменений
+     * @return количество удалённых изменений
+     */
+    int deleteOlderThan(Duration retention);
+}
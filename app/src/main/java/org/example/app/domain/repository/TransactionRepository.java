@@ -1,11 +1,20 @@
 package org.example.app.domain.repository;
 
 import org.example.app.domain.model.Category;
+import org.example.app.domain.model.DateRange;
+import org.example.app.domain.model.MonthlySpending;
+import org.example.app.domain.model.SavingsHistory;
+import org.example.app.domain.model.TimeBucket;
 import org.example.app.domain.model.Transaction;
+import org.example.app.domain.model.TransactionHistory;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -23,6 +32,14 @@ public interface TransactionRepository {
      */
     Optional<Transaction> findById(Long id);
 
+    /**
+     * Находит транзакции по списку идентификаторов одним запросом.
+     *
+     * @param ids Идентификаторы.
+     * @return Найденные транзакции в произвольном порядке; отсутствующие идентификаторы пропускаются.
+     */
+    List<Transaction> findAllByIds(Collection<Long> ids);
+
     /**
      * Находит все транзакции, связанные с определённым пользователем.
      *
@@ -47,18 +64,56 @@ public interface TransactionRepository {
     Long save(Transaction transaction);
 
     /**
-     * Обновляет данные существующей транзакции.
+     * Сохраняет новую транзакцию вместе с ключом идемпотентности запроса в одной транзакции БД.
+     * Если у пользователя уже есть действующий ключ с таким значением, транзакция не сохраняется.
+     * Одновременная вставка того же ключа ожидает завершения первой и не приводит к повторной вставке.
+     *
+     * @param transaction    Транзакция для сохранения.
+     * @param idempotencyKey Значение ключа идемпотентности.
+     * @param requestHash    Хеш тела запроса.
+     * @param ttl            Срок жизни ключа; ключ с истёкшим сроком перезаписывается.
+     * @return Идентификатор сохранённой транзакции или пустое значение, если ключ уже занят.
+     */
+    Optional<Long> saveWithIdempotencyKey(Transaction transaction, String idempotencyKey, String requestHash,
+                                          Duration ttl);
+
+    /**
+     * Сохраняет список новых транзакций пакетной вставкой в одной транзакции БД.
+     * Идентификаторы сохранённых транзакций проставляются в переданные объекты.
+     *
+     * @param transactions Транзакции для сохранения.
+     */
+    void saveAll(List<Transaction> transactions);
+
+    /**
+     * Обновляет транзакцию одним запросом, если версия транзакции в БД
+     * совпадает с версией в {@code transaction}.
+     * Если версия не указана, обновление выполняется без проверки. При успешном обновлении
+     * в {@code transaction} записывается новая версия.
      *
      * @param transaction Транзакция с обновлёнными данными.
+     * @return Состояние транзакции до обновления
+     * или пустое значение, если транзакция не найдена или версия изменилась.
      */
-    void update(Transaction transaction);
+    Optional<Transaction> update(Transaction transaction);
 
     /**
      * Удаляет транзакцию по её идентификатору.
      *
      * @param id Идентификатор транзакции, которую необходимо удалить.
+     * @return Состояние удалённой транзакции или пустое значение, если транзакция не найдена.
+     */
+    Optional<Transaction> deleteById(Long id);
+
+    /**
+     * Удаляет не более {@code batchSize} транзакций пользователя одним выражением.
+     * Тем же выражением в outbox записывается изменение {@code DELETED} по каждой удалённой транзакции.
+     *
+     * @param userId    Идентификатор пользователя.
+     * @param batchSize Максимальное количество удаляемых транзакций.
+     * @return Количество удалённых транзакций.
      */
-    void deleteById(Long id);
+    int deleteBatchByUserId(Long userId, int batchSize);
 
     /**
      * Возвращает общую сумму расходов пользователя.
@@ -71,22 +126,20 @@ public interface TransactionRepository {
     /**
      * Возвращает сумму расходов пользователя за указанный период.
      *
-     * @param userId    Идентификатор пользователя.
-     * @param startDate Начальная дата периода.
-     * @param endDate   Конечная дата периода.
+     * @param userId Идентификатор пользователя.
+     * @param period Период [from, to).
      * @return Сумма расходов пользователя за указанный период в виде {@link BigDecimal}.
      */
-    BigDecimal getConsumptionByUserIdByPeriodDate(Long userId, LocalDate startDate, LocalDate endDate);
+    BigDecimal getConsumptionByUserIdByPeriodDate(Long userId, DateRange period);
 
     /**
      * Возвращает сумму доходов пользователя за указанный период.
      *
-     * @param userId    Идентификатор пользователя.
-     * @param startDate Начальная дата периода.
-     * @param endDate   Конечная дата периода.
+     * @param userId Идентификатор пользователя.
+     * @param period Период [from, to).
      * @return Сумма доходов пользователя за указанный период в виде {@link BigDecimal}.
      */
-    BigDecimal getIncomeByUserIdByPeriodDate(Long userId, LocalDate startDate, LocalDate endDate);
+    BigDecimal getIncomeByUserIdByPeriodDate(Long userId, DateRange period);
 
     /**
      * Возвращает общую сумму доходов пользователя.
@@ -104,6 +157,28 @@ public interface TransactionRepository {
      */
     BigDecimal getConsumptionByUserIdByMonth(Long userId);
 
+    /**
+     * Возвращает суммы расходов всех пользователей за месяц вместе со снимком транзакций БД,
+     * в котором они прочитаны. Используется для заполнения счётчиков расходов за текущий месяц.
+     *
+     * @param month Месяц.
+     * @return Расходы пользователей за месяц.
+     */
+    MonthlySpending getMonthlySpending(YearMonth month);
+
+    /**
+     * Возвращает суммы расходов пользователя за период, сгруппированные по интервалам.
+     * Интервалы без расходов в результат не попадают.
+     *
+     * @param userId   Идентификатор пользователя.
+     * @param bucket   Шаг временного ряда.
+     * @param category Категория расходов, или null для всех категорий.
+     * @param period   Период [from, to).
+     * @return Отображение первого дня интервала на сумму расходов за интервал.
+     */
+    Map<LocalDate, BigDecimal> getConsumptionTimeSeries(Long userId, TimeBucket bucket, Category category,
+                                                        DateRange period);
+
     /**
      * Возвращает баланс пользователя (разницу между доходами и расходами).
      *
@@ -147,4 +222,23 @@ public interface TransactionRepository {
      * @return Сумма расходов пользователя по указанной категории в виде {@link BigDecimal}.
      */
     BigDecimal getConsumptionByUserIdByCategory(Long userId, Category category);
+
+    /**
+     * Возвращает агрегированную историю накоплений пользователя одним запросом с группировкой по месяцам.
+     * Агрегаты и список изменений, хранящихся в outbox, читаются из одного снимка БД.
+     *
+     * @param userId     Идентификатор пользователя.
+     * @param windowStart Первый день самого раннего месяца, накопления за который нужны по отдельности.
+     * @return История накоплений пользователя.
+     */
+    SavingsHistory getSavingsHistory(Long userId, LocalDate windowStart);
+
+    /**
+     * Возвращает все транзакции пользователя без описаний в порядке возрастания даты.
+     * Транзакции и список изменений, хранящихся в outbox, читаются из одного снимка БД.
+     *
+     * @param userId Идентификатор пользователя.
+     * @return История транзакций пользователя.
+     */
+    TransactionHistory getTransactionHistory(Long userId);
 }
@@ -0,0 +1,25 @@
+package org.example.app.domain.repository;
+
+import java.util.Collection;
+
+/**
+ * Интерфейс репозитория версий данных пользователей.
+ * Версии хранятся в БД, поэтому изменение, сделанное через любой экземпляр приложения, видно всем экземплярам.
+ */
+public interface UserDataVersionRepository {
+
+    /**
+     * Возвращает версию данных пользователя.
+     *
+     * @param userId идентификатор пользователя
+     * @return версия данных, или 0, если данные пользователя ещё не изменялись
+     */
+    long findVersion(Long userId);
+
+    /**
+     * Увеличивает версии данных пользователей.
+     *
+     * @param userIds идентификаторы пользователей
+     */
+    void increment(Collection<Long> userIds);
+}
@@ -0,0 +1,59 @@
+package org.example.app.domain.repository;
+
+import org.example.app.domain.model.UserErasure;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Интерфейс репозитория задач удаления пользователей.
+ * Задачи хранятся в БД, поэтому запуск и ход удаления видны всем экземплярам приложения.
+ */
+public interface UserErasureRepository {
+
+    /**
+     * Забирает удаление пользователя на выполнение: создаёт задачу или начинает новую попытку,
+     * если предыдущая завершилась или не сообщала о ходе дольше {@code staleAfter}.
+     *
+     * @param userId     идентификатор пользователя
+     * @param staleAfter время без записи хода, после которого выполняющаяся попытка считается брошенной
+     * @return новая попытка, или пустое значение, если удаление уже выполняется
+     */
+    Optional<UserErasure> claim(Long userId, Duration staleAfter);
+
+    /**
+     * Возвращает задачу удаления пользователя.
+     *
+     * @param userId идентификатор пользователя
+     * @return задача удаления, если удаление запускалось и сведения о нём ещё хранятся
+     */
+    Optional<UserErasure> findByUserId(Long userId);
+
+    /**
+     * Записывает состояние и ход попытки удаления.
+     *
+     * @param erasure попытка удаления
+     * @return false, если задачу уже забрала другая попытка
+     */
+    boolean update(UserErasure erasure);
+
+    /**
+     * Завершает удаление в одной транзакции БД: блокирует пользователя, удаляет оставшиеся транзакции
+     * (с записью изменений в outbox), цели и лимиты расходов, затем самого пользователя, и отмечает задачу
+     * выполненной. Блокировка пользователя дожидается вставок, уже проверяющих внешний ключ на него,
+     * поэтому после завершения у пользователя не остаётся данных.
+     * Удалённые записи добавляются к счётчикам {@code erasure}.
+     *
+     * @param erasure попытка удаления
+     * @return false, если задачу уже забрала другая попытка
+     */
+    boolean complete(UserErasure erasure);
+
+    /**
+     * Удаляет завершённые задачи, не изменявшиеся дольше срока хранения.
+     *
+     * @param retention срок хранения
+     * @return количество удалённых задач
+     */
+    int deleteFinishedOlderThan(Duration retention);
+}
@@ -43,16 +43,30 @@ public interface UserRepository {
     Long save(User user);
 
     /**
-     * Обновляет данные существующего пользователя.
+     * Сохраняет список новых пользователей пакетной вставкой в одной транзакции БД.
+     * Идентификаторы сохранённых пользователей проставляются в переданные объекты.
+     *
+     * @param users Пользователи для сохранения.
+     */
+    void saveAll(List<User> users);
+
+    /**
+     * Обновляет пользователя одним запросом, если версия пользователя в БД
+     * совпадает с версией в {@code user}.
+     * Если версия не указана, обновление выполняется без проверки. При успешном обновлении
+     * в {@code user} записывается новая версия.
      *
      * @param user Пользователь с обновлёнными данными.
+     * @return Состояние пользователя до обновления
+     * или пустое значение, если пользователь не найден или версия изменилась.
      */
-    void update(User user);
+    Optional<User> update(User user);
 
     /**
      * Удаляет пользователя по его идентификатору.
      *
      * @param id Идентификатор пользователя, которого необходимо удалить.
+     * @return {@code true}, если пользователь был удалён, {@code false}, если пользователь не найден.
      */
-    void deleteById(Long id);
+    boolean deleteById(Long id);
 }
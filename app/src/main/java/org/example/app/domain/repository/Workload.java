@@ -0,0 +1,26 @@
+package org.example.app.domain.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Относит метод реализации репозитория к классу нагрузки на БД.
+ * Аннотация на классе задаёт класс нагрузки для всех его методов, аннотация на методе его переопределяет.
+ *
+ * @see WorkloadClass
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Workload {
+
+    /**
+     * Класс нагрузки.
+     *
+     * @return класс нагрузки
+     */
+    WorkloadClass value();
+}
@@ -0,0 +1,28 @@
+package org.example.app.domain.repository;
+
+/**
+ * Класс нагрузки на БД, к которому относится метод репозитория.
+ * Для каждого класса ограничивается число одновременных обращений и может выделяться отдельный пул соединений,
+ * чтобы всплеск тяжёлых запросов одного класса не лишал соединений остальные.
+ */
+public enum WorkloadClass {
+    /**
+     * Создание, изменение и удаление записей.
+     */
+    WRITES,
+
+    /**
+     * Чтение отдельных записей и коротких списков.
+     */
+    POINT_READS,
+
+    /**
+     * Агрегаты и полные выборки для статистики.
+     */
+    ANALYTICS,
+
+    /**
+     * Запись журнала аудита.
+     */
+    AUDIT
+}
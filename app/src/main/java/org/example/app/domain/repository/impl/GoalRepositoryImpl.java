@@ -4,12 +4,15 @@ import com.zaxxer.hikari.HikariDataSource;
 import lombok.RequiredArgsConstructor;
 import org.example.app.domain.model.Goal;
 import org.example.app.domain.repository.GoalRepository;
+import org.example.app.domain.repository.Workload;
+import org.example.app.domain.repository.WorkloadClass;
 import org.example.app.utils.queries.GoalSqlQueries;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +23,7 @@ import java.util.Optional;
  */
 @Repository
 @RequiredArgsConstructor
+@Workload(WorkloadClass.POINT_READS)
 public class GoalRepositoryImpl implements GoalRepository {
     private final HikariDataSource dataSource;
 
@@ -47,6 +51,7 @@ public class GoalRepositoryImpl implements GoalRepository {
                 goal.setUserId(userId);
                 goal.setDescription(description);
                 goal.setTargetAmount(targetAmount);
+                goal.setVersion(rs.getLong("version"));
 
                 goals.add(goal);
             }
@@ -83,6 +88,7 @@ public class GoalRepositoryImpl implements GoalRepository {
                 goal.setUserId(userId);
                 goal.setDescription(description);
                 goal.setTargetAmount(targetAmount);
+                goal.setVersion(rs.getLong("version"));
 
                 goals.add(goal);
             }
@@ -109,11 +115,11 @@ public class GoalRepositoryImpl implements GoalRepository {
             ResultSet rs = stmt.executeQuery();
 
             if (rs.next()) {
-                Long goalId = rs.getLong("id");
+                Long userId = rs.getLong("user_id");
                 String description = rs.getString("description");
                 BigDecimal amount = rs.getBigDecimal("target_amount");
 
-                Goal goal = new Goal(id, goalId, description, amount);
+                Goal goal = new Goal(id, userId, description, amount, rs.getLong("version"));
                 return Optional.of(goal);
             }
             rs.close();
@@ -123,6 +129,40 @@ public class GoalRepositoryImpl implements GoalRepository {
         return Optional.empty();
     }
 
+    /**
+     * Возвращает цели по списку идентификаторов одним запросом {@code WHERE id = ANY(?)}.
+     *
+     * @param ids идентификаторы целей
+     * @return найденные цели; отсутствующие идентификаторы пропускаются
+     */
+    @Override
+    public List<Goal> findAllByIds(Collection<Long> ids) {
+        List<Goal> goals = new ArrayList<>();
+        if (ids.isEmpty()) {
+            return goals;
+        }
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(GoalSqlQueries.FIND_ALL_BY_IDS)) {
+            Array array = conn.createArrayOf("bigint", ids.toArray(Long[]::new));
+            stmt.setArray(1, array);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    goals.add(new Goal(rs.getLong("id"),
+                            rs.getLong("user_id"),
+                            rs.getString("description"),
+                            rs.getBigDecimal("target_amount"),
+                            rs.getLong("version")));
+                }
+            }
+            array.free();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return goals;
+    }
+
     /**
      * Сохраняет цель в репозитории.
      *
@@ -130,6 +170,7 @@ public class GoalRepositoryImpl implements GoalRepository {
      * @return идентификатор цели
      */
     @Override
+    @Workload(WorkloadClass.WRITES)
     public Long save(Goal goal) {
         Connection conn = null;
         try {
@@ -178,29 +219,34 @@ public class GoalRepositoryImpl implements GoalRepository {
     }
 
     /**
-     * Обновляет цель в репозитории.
+     * Обновляет цель одним запросом {@code UPDATE ... RETURNING}, если её версия совпадает с версией
+     * в {@code goal}. Если версия не указана, цель обновляется без проверки.
+     * При успешном обновлении в {@code goal} записывается новая версия.
      *
-     * @param goal цель с обновленными данными
+     * @param goal цель с обновлёнными данными
+     * @return состояние цели до обновления или пустое значение, если цель не найдена или её версия изменилась
      */
     @Override
-    public void update(Goal goal) {
-        try (Connection conn = dataSource.getConnection()) {
-            conn.setAutoCommit(false);
-
-            try (PreparedStatement stmt = conn.prepareStatement(GoalSqlQueries.UPDATE)) {
-                stmt.setString(1, goal.getDescription());
-                stmt.setBigDecimal(2, goal.getTargetAmount());
-                stmt.setLong(3, goal.getUserId());
-                stmt.setLong(4, goal.getId());
+    @Workload(WorkloadClass.WRITES)
+    public Optional<Goal> update(Goal goal) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(GoalSqlQueries.UPDATE)) {
+            stmt.setString(1, goal.getDescription());
+            stmt.setBigDecimal(2, goal.getTargetAmount());
+            stmt.setLong(3, goal.getUserId());
+            stmt.setLong(4, goal.getId());
+            stmt.setObject(5, goal.getVersion(), Types.BIGINT);
 
-                if (stmt.executeUpdate() == 0) {
-                    conn.rollback();
-                    throw new RuntimeException("Update failed, no rows affected for goal id: " + goal.getId());
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    return Optional.empty();
                 }
-                conn.commit();
-            } catch (SQLException e) {
-                conn.rollback();
-                throw new RuntimeException("Failed to update goal with id: " + goal.getId(), e);
+                goal.setVersion(rs.getLong("new_version"));
+                return Optional.of(new Goal(rs.getLong("id"),
+                        rs.getLong("user_id"),
+                        rs.getString("description"),
+                        rs.getBigDecimal("target_amount"),
+                        rs.getLong("version")));
             }
         } catch (SQLException e) {
             throw new RuntimeException("Failed to update goal with id: " + goal.getId(), e);
@@ -211,26 +257,42 @@ public class GoalRepositoryImpl implements GoalRepository {
      * Удаляет цель по её идентификатору.
      *
      * @param id идентификатор цели для удаления
+     * @return идентификатор владельца удалённой цели или пустое значение, если цель не найдена
      */
     @Override
-    public void deleteById(Long id) {
-        try (Connection conn = dataSource.getConnection()) {
-            conn.setAutoCommit(false);
-
-            try (PreparedStatement stmt = conn.prepareStatement(GoalSqlQueries.DELETE_BY_ID)) {
-                stmt.setLong(1, id);
+    @Workload(WorkloadClass.WRITES)
+    public Optional<Long> deleteById(Long id) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(GoalSqlQueries.DELETE_BY_ID)) {
+            stmt.setLong(1, id);
 
-                if (stmt.executeUpdate() == 0) {
-                    conn.rollback();
-                    throw new RuntimeException("No goal found with id: " + id);
-                }
-                conn.commit();
-            } catch (SQLException e) {
-                conn.rollback();
-                throw new RuntimeException("Failed to delete goal with id: " + id, e);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? Optional.of(rs.getLong("user_id")) : Optional.empty();
             }
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete goal with id: " + id, e);
         }
     }
+
+    /**
+     * Удаляет не более {@code batchSize} целей пользователя одним выражением.
+     *
+     * @param userId    идентификатор пользователя
+     * @param batchSize максимальное количество удаляемых записей
+     * @return количество удалённых записей
+     */
+    @Override
+    @Workload(WorkloadClass.WRITES)
+    public int deleteBatchByUserId(Long userId, int batchSize) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(GoalSqlQueries.DELETE_BATCH_BY_USER_ID)) {
+            stmt.setLong(1, userId);
+            stmt.setInt(2, batchSize);
+
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException(
+                    String.format("Failed to delete goals of user: %d", userId), e);
+        }
+    }
 }
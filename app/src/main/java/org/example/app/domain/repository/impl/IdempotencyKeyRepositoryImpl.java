@@ -0,0 +1,76 @@
+package org.example.app.domain.repository.impl;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.example.app.domain.model.IdempotencyRecord;
+import org.example.app.domain.repository.IdempotencyKeyRepository;
+import org.example.app.domain.repository.Workload;
+import org.example.app.domain.repository.WorkloadClass;
+import org.example.app.utils.queries.IdempotencyKeySqlQueries;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Репозиторий ключей идемпотентности.
+ * Срок жизни ключей проверяется по часам БД, поэтому не зависит от расхождения часов экземпляров приложения.
+ */
+@Repository
+@RequiredArgsConstructor
+@Workload(WorkloadClass.WRITES)
+public class IdempotencyKeyRepositoryImpl implements IdempotencyKeyRepository {
+    private final HikariDataSource dataSource;
+
+    /**
+     * Находит ключ пользователя, срок жизни которого ещё не истёк.
+     *
+     * @param userId идентификатор пользователя
+     * @param key    значение ключа
+     * @param ttl    срок жизни ключа
+     * @return сохранённый результат запроса, если ключ найден
+     */
+    @Override
+    @Workload(WorkloadClass.POINT_READS)
+    public Optional<IdempotencyRecord> findLive(Long userId, String key, Duration ttl) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(IdempotencyKeySqlQueries.FIND_LIVE)) {
+            stmt.setLong(1, userId);
+            stmt.setString(2, key);
+            stmt.setLong(3, ttl.toSeconds());
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(new IdempotencyRecord(rs.getLong("user_id"),
+                            rs.getString("idempotency_key"),
+                            rs.getString("request_hash"),
+                            rs.getLong("transaction_id")));
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Удаляет ключи с истёкшим сроком жизни.
+     *
+     * @param ttl срок жизни ключа
+     * @return количество удалённых ключей
+     */
+    @Override
+    public int deleteExpired(Duration ttl) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(IdempotencyKeySqlQueries.DELETE_EXPIRED)) {
+            stmt.setLong(1, ttl.toSeconds());
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to delete expired idempotency keys", e);
+        }
+    }
+}
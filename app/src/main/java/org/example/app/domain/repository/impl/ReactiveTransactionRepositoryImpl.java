@@ -0,0 +1,170 @@
+package org.example.app.domain.repository.impl;
+
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.example.app.domain.model.Category;
+import org.example.app.domain.model.DateRange;
+import org.example.app.domain.model.Transaction;
+import org.example.app.domain.repository.ReactiveTransactionRepository;
+import org.example.app.utils.queries.ReactiveTransactionSqlQueries;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Optional;
+
+/**
+ * Неблокирующий репозиторий транзакций на основе R2DBC.
+ * Активен только в профиле "reactive". Списки читаются курсором порциями по {@code app.reactive.fetch-size}
+ * строк, поэтому медленный клиент не заставляет буферизовать в памяти всю выборку.
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveTransactionRepositoryImpl implements ReactiveTransactionRepository {
+    private final DatabaseClient databaseClient;
+
+    @Value("${app.reactive.fetch-size:256}")
+    private int fetchSize;
+
+    @Override
+    public Mono<Transaction> findById(Long id) {
+        return databaseClient.sql(ReactiveTransactionSqlQueries.FIND_BY_ID)
+                .bind("id", id)
+                .map(ReactiveTransactionRepositoryImpl::mapRow)
+                .one();
+    }
+
+    @Override
+    public Flux<Transaction> findAllByUserId(Long userId) {
+        return stream(databaseClient.sql(ReactiveTransactionSqlQueries.FIND_BY_USER_ID)
+                .bind("userId", userId));
+    }
+
+    @Override
+    public Flux<Transaction> findAll() {
+        return stream(databaseClient.sql(ReactiveTransactionSqlQueries.FIND_ALL));
+    }
+
+    @Override
+    public Mono<BigDecimal> getConsumptionByUserId(Long userId) {
+        return sum(databaseClient.sql(ReactiveTransactionSqlQueries.SUM_BY_USER_ID_AND_INCOME)
+                .bind("userId", userId)
+                .bind("income", false));
+    }
+
+    @Override
+    public Mono<BigDecimal> getConsumptionByUserIdByPeriodDate(Long userId, DateRange period) {
+        return sumByPeriod(userId, false, period);
+    }
+
+    @Override
+    public Mono<BigDecimal> getIncomeByUserIdByPeriodDate(Long userId, DateRange period) {
+        return sumByPeriod(userId, true, period);
+    }
+
+    @Override
+    public Mono<BigDecimal> getIncomeByUserId(Long userId) {
+        return sum(databaseClient.sql(ReactiveTransactionSqlQueries.SUM_BY_USER_ID_AND_INCOME)
+                .bind("userId", userId)
+                .bind("income", true));
+    }
+
+    @Override
+    public Mono<BigDecimal> getConsumptionByUserIdByMonth(Long userId) {
+        return sumByPeriod(userId, false, DateRange.month(YearMonth.now()));
+    }
+
+    /**
+     * Возвращает баланс пользователя. Сумма доходов и расходов запрашивается параллельно.
+     * Как и в блокирующей реализации, при отсутствии доходов баланс равен нулю.
+     *
+     * @param userId идентификатор пользователя
+     * @return баланс пользователя (доходы минус расходы)
+     */
+    @Override
+    public Mono<BigDecimal> getBalanceByUserId(Long userId) {
+        Mono<Optional<BigDecimal>> income = getIncomeByUserId(userId)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+        Mono<BigDecimal> consumption = getConsumptionByUserId(userId)
+                .defaultIfEmpty(BigDecimal.ZERO);
+
+        return Mono.zip(income, consumption)
+                .map(tuple -> tuple.getT1()
+                        .map(value -> value.subtract(tuple.getT2()))
+                        .orElse(BigDecimal.ZERO));
+    }
+
+    @Override
+    public Flux<Transaction> findAllByUserIdByDate(Long userId, LocalDate date) {
+        return stream(databaseClient.sql(ReactiveTransactionSqlQueries.FIND_BY_USER_ID_AND_DATE)
+                .bind("userId", userId)
+                .bind("date", date));
+    }
+
+    @Override
+    public Flux<Transaction> findAllByUserIdByCategory(Long userId, Category category) {
+        return stream(databaseClient.sql(ReactiveTransactionSqlQueries.FIND_BY_USER_ID_AND_CATEGORY)
+                .bind("userId", userId)
+                .bind("category", category.name()));
+    }
+
+    @Override
+    public Flux<Transaction> findAllByUserIdByIncome(Long userId, boolean income) {
+        return stream(databaseClient.sql(ReactiveTransactionSqlQueries.FIND_BY_USER_ID_AND_INCOME)
+                .bind("userId", userId)
+                .bind("income", income));
+    }
+
+    @Override
+    public Mono<BigDecimal> getConsumptionByUserIdByCategory(Long userId, Category category) {
+        return sum(databaseClient.sql(ReactiveTransactionSqlQueries.GET_CONSUMPTION_BY_USER_ID_AND_CATEGORY)
+                .bind("userId", userId)
+                .bind("category", category.name()));
+    }
+
+    private Mono<BigDecimal> sumByPeriod(Long userId, boolean income, DateRange period) {
+        return sum(databaseClient.sql(ReactiveTransactionSqlQueries.SUM_BY_USER_ID_AND_INCOME_BY_PERIOD)
+                .bind("userId", userId)
+                .bind("income", income)
+                .bind("startDate", period.from())
+                .bind("endDate", period.to()));
+    }
+
+    /**
+     * Выполняет запрос списка с выборкой курсором, чтобы чтение строк следовало за спросом подписчика.
+     */
+    private Flux<Transaction> stream(DatabaseClient.GenericExecuteSpec spec) {
+        return spec.filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveTransactionRepositoryImpl::mapRow)
+                .all();
+    }
+
+    /**
+     * Выполняет агрегирующий запрос. SUM без строк возвращает NULL, что отображается в пустой {@link Mono}.
+     */
+    private Mono<BigDecimal> sum(DatabaseClient.GenericExecuteSpec spec) {
+        return spec.map(row -> Optional.ofNullable(row.get("result", BigDecimal.class)))
+                .one()
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    private static Transaction mapRow(Row row) {
+        return new Transaction(
+                row.get("id", Long.class),
+                row.get("user_id", Long.class),
+                row.get("amount", BigDecimal.class),
+                Category.valueOf(row.get("category", String.class)),
+                row.get("description", String.class),
+                row.get("date", LocalDate.class),
+                Boolean.TRUE.equals(row.get("is_income", Boolean.class)),
+                row.get("version", Long.class));
+    }
+}
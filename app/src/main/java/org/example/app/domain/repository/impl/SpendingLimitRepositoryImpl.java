@@ -4,12 +4,15 @@ import com.zaxxer.hikari.HikariDataSource;
 import lombok.RequiredArgsConstructor;
 import org.example.app.domain.model.SpendingLimit;
 import org.example.app.domain.repository.SpendingLimitRepository;
+import org.example.app.domain.repository.Workload;
+import org.example.app.domain.repository.WorkloadClass;
 import org.example.app.utils.queries.SpendingLimitSqlQueries;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +22,7 @@ import java.util.Optional;
  */
 @Repository
 @RequiredArgsConstructor
+@Workload(WorkloadClass.POINT_READS)
 public class SpendingLimitRepositoryImpl implements SpendingLimitRepository {
     private final HikariDataSource dataSource;
 
@@ -47,6 +51,7 @@ public class SpendingLimitRepositoryImpl implements SpendingLimitRepository {
                     limit.setUserId(userId);
                     limit.setLimit(amount);
                     limit.setActive(true);
+                    limit.setVersion(rs.getLong("version"));
 
                     limits.add(limit);
                 }
@@ -78,7 +83,7 @@ public class SpendingLimitRepositoryImpl implements SpendingLimitRepository {
                 BigDecimal amount = rs.getBigDecimal("limit_amount");
                 boolean active = rs.getBoolean("is_active");
 
-                SpendingLimit limit = new SpendingLimit(id, userId, amount, active);
+                SpendingLimit limit = new SpendingLimit(id, userId, amount, active, rs.getLong("version"));
                 return Optional.of(limit);
             }
             rs.close();
@@ -88,6 +93,40 @@ public class SpendingLimitRepositoryImpl implements SpendingLimitRepository {
         return Optional.empty();
     }
 
+    /**
+     * Возвращает лимиты расходов по списку идентификаторов одним запросом {@code WHERE id = ANY(?)}.
+     *
+     * @param ids идентификаторы лимитов
+     * @return найденные лимиты; отсутствующие идентификаторы пропускаются
+     */
+    @Override
+    public List<SpendingLimit> findAllByIds(Collection<Long> ids) {
+        List<SpendingLimit> limits = new ArrayList<>();
+        if (ids.isEmpty()) {
+            return limits;
+        }
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SpendingLimitSqlQueries.FIND_ALL_BY_IDS)) {
+            Array array = conn.createArrayOf("bigint", ids.toArray(Long[]::new));
+            stmt.setArray(1, array);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    limits.add(new SpendingLimit(rs.getLong("id"),
+                            rs.getLong("user_id"),
+                            rs.getBigDecimal("limit_amount"),
+                            rs.getBoolean("is_active"),
+                            rs.getLong("version")));
+                }
+            }
+            array.free();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return limits;
+    }
+
     /**
      * Сохраняет лимит расходов в репозитории.
      * Если лимит для указанного пользователя уже существует, он будет заменен.
@@ -95,6 +134,7 @@ public class SpendingLimitRepositoryImpl implements SpendingLimitRepository {
      * @param limit лимит расходов для сохранения
      */
     @Override
+    @Workload(WorkloadClass.WRITES)
     public Long save(SpendingLimit limit) {
         try (Connection conn = dataSource.getConnection()) {
             conn.setAutoCommit(false);
@@ -132,33 +172,34 @@ public class SpendingLimitRepositoryImpl implements SpendingLimitRepository {
     }
 
     /**
-     * Обновляет лимит расходов в репозитории.
-     * Если лимит для указанного пользователя уже существует, он будет заменен.
+     * Обновляет лимит расходов одним запросом {@code UPDATE ... RETURNING}, если его версия совпадает с версией
+     * в {@code limit}. Если версия не указана, лимит обновляется без проверки.
+     * При успешном обновлении в {@code limit} записывается новая версия.
      *
-     * @param limit лимит расходов с обновленными данными
+     * @param limit лимит расходов с обновлёнными данными
+     * @return состояние лимита до обновления или пустое значение, если лимит не найден или его версия изменилась
      */
     @Override
-    public void update(SpendingLimit limit) {
-        try (Connection conn = dataSource.getConnection()) {
-            conn.setAutoCommit(false);
-
-            try (PreparedStatement stmt = conn.prepareStatement(SpendingLimitSqlQueries.UPDATE)) {
-                stmt.setLong(1, limit.getUserId());
-                stmt.setBigDecimal(2, limit.getLimit());
-                stmt.setBoolean(3, limit.isActive());
-                stmt.setLong(4, limit.getId());
+    @Workload(WorkloadClass.WRITES)
+    public Optional<SpendingLimit> update(SpendingLimit limit) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SpendingLimitSqlQueries.UPDATE)) {
+            stmt.setLong(1, limit.getUserId());
+            stmt.setBigDecimal(2, limit.getLimit());
+            stmt.setBoolean(3, limit.isActive());
+            stmt.setLong(4, limit.getId());
+            stmt.setObject(5, limit.getVersion(), Types.BIGINT);
 
-                if (stmt.executeUpdate() == 0) {
-                    conn.rollback();
-                    throw new RuntimeException(
-                            String.format("No spending limit found with id: %d", limit.getId()));
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    return Optional.empty();
                 }
-
-                conn.commit();
-            } catch (SQLException e) {
-                conn.rollback();
-                throw new RuntimeException(
-                        String.format("Failed to update spending limit with id: %d", limit.getId()), e);
+                limit.setVersion(rs.getLong("new_version"));
+                return Optional.of(new SpendingLimit(rs.getLong("id"),
+                        rs.getLong("user_id"),
+                        rs.getBigDecimal("limit_amount"),
+                        rs.getBoolean("is_active"),
+                        rs.getLong("version")));
             }
         } catch (SQLException e) {
             throw new RuntimeException(
@@ -170,30 +211,43 @@ public class SpendingLimitRepositoryImpl implements SpendingLimitRepository {
      * Удаляет лимит расходов по его идентификатору.
      *
      * @param id идентификатор лимита расходов для удаления
+     * @return идентификатор владельца удалённого лимита или пустое значение, если лимит не найден
      */
     @Override
-    public void deleteById(Long id) {
-        try (Connection conn = dataSource.getConnection()) {
-            conn.setAutoCommit(false);
-
-            try (PreparedStatement stmt = conn.prepareStatement(SpendingLimitSqlQueries.DELETE_BY_ID)) {
-                stmt.setLong(1, id);
-
-                if (stmt.executeUpdate() == 0) {
-                    conn.rollback();
-                    throw new RuntimeException(
-                            String.format("No spending limit found with id: %d", id));
-                }
+    @Workload(WorkloadClass.WRITES)
+    public Optional<Long> deleteById(Long id) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SpendingLimitSqlQueries.DELETE_BY_ID)) {
+            stmt.setLong(1, id);
 
-                conn.commit();
-            } catch (SQLException e) {
-                conn.rollback();
-                throw new RuntimeException(
-                        String.format("Failed to delete spending limit with id: %d", id), e);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? Optional.of(rs.getLong("user_id")) : Optional.empty();
             }
         } catch (SQLException e) {
             throw new RuntimeException(
                     String.format("Failed to delete spending limit with id: %d", id), e);
         }
     }
+
+    /**
+     * Удаляет не более {@code batchSize} лимитов расходов пользователя одним выражением.
+     *
+     * @param userId    идентификатор пользователя
+     * @param batchSize максимальное количество удаляемых записей
+     * @return количество удалённых записей
+     */
+    @Override
+    @Workload(WorkloadClass.WRITES)
+    public int deleteBatchByUserId(Long userId, int batchSize) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SpendingLimitSqlQueries.DELETE_BATCH_BY_USER_ID)) {
+            stmt.setLong(1, userId);
+            stmt.setInt(2, batchSize);
+
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException(
+                    String.format("Failed to delete spending limits of user: %d", userId), e);
+        }
+    }
 }
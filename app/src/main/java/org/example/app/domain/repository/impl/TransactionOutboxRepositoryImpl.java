@@ -0,0 +1,139 @@
+package org.example.app.domain.repository.impl;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.example.app.domain.model.Category;
+import org.example.app.domain.model.OutboxPosition;
+import org.example.app.domain.model.Transaction;
+import org.example.app.domain.model.TransactionChange;
+import org.example.app.domain.model.TransactionChangeType;
+import org.example.app.domain.repository.TransactionOutboxRepository;
+import org.example.app.domain.repository.Workload;
+import org.example.app.domain.repository.WorkloadClass;
+import org.example.app.utils.queries.TransactionOutboxSqlQueries;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Репозиторий outbox изменений транзакций.
+ * Выдаёт изменения по позиции каждого читателя; записи удаляются только по сроку хранения.
+ */
+@Repository
+@RequiredArgsConstructor
+@Workload(WorkloadClass.WRITES)
+public class TransactionOutboxRepositoryImpl implements TransactionOutboxRepository {
+    private final HikariDataSource dataSource;
+
+    /**
+     * Возвращает позицию перед изменениями самой ранней из выполняющихся транзакций БД.
+     *
+     * @return текущая позиция outbox
+     */
+    @Override
+    @Workload(WorkloadClass.POINT_READS)
+    public OutboxPosition currentPosition() {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(TransactionOutboxSqlQueries.CURRENT_POSITION);
+             ResultSet rs = stmt.executeQuery()) {
+            rs.next();
+            return new OutboxPosition(Long.parseLong(rs.getString("tx_id")), 0);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to read transaction outbox position", e);
+        }
+    }
+
+    /**
+     * Возвращает очередную пачку изменений после позиции.
+     *
+     * @param position  позиция последнего доставленного изменения
+     * @param batchSize максимальное число изменений
+     * @return изменения, упорядоченные по позиции
+     */
+    @Override
+    @Workload(WorkloadClass.POINT_READS)
+    public List<TransactionChange> findAfter(OutboxPosition position, int batchSize) {
+        List<TransactionChange> changes = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(TransactionOutboxSqlQueries.FIND_AFTER)) {
+            stmt.setString(1, Long.toString(position.txId()));
+            stmt.setLong(2, position.id());
+            stmt.setInt(3, batchSize);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Long transactionId = rs.getLong("transaction_id");
+                    TransactionChange change = new TransactionChange(rs.getLong("id"),
+                            Long.parseLong(rs.getString("tx_id_text")),
+                            transactionId,
+                            TransactionChangeType.valueOf(rs.getString("change_type")),
+                            mapState(rs, "old_", transactionId),
+                            mapState(rs, "new_", transactionId),
+                            rs.getTimestamp("created_at").toLocalDateTime());
+
+                    changes.add(change);
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to read transaction outbox", e);
+        }
+        return changes;
+    }
+
+    /**
+     * Помечает изменение как уведомлённое, если оно ещё не было помечено.
+     *
+     * @param changeId идентификатор записи outbox
+     * @return true, если изменение помечено этим вызовом
+     */
+    @Override
+    public boolean claimNotification(long changeId) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(TransactionOutboxSqlQueries.CLAIM_NOTIFICATION)) {
+            stmt.setLong(1, changeId);
+            return stmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            throw new RuntimeException(
+                    String.format("Failed to claim notification for transaction outbox change: %d", changeId), e);
+        }
+    }
+
+    /**
+     * Удаляет изменения, хранящиеся дольше срока хранения.
+     *
+     * @param retention срок хранения изменений
+     * @return количество удалённых изменений
+     */
+    @Override
+    public int deleteOlderThan(Duration retention) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(TransactionOutboxSqlQueries.DELETE_OLDER_THAN)) {
+            stmt.setLong(1, retention.toSeconds());
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to delete old transaction outbox changes", e);
+        }
+    }
+
+    private Transaction mapState(ResultSet rs, String prefix, Long transactionId) throws SQLException {
+        String category = rs.getString(prefix + "category");
+        if (category == null) {
+            return null;
+        }
+
+        return new Transaction(transactionId,
+                rs.getLong(prefix + "user_id"),
+                rs.getBigDecimal(prefix + "amount"),
+                Category.valueOf(category),
+                null,
+                rs.getDate(prefix + "date").toLocalDate(),
+                rs.getBoolean(prefix + "is_income"));
+    }
+}
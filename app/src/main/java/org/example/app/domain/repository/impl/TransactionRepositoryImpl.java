@@ -3,17 +3,35 @@ package org.example.app.domain.repository.impl;
 import com.zaxxer.hikari.HikariDataSource;
 import lombok.RequiredArgsConstructor;
 import org.example.app.domain.model.Category;
+import org.example.app.domain.model.DateRange;
+import org.example.app.domain.model.MonthlySpending;
+import org.example.app.domain.model.OutboxSnapshot;
+import org.example.app.domain.model.SavingsHistory;
+import org.example.app.domain.model.TimeBucket;
 import org.example.app.domain.model.Transaction;
+import org.example.app.domain.model.TransactionChangeType;
+import org.example.app.domain.model.TransactionHistory;
 import org.example.app.domain.repository.TransactionRepository;
+import org.example.app.domain.repository.Workload;
+import org.example.app.domain.repository.WorkloadClass;
+import org.example.app.utils.queries.IdempotencyKeySqlQueries;
+import org.example.app.utils.queries.TransactionOutboxSqlQueries;
 import org.example.app.utils.queries.TransactionSqlQueries;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.sql.*;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Репозиторий для управления транзакциями.
@@ -22,6 +40,7 @@ import java.util.Optional;
  */
 @Repository
 @RequiredArgsConstructor
+@Workload(WorkloadClass.POINT_READS)
 public class TransactionRepositoryImpl implements TransactionRepository {
     private final HikariDataSource dataSource;
 
@@ -53,7 +72,8 @@ public class TransactionRepositoryImpl implements TransactionRepository {
                         category,
                         description,
                         date,
-                        isIncome);
+                        isIncome,
+                        rs.getLong("version"));
 
                 return Optional.of(transaction);
             }
@@ -64,12 +84,50 @@ public class TransactionRepositoryImpl implements TransactionRepository {
         return Optional.empty();
     }
 
+    /**
+     * Возвращает транзакции по списку идентификаторов одним запросом {@code WHERE id = ANY(?)}.
+     *
+     * @param ids идентификаторы транзакций
+     * @return найденные транзакции; отсутствующие идентификаторы пропускаются
+     */
+    @Override
+    public List<Transaction> findAllByIds(Collection<Long> ids) {
+        List<Transaction> transactions = new ArrayList<>();
+        if (ids.isEmpty()) {
+            return transactions;
+        }
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(TransactionSqlQueries.FIND_ALL_BY_IDS)) {
+            Array array = conn.createArrayOf("bigint", ids.toArray(Long[]::new));
+            stmt.setArray(1, array);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    transactions.add(new Transaction(rs.getLong("id"),
+                            rs.getLong("user_id"),
+                            rs.getBigDecimal("amount"),
+                            Category.valueOf(rs.getString("category")),
+                            rs.getString("description"),
+                            rs.getDate("date").toLocalDate(),
+                            rs.getBoolean("is_income"),
+                            rs.getLong("version")));
+                }
+            }
+            array.free();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return transactions;
+    }
+
     /**
      * Возвращает список всех транзакций.
      *
      * @return список транзакций пользователя
      */
     @Override
+    @Workload(WorkloadClass.ANALYTICS)
     public List<Transaction> findAll() {
         List<Transaction> transactions = new ArrayList<>();
 
@@ -92,7 +150,8 @@ public class TransactionRepositoryImpl implements TransactionRepository {
                         category,
                         description,
                         date,
-                        isIncome);
+                        isIncome,
+                        rs.getLong("version"));
 
                 transactions.add(transaction);
             }
@@ -133,7 +192,8 @@ public class TransactionRepositoryImpl implements TransactionRepository {
                         category,
                         description,
                         date,
-                        isIncome);
+                        isIncome,
+                        rs.getLong("version"));
 
                 transactions.add(transaction);
             }
@@ -151,71 +211,171 @@ public class TransactionRepositoryImpl implements TransactionRepository {
      * @param transaction транзакция для сохранения
      */
     @Override
+    @Workload(WorkloadClass.WRITES)
     public Long save(Transaction transaction) {
         try (Connection conn = dataSource.getConnection()) {
             conn.setAutoCommit(false);
 
-            try (PreparedStatement stmt = conn.prepareStatement(
-                    TransactionSqlQueries.SAVE,
-                    Statement.RETURN_GENERATED_KEYS)) {
+            try {
+                insert(conn, transaction);
+                conn.commit();
+                return transaction.getId();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to save transaction", e);
+        }
+    }
+
+    /**
+     * Сохраняет новую транзакцию вместе с ключом идемпотентности запроса в одной транзакции БД.
+     * <p>
+     * Ключ вставляется после транзакции с {@code ON CONFLICT}: действующий ключ не перезаписывается,
+     * и тогда вся транзакция БД откатывается. Одновременная вставка того же ключа ждёт фиксации или отката
+     * первой по уникальному индексу, поэтому из нескольких одновременных повторов сохраняется только один.
+     * </p>
+     *
+     * @param transaction    транзакция для сохранения
+     * @param idempotencyKey значение ключа идемпотентности
+     * @param requestHash    хеш тела запроса
+     * @param ttl            срок жизни ключа
+     * @return идентификатор сохранённой транзакции или пустое значение, если ключ уже занят
+     */
+    @Override
+    @Workload(WorkloadClass.WRITES)
+    public Optional<Long> saveWithIdempotencyKey(Transaction transaction, String idempotencyKey, String requestHash,
+                                                 Duration ttl) {
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement stmt = conn.prepareStatement(IdempotencyKeySqlQueries.SAVE)) {
+                insert(conn, transaction);
 
                 stmt.setLong(1, transaction.getUserId());
-                stmt.setBigDecimal(2, transaction.getAmount());
-                stmt.setString(3, transaction.getCategory().name());
-                stmt.setString(4, transaction.getDescription());
-                stmt.setTimestamp(5, Timestamp.valueOf(transaction.getDate().atStartOfDay()));
-                stmt.setBoolean(6, transaction.isIncome());
+                stmt.setString(2, idempotencyKey);
+                stmt.setString(3, requestHash);
+                stmt.setLong(4, transaction.getId());
+                stmt.setLong(5, ttl.toSeconds());
 
                 if (stmt.executeUpdate() == 0) {
                     conn.rollback();
-                    throw new RuntimeException("Failed to save transaction - no rows affected");
+                    transaction.setId(null);
+                    return Optional.empty();
                 }
+                conn.commit();
+                return Optional.of(transaction.getId());
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to save transaction", e);
+        }
+    }
+
+    /**
+     * Сохраняет список новых транзакций пакетной вставкой.
+     * Транзакции и соответствующие записи outbox вставляются двумя пакетами в одной транзакции БД.
+     *
+     * @param transactions транзакции для сохранения
+     */
+    @Override
+    @Workload(WorkloadClass.WRITES)
+    public void saveAll(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    TransactionSqlQueries.SAVE,
+                    Statement.RETURN_GENERATED_KEYS);
+                 PreparedStatement outboxStmt = conn.prepareStatement(TransactionOutboxSqlQueries.SAVE)) {
 
+                for (Transaction transaction : transactions) {
+                    stmt.setLong(1, transaction.getUserId());
+                    stmt.setBigDecimal(2, transaction.getAmount());
+                    stmt.setString(3, transaction.getCategory().name());
+                    stmt.setString(4, transaction.getDescription());
+                    stmt.setDate(5, Date.valueOf(transaction.getDate()));
+                    stmt.setBoolean(6, transaction.isIncome());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+
+                int index = 0;
                 try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-                    if (generatedKeys.next()) {
-                        transaction.setId(generatedKeys.getLong(1));
-                        conn.commit();
-                        return transaction.getId();
-                    } else {
-                        conn.rollback();
-                        throw new RuntimeException("DB did not return generated ID");
+                    while (generatedKeys.next() && index < transactions.size()) {
+                        transactions.get(index++).setId(generatedKeys.getLong(1));
                     }
                 }
+                if (index != transactions.size()) {
+                    conn.rollback();
+                    throw new RuntimeException("DB did not return generated IDs for all transactions");
+                }
+
+                for (Transaction transaction : transactions) {
+                    bindChange(outboxStmt, TransactionChangeType.CREATED, transaction.getId(), null, transaction);
+                    outboxStmt.addBatch();
+                }
+                outboxStmt.executeBatch();
+
+                conn.commit();
             } catch (SQLException e) {
                 conn.rollback();
-                throw new RuntimeException("Failed to save transaction", e);
+                throw new RuntimeException("Failed to save transactions", e);
             }
         } catch (SQLException e) {
-            throw new RuntimeException("Failed to save transaction", e);
+            throw new RuntimeException("Failed to save transactions", e);
         }
     }
 
     /**
-     * Обновляет транзакцию в репозитории.
+     * Обновляет транзакцию и записывает изменение в outbox в одной транзакции БД.
+     * <p>
+     * Транзакция обновляется одним запросом {@code UPDATE ... RETURNING}, если её версия совпадает с версией
+     * в {@code transaction}; если версия не указана, транзакция обновляется без проверки.
+     * При успешном обновлении в {@code transaction} записывается новая версия.
+     * </p>
      *
-     * @param transaction транзакция с обновленными данными
+     * @param transaction транзакция с обновлёнными данными
+     * @return состояние транзакции до обновления или пустое значение, если транзакция не найдена
+     * или её версия изменилась
      */
     @Override
-    public void update(Transaction transaction) {
+    @Workload(WorkloadClass.WRITES)
+    public Optional<Transaction> update(Transaction transaction) {
         try (Connection conn = dataSource.getConnection()) {
             conn.setAutoCommit(false);
 
             try (PreparedStatement stmt = conn.prepareStatement(TransactionSqlQueries.UPDATE)) {
                 stmt.setBigDecimal(1, transaction.getAmount());
-                stmt.setTimestamp(2, Timestamp.valueOf(transaction.getDate().atStartOfDay()));
+                stmt.setDate(2, Date.valueOf(transaction.getDate()));
                 stmt.setBoolean(3, transaction.isIncome());
                 stmt.setString(4, transaction.getCategory().name());
                 stmt.setString(5, transaction.getDescription());
                 stmt.setLong(6, transaction.getUserId());
                 stmt.setLong(7, transaction.getId());
+                stmt.setObject(8, transaction.getVersion(), Types.BIGINT);
 
-                if (stmt.executeUpdate() == 0) {
-                    conn.rollback();
-                    throw new RuntimeException(
-                            String.format("No transaction found with id: %d", transaction.getId()));
+                Transaction previous;
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (!rs.next()) {
+                        conn.rollback();
+                        return Optional.empty();
+                    }
+
+                    previous = mapChangedRow(rs, transaction.getId());
+                    transaction.setVersion(rs.getLong("new_version"));
+                    saveChange(conn, TransactionChangeType.UPDATED, transaction.getId(), previous, transaction);
                 }
 
                 conn.commit();
+                return Optional.of(previous);
             } catch (SQLException e) {
                 conn.rollback();
                 throw new RuntimeException(
@@ -231,22 +391,30 @@ public class TransactionRepositoryImpl implements TransactionRepository {
      * Удаляет транзакцию по её идентификатору.
      *
      * @param id идентификатор транзакции для удаления
+     * @return состояние удалённой транзакции или пустое значение, если транзакция не найдена
      */
     @Override
-    public void deleteById(Long id) {
+    @Workload(WorkloadClass.WRITES)
+    public Optional<Transaction> deleteById(Long id) {
         try (Connection conn = dataSource.getConnection()) {
             conn.setAutoCommit(false);
 
             try (PreparedStatement stmt = conn.prepareStatement(TransactionSqlQueries.DELETE_BY_ID)) {
                 stmt.setLong(1, id);
 
-                if (stmt.executeUpdate() == 0) {
-                    conn.rollback();
-                    throw new RuntimeException(
-                            String.format("No transaction found with id: %d", id));
+                Transaction previous;
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (!rs.next()) {
+                        conn.rollback();
+                        return Optional.empty();
+                    }
+
+                    previous = mapChangedRow(rs, id);
+                    saveChange(conn, TransactionChangeType.DELETED, id, previous, null);
                 }
 
                 conn.commit();
+                return Optional.of(previous);
             } catch (SQLException e) {
                 conn.rollback();
                 throw new RuntimeException(
@@ -258,6 +426,29 @@ public class TransactionRepositoryImpl implements TransactionRepository {
         }
     }
 
+    /**
+     * Удаляет не более {@code batchSize} транзакций пользователя одним выражением
+     * вместе с записью изменений в outbox.
+     *
+     * @param userId    идентификатор пользователя
+     * @param batchSize максимальное количество удаляемых записей
+     * @return количество удалённых записей
+     */
+    @Override
+    @Workload(WorkloadClass.WRITES)
+    public int deleteBatchByUserId(Long userId, int batchSize) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(TransactionSqlQueries.DELETE_BATCH_BY_USER_ID)) {
+            stmt.setLong(1, userId);
+            stmt.setInt(2, batchSize);
+
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException(
+                    String.format("Failed to delete transactions of user: %d", userId), e);
+        }
+    }
+
     /**
      * Возвращает сумму расходов для указанного пользователя.
      *
@@ -265,6 +456,7 @@ public class TransactionRepositoryImpl implements TransactionRepository {
      * @return сумма расходов пользователя
      */
     @Override
+    @Workload(WorkloadClass.ANALYTICS)
     public BigDecimal getConsumptionByUserId(Long userId) {
         try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(TransactionSqlQueries.GET_CONSUMPTION_BY_USER_ID)) {
@@ -286,19 +478,19 @@ public class TransactionRepositoryImpl implements TransactionRepository {
      * Возвращает сумму расходов для указанного пользователя за указанный период.
      *
      * @param userId идентификатор пользователя
-     * @param startDate начальная дата периода
-     * @param endDate конечная дата периода
+     * @param period период [from, to)
      * @return сумма расходов пользователя за указанный период
      */
     @Override
-    public BigDecimal getConsumptionByUserIdByPeriodDate(Long userId, LocalDate startDate, LocalDate endDate) {
+    @Workload(WorkloadClass.ANALYTICS)
+    public BigDecimal getConsumptionByUserIdByPeriodDate(Long userId, DateRange period) {
         try (Connection conn  = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(
                      TransactionSqlQueries.GET_CONSUMPTION_BY_USER_ID_BY_PERIOD)) {
             stmt.setLong(1, userId);
             stmt.setBoolean(2, false);
-            stmt.setTimestamp(3, Timestamp.valueOf(startDate.atStartOfDay()));
-            stmt.setTimestamp(4, Timestamp.valueOf(endDate.atStartOfDay()));
+            stmt.setDate(3, Date.valueOf(period.from()));
+            stmt.setDate(4, Date.valueOf(period.to()));
 
             ResultSet rs = stmt.executeQuery();
             if (rs.next()) {
@@ -315,19 +507,19 @@ public class TransactionRepositoryImpl implements TransactionRepository {
      * Возвращает сумму доходов для указанного пользователя за указанный период.
      *
      * @param userId идентификатор пользователя
-     * @param startDate начальная дата периода
-     * @param endDate конечная дата периода
+     * @param period период [from, to)
      * @return сумма доходов пользователя за указанный период
      */
     @Override
-    public BigDecimal getIncomeByUserIdByPeriodDate(Long userId, LocalDate startDate, LocalDate endDate) {
+    @Workload(WorkloadClass.ANALYTICS)
+    public BigDecimal getIncomeByUserIdByPeriodDate(Long userId, DateRange period) {
         try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(
                      TransactionSqlQueries.GET_INCOME_BY_USER_ID_BY_PERIOD)) {
             stmt.setLong(1, userId);
             stmt.setBoolean(2, true);
-            stmt.setTimestamp(3, Timestamp.valueOf(startDate.atStartOfDay()));
-            stmt.setTimestamp(4, Timestamp.valueOf(endDate.atStartOfDay()));
+            stmt.setDate(3, Date.valueOf(period.from()));
+            stmt.setDate(4, Date.valueOf(period.to()));
 
             ResultSet rs = stmt.executeQuery();
             if (rs.next()) {
@@ -347,6 +539,7 @@ public class TransactionRepositoryImpl implements TransactionRepository {
      * @return сумма доходов пользователя
      */
     @Override
+    @Workload(WorkloadClass.ANALYTICS)
     public BigDecimal getIncomeByUserId(Long userId) {
         try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(
@@ -372,19 +565,17 @@ public class TransactionRepositoryImpl implements TransactionRepository {
      * @return сумма расходов пользователя за текущий месяц
      */
     @Override
+    @Workload(WorkloadClass.ANALYTICS)
     public BigDecimal getConsumptionByUserIdByMonth(Long userId) {
-        int month = LocalDate.now().getMonthValue();
-        int year = LocalDate.now().getYear();
-        LocalDate startDate = LocalDate.of(year, month, 1);
-        LocalDate endDate = LocalDate.of(year, month, 31);
+        DateRange period = DateRange.month(YearMonth.now());
 
         try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareCall(
+             PreparedStatement stmt = conn.prepareStatement(
                      TransactionSqlQueries.GET_CONSUMPTION_BY_USER_ID_BY_MONTH)) {
             stmt.setLong(1, userId);
             stmt.setBoolean(2, false);
-            stmt.setTimestamp(3, Timestamp.valueOf(startDate.atStartOfDay()));
-            stmt.setTimestamp(4, Timestamp.valueOf(endDate.atStartOfDay()));
+            stmt.setDate(3, Date.valueOf(period.from()));
+            stmt.setDate(4, Date.valueOf(period.to()));
 
             ResultSet rs = stmt.executeQuery();
             if (rs.next()) {
@@ -397,22 +588,122 @@ public class TransactionRepositoryImpl implements TransactionRepository {
         return BigDecimal.ZERO;
     }
 
+    /**
+     * Возвращает суммы расходов всех пользователей за месяц.
+     * Суммы и снимок читаются в одной транзакции с уровнем изоляции REPEATABLE READ,
+     * поэтому снимок точно определяет, какие изменения outbox уже учтены в суммах.
+     *
+     * @param month месяц
+     * @return расходы пользователей за месяц
+     */
+    @Override
+    @Workload(WorkloadClass.ANALYTICS)
+    public MonthlySpending getMonthlySpending(YearMonth month) {
+        DateRange period = DateRange.month(month);
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            conn.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            conn.setReadOnly(true);
+
+            try {
+                Map<Long, BigDecimal> consumption = new HashMap<>();
+                OutboxSnapshot snapshot;
+
+                try (PreparedStatement stmt = conn.prepareStatement(TransactionOutboxSqlQueries.CURRENT_SNAPSHOT);
+                     ResultSet rs = stmt.executeQuery()) {
+                    rs.next();
+                    snapshot = OutboxSnapshot.parse(rs.getString("snapshot"));
+                }
+
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        TransactionSqlQueries.GET_CONSUMPTION_GROUPED_BY_USER_ID_BY_PERIOD)) {
+                    stmt.setBoolean(1, false);
+                    stmt.setDate(2, Date.valueOf(period.from()));
+                    stmt.setDate(3, Date.valueOf(period.to()));
+
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            consumption.put(rs.getLong("user_id"), rs.getBigDecimal("result"));
+                        }
+                    }
+                }
+
+                conn.commit();
+                return new MonthlySpending(month, consumption, snapshot);
+            } catch (SQLException e) {
+                conn.rollback();
+                throw new RuntimeException(String.format("Failed to read spending for month: %s", month), e);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(String.format("Failed to read spending for month: %s", month), e);
+        }
+    }
+
+    /**
+     * Возвращает суммы расходов пользователя за период, сгруппированные по интервалам.
+     *
+     * @param userId идентификатор пользователя
+     * @param bucket шаг временного ряда
+     * @param category категория расходов, или null для всех категорий
+     * @param period период [from, to)
+     * @return суммы расходов по первому дню интервала
+     */
+    @Override
+    @Workload(WorkloadClass.ANALYTICS)
+    public Map<LocalDate, BigDecimal> getConsumptionTimeSeries(Long userId, TimeBucket bucket, Category category,
+                                                               DateRange period) {
+        Map<LocalDate, BigDecimal> consumption = new HashMap<>();
+        String sql = category == null
+                ? TransactionSqlQueries.GET_CONSUMPTION_TIME_SERIES_BY_USER_ID
+                : TransactionSqlQueries.GET_CONSUMPTION_TIME_SERIES_BY_USER_ID_AND_CATEGORY;
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            stmt.setString(index++, bucket.sqlField());
+            stmt.setLong(index++, userId);
+            stmt.setBoolean(index++, false);
+            if (category != null) {
+                stmt.setString(index++, category.name());
+            }
+            stmt.setDate(index++, Date.valueOf(period.from()));
+            stmt.setDate(index, Date.valueOf(period.to()));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    consumption.put(rs.getDate("bucket").toLocalDate(),
+                            rs.getBigDecimal("result"));
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return consumption;
+    }
+
     /**
      * Возвращает текущий баланс для указанного пользователя.
+     * Доходы и расходы суммируются одним запросом; если доходов нет, баланс равен нулю.
      *
      * @param userId идентификатор пользователя
      * @return текущий баланс пользователя (доходы минус расходы)
      */
     @Override
+    @Workload(WorkloadClass.ANALYTICS)
     public BigDecimal getBalanceByUserId(Long userId) {
-        BigDecimal income = getIncomeByUserId(userId);
-        BigDecimal consumption = getConsumptionByUserId(userId);
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     TransactionSqlQueries.GET_BALANCE_BY_USER_ID)) {
+            stmt.setLong(1, userId);
 
-        if (income == null) {
-            return BigDecimal.ZERO;
-        } else {
-            return income.subtract(consumption);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next() && rs.getBigDecimal("result") != null) {
+                    return rs.getBigDecimal("result");
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
         }
+        return BigDecimal.ZERO;
     }
 
     /**
@@ -429,7 +720,7 @@ public class TransactionRepositoryImpl implements TransactionRepository {
              PreparedStatement stmt = conn.prepareStatement(
                      TransactionSqlQueries.FIND_BY_USER_ID_AND_DATE)) {
             stmt.setLong(1, userId);
-            stmt.setTimestamp(2, Timestamp.valueOf(date.atStartOfDay()));
+            stmt.setDate(2, Date.valueOf(date));
 
             ResultSet rs = stmt.executeQuery();
             while (rs.next()) {
@@ -445,7 +736,8 @@ public class TransactionRepositoryImpl implements TransactionRepository {
                         category,
                         description,
                         date,
-                        isIncome);
+                        isIncome,
+                        rs.getLong("version"));
 
                 transactions.add(transaction);
             }
@@ -476,7 +768,7 @@ public class TransactionRepositoryImpl implements TransactionRepository {
                 Long id = rs.getLong("id");
                 BigDecimal amount = rs.getBigDecimal("amount");
                 String description = rs.getString("description");
-                LocalDate date = rs.getTimestamp("date").toLocalDateTime().toLocalDate();
+                LocalDate date = rs.getDate("date").toLocalDate();
                 boolean isIncome = rs.getBoolean("is_income");
 
                 Transaction transaction = new Transaction(id,
@@ -485,7 +777,8 @@ public class TransactionRepositoryImpl implements TransactionRepository {
                         category,
                         description,
                         date,
-                        isIncome);
+                        isIncome,
+                        rs.getLong("version"));
 
                 transactions.add(transaction);
             }
@@ -518,7 +811,7 @@ public class TransactionRepositoryImpl implements TransactionRepository {
                 BigDecimal amount = rs.getBigDecimal("amount");
                 Category category = Category.valueOf(rs.getString("category"));
                 String description = rs.getString("description");
-                LocalDate date = rs.getTimestamp("date").toLocalDateTime().toLocalDate();
+                LocalDate date = rs.getDate("date").toLocalDate();
 
                 Transaction transaction = new Transaction(id,
                         userId,
@@ -526,7 +819,8 @@ public class TransactionRepositoryImpl implements TransactionRepository {
                         category,
                         description,
                         date,
-                        isIncome);
+                        isIncome,
+                        rs.getLong("version"));
 
                 transactions.add(transaction);
             }
@@ -545,6 +839,7 @@ public class TransactionRepositoryImpl implements TransactionRepository {
      * @return сумма расходов пользователя по указанной категории
      */
     @Override
+    @Workload(WorkloadClass.ANALYTICS)
     public BigDecimal getConsumptionByUserIdByCategory(Long userId, Category category) {
         try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(
@@ -561,4 +856,220 @@ public class TransactionRepositoryImpl implements TransactionRepository {
         }
         return BigDecimal.ZERO;
     }
+
+    /**
+     * Возвращает агрегированную историю накоплений пользователя.
+     * Оба запроса выполняются в одной транзакции с уровнем изоляции REPEATABLE READ,
+     * поэтому список изменений, хранящихся в outbox, соответствует прочитанным агрегатам.
+     *
+     * @param userId      идентификатор пользователя
+     * @param windowStart первый день самого раннего месяца, накопления за который нужны по отдельности
+     * @return история накоплений пользователя
+     */
+    @Override
+    @Workload(WorkloadClass.ANALYTICS)
+    public SavingsHistory getSavingsHistory(Long userId, LocalDate windowStart) {
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            conn.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            conn.setReadOnly(true);
+
+            try {
+                BigDecimal balance = BigDecimal.ZERO;
+                Map<YearMonth, BigDecimal> monthlyNet = new HashMap<>();
+                Set<Long> pendingChangeIds = new HashSet<>();
+
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        TransactionSqlQueries.GET_NET_SAVINGS_BY_USER_ID_GROUPED_BY_MONTH)) {
+                    stmt.setDate(1, Date.valueOf(windowStart));
+                    stmt.setLong(2, userId);
+
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            BigDecimal net = rs.getBigDecimal("result");
+                            Date month = rs.getDate("month");
+                            balance = balance.add(net);
+                            if (month != null) {
+                                monthlyNet.put(YearMonth.from(month.toLocalDate()), net);
+                            }
+                        }
+                    }
+                }
+
+                try (PreparedStatement stmt = conn.prepareStatement(TransactionOutboxSqlQueries.FIND_IDS_BY_USER_ID)) {
+                    stmt.setLong(1, userId);
+                    stmt.setLong(2, userId);
+
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            pendingChangeIds.add(rs.getLong("id"));
+                        }
+                    }
+                }
+
+                conn.commit();
+                return new SavingsHistory(balance, monthlyNet, pendingChangeIds);
+            } catch (SQLException e) {
+                conn.rollback();
+                throw new RuntimeException(
+                        String.format("Failed to read savings history for user: %d", userId), e);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(
+                    String.format("Failed to read savings history for user: %d", userId), e);
+        }
+    }
+
+    /**
+     * Возвращает все транзакции пользователя без описаний в порядке возрастания даты.
+     * Чтение выполняется в транзакции REPEATABLE READ, поэтому список изменений, хранящихся в outbox,
+     * соответствует прочитанным транзакциям.
+     *
+     * @param userId идентификатор пользователя
+     * @return история транзакций пользователя
+     */
+    @Override
+    @Workload(WorkloadClass.ANALYTICS)
+    public TransactionHistory getTransactionHistory(Long userId) {
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            conn.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            conn.setReadOnly(true);
+
+            try {
+                List<Transaction> transactions = new ArrayList<>();
+                Set<Long> pendingChangeIds = new HashSet<>();
+
+                try (PreparedStatement stmt = conn.prepareStatement(TransactionSqlQueries.FIND_HISTORY_BY_USER_ID)) {
+                    stmt.setLong(1, userId);
+                    stmt.setFetchSize(1000);
+
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            transactions.add(new Transaction(rs.getLong("id"),
+                                    userId,
+                                    rs.getBigDecimal("amount"),
+                                    Category.valueOf(rs.getString("category")),
+                                    null,
+                                    rs.getDate("date").toLocalDate(),
+                                    rs.getBoolean("is_income")));
+                        }
+                    }
+                }
+
+                try (PreparedStatement stmt = conn.prepareStatement(TransactionOutboxSqlQueries.FIND_IDS_BY_USER_ID)) {
+                    stmt.setLong(1, userId);
+                    stmt.setLong(2, userId);
+
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            pendingChangeIds.add(rs.getLong("id"));
+                        }
+                    }
+                }
+
+                conn.commit();
+                return new TransactionHistory(transactions, pendingChangeIds);
+            } catch (SQLException e) {
+                conn.rollback();
+                throw new RuntimeException(
+                        String.format("Failed to read transaction history for user: %d", userId), e);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(
+                    String.format("Failed to read transaction history for user: %d", userId), e);
+        }
+    }
+
+    /**
+     * Вставляет транзакцию и запись о её создании в outbox в рамках текущей транзакции БД.
+     * Сгенерированный идентификатор записывается в переданную транзакцию.
+     *
+     * @param conn        соединение с открытой транзакцией
+     * @param transaction сохраняемая транзакция
+     */
+    private void insert(Connection conn, Transaction transaction) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(
+                TransactionSqlQueries.SAVE,
+                Statement.RETURN_GENERATED_KEYS)) {
+
+            stmt.setLong(1, transaction.getUserId());
+            stmt.setBigDecimal(2, transaction.getAmount());
+            stmt.setString(3, transaction.getCategory().name());
+            stmt.setString(4, transaction.getDescription());
+            stmt.setDate(5, Date.valueOf(transaction.getDate()));
+            stmt.setBoolean(6, transaction.isIncome());
+
+            if (stmt.executeUpdate() == 0) {
+                throw new RuntimeException("Failed to save transaction - no rows affected");
+            }
+
+            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                if (!generatedKeys.next()) {
+                    throw new RuntimeException("DB did not return generated ID");
+                }
+                transaction.setId(generatedKeys.getLong(1));
+            }
+        }
+        saveChange(conn, TransactionChangeType.CREATED, transaction.getId(), null, transaction);
+    }
+
+    /**
+     * Записывает изменение транзакции в outbox в рамках текущей транзакции БД.
+     * Изменение фиксируется или откатывается вместе с самой записью транзакции.
+     *
+     * @param conn          соединение с открытой транзакцией
+     * @param type          тип изменения
+     * @param transactionId идентификатор изменённой транзакции
+     * @param before        состояние до изменения, или null
+     * @param after         состояние после изменения, или null
+     */
+    private void saveChange(Connection conn,
+                            TransactionChangeType type,
+                            Long transactionId,
+                            Transaction before,
+                            Transaction after) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(TransactionOutboxSqlQueries.SAVE)) {
+            bindChange(stmt, type, transactionId, before, after);
+            stmt.executeUpdate();
+        }
+    }
+
+    private void bindChange(PreparedStatement stmt,
+                            TransactionChangeType type,
+                            Long transactionId,
+                            Transaction before,
+                            Transaction after) throws SQLException {
+        stmt.setLong(1, transactionId);
+        stmt.setString(2, type.name());
+        setChangeState(stmt, 3, before);
+        setChangeState(stmt, 8, after);
+    }
+
+    private void setChangeState(PreparedStatement stmt, int index, Transaction transaction) throws SQLException {
+        if (transaction == null) {
+            stmt.setNull(index, Types.INTEGER);
+            stmt.setNull(index + 1, Types.DECIMAL);
+            stmt.setNull(index + 2, Types.VARCHAR);
+            stmt.setNull(index + 3, Types.DATE);
+            stmt.setNull(index + 4, Types.BOOLEAN);
+            return;
+        }
+
+        stmt.setLong(index, transaction.getUserId());
+        stmt.setBigDecimal(index + 1, transaction.getAmount());
+        stmt.setString(index + 2, transaction.getCategory().name());
+        stmt.setDate(index + 3, Date.valueOf(transaction.getDate()));
+        stmt.setBoolean(index + 4, transaction.isIncome());
+    }
+
+    private Transaction mapChangedRow(ResultSet rs, Long id) throws SQLException {
+        return new Transaction(id,
+                rs.getLong("user_id"),
+                rs.getBigDecimal("amount"),
+                Category.valueOf(rs.getString("category")),
+                null,
+                rs.getDate("date").toLocalDate(),
+                rs.getBoolean("is_income"));
+    }
 }
@@ -0,0 +1,82 @@
+package org.example.app.domain.repository.impl;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.example.app.domain.repository.UserDataVersionRepository;
+import org.example.app.domain.repository.Workload;
+import org.example.app.domain.repository.WorkloadClass;
+import org.example.app.utils.queries.UserDataVersionSqlQueries;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.TreeSet;
+
+/**
+ * Репозиторий версий данных пользователей.
+ * В отличие от других репозиториев, ошибка чтения не заменяется значением по умолчанию:
+ * по неверной версии кэши отдали бы устаревшие данные.
+ */
+@Repository
+@RequiredArgsConstructor
+@Workload(WorkloadClass.POINT_READS)
+public class UserDataVersionRepositoryImpl implements UserDataVersionRepository {
+    private final HikariDataSource dataSource;
+
+    /**
+     * Возвращает версию данных пользователя.
+     *
+     * @param userId идентификатор пользователя
+     * @return версия данных, или 0, если данные пользователя ещё не изменялись
+     * @throws RuntimeException если версию не удалось прочитать
+     */
+    @Override
+    public long findVersion(Long userId) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(UserDataVersionSqlQueries.FIND_VERSION)) {
+            stmt.setLong(1, userId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getLong("version") : 0;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to read user data version", e);
+        }
+    }
+
+    /**
+     * Увеличивает версии данных пользователей одним пакетом.
+     * Пользователи обрабатываются по возрастанию идентификатора, чтобы одновременные пакеты не блокировали
+     * друг друга.
+     *
+     * @param userIds идентификаторы пользователей
+     */
+    @Override
+    @Workload(WorkloadClass.WRITES)
+    public void increment(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(UserDataVersionSqlQueries.INCREMENT)) {
+            conn.setAutoCommit(false);
+            try {
+                for (Long userId : new TreeSet<>(userIds)) {
+                    stmt.setLong(1, userId);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to increment user data versions", e);
+        }
+    }
+}
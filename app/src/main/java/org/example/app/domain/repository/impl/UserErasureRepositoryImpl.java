@@ -0,0 +1,207 @@
+package org.example.app.domain.repository.impl;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.example.app.domain.model.UserErasure;
+import org.example.app.domain.model.UserErasureStatus;
+import org.example.app.domain.repository.UserErasureRepository;
+import org.example.app.domain.repository.Workload;
+import org.example.app.domain.repository.WorkloadClass;
+import org.example.app.utils.queries.GoalSqlQueries;
+import org.example.app.utils.queries.SpendingLimitSqlQueries;
+import org.example.app.utils.queries.TransactionSqlQueries;
+import org.example.app.utils.queries.UserErasureSqlQueries;
+import org.example.app.utils.queries.UserSqlQueries;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Репозиторий задач удаления пользователей.
+ * Каждая попытка удаления записывает ход только под своим номером, поэтому попытка, задачу которой
+ * забрал другой экземпляр приложения, не может перезаписать его состояние.
+ */
+@Repository
+@RequiredArgsConstructor
+@Workload(WorkloadClass.WRITES)
+public class UserErasureRepositoryImpl implements UserErasureRepository {
+    private final HikariDataSource dataSource;
+
+    /**
+     * Создаёт задачу удаления или начинает новую попытку завершённой либо брошенной задачи.
+     *
+     * @param userId     идентификатор пользователя
+     * @param staleAfter время без записи хода, после которого выполняющаяся попытка считается брошенной
+     * @return новая попытка, или пустое значение, если удаление уже выполняется
+     */
+    @Override
+    public Optional<UserErasure> claim(Long userId, Duration staleAfter) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(UserErasureSqlQueries.CLAIM)) {
+            stmt.setLong(1, userId);
+            stmt.setLong(2, staleAfter.toSeconds());
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? Optional.of(map(rs)) : Optional.empty();
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(String.format("Failed to start erasure of user: %d", userId), e);
+        }
+    }
+
+    /**
+     * Возвращает задачу удаления пользователя.
+     *
+     * @param userId идентификатор пользователя
+     * @return задача удаления, если она есть
+     */
+    @Override
+    @Workload(WorkloadClass.POINT_READS)
+    public Optional<UserErasure> findByUserId(Long userId) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(UserErasureSqlQueries.FIND_BY_USER_ID)) {
+            stmt.setLong(1, userId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(map(rs));
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Записывает состояние и ход попытки удаления.
+     *
+     * @param erasure попытка удаления
+     * @return false, если задачу уже забрала другая попытка
+     */
+    @Override
+    public boolean update(UserErasure erasure) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(UserErasureSqlQueries.UPDATE)) {
+            bindUpdate(stmt, erasure, erasure.getStatus(), erasure.getTransactionsDeleted(), erasure.getGoalsDeleted(),
+                    erasure.getSpendingLimitsDeleted(), erasure.getError());
+            return stmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            throw new RuntimeException(
+                    String.format("Failed to update erasure of user: %d", erasure.getUserId()), e);
+        }
+    }
+
+    /**
+     * Удаляет оставшиеся данные пользователя и самого пользователя в одной транзакции БД.
+     *
+     * @param erasure попытка удаления
+     * @return false, если задачу уже забрала другая попытка
+     */
+    @Override
+    public boolean complete(UserErasure erasure) {
+        Long userId = erasure.getUserId();
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try {
+                try (PreparedStatement stmt = conn.prepareStatement(UserErasureSqlQueries.LOCK_ATTEMPT)) {
+                    stmt.setLong(1, userId);
+                    stmt.setInt(2, erasure.getAttempt());
+
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        if (!rs.next()) {
+                            conn.rollback();
+                            return false;
+                        }
+                    }
+                }
+
+                try (PreparedStatement stmt = conn.prepareStatement(UserErasureSqlQueries.LOCK_USER)) {
+                    stmt.setLong(1, userId);
+                    stmt.executeQuery().close();
+                }
+
+                long transactions = erasure.getTransactionsDeleted()
+                        + deleteAll(conn, TransactionSqlQueries.DELETE_ALL_BY_USER_ID, userId);
+                long goals = erasure.getGoalsDeleted()
+                        + deleteAll(conn, GoalSqlQueries.DELETE_ALL_BY_USER_ID, userId);
+                long spendingLimits = erasure.getSpendingLimitsDeleted()
+                        + deleteAll(conn, SpendingLimitSqlQueries.DELETE_ALL_BY_USER_ID, userId);
+
+                try (PreparedStatement stmt = conn.prepareStatement(UserSqlQueries.DELETE_BY_ID)) {
+                    stmt.setLong(1, userId);
+                    stmt.executeQuery().close();
+                }
+
+                try (PreparedStatement stmt = conn.prepareStatement(UserErasureSqlQueries.UPDATE)) {
+                    bindUpdate(stmt, erasure, UserErasureStatus.COMPLETED, transactions, goals, spendingLimits, null);
+                    stmt.executeUpdate();
+                }
+
+                conn.commit();
+                erasure.setStatus(UserErasureStatus.COMPLETED);
+                erasure.setTransactionsDeleted(transactions);
+                erasure.setGoalsDeleted(goals);
+                erasure.setSpendingLimitsDeleted(spendingLimits);
+                erasure.setError(null);
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw new RuntimeException(String.format("Failed to complete erasure of user: %d", userId), e);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(String.format("Failed to complete erasure of user: %d", userId), e);
+        }
+    }
+
+    /**
+     * Удаляет завершённые задачи, не изменявшиеся дольше срока хранения.
+     *
+     * @param retention срок хранения
+     * @return количество удалённых задач
+     */
+    @Override
+    public int deleteFinishedOlderThan(Duration retention) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(UserErasureSqlQueries.DELETE_FINISHED_OLDER_THAN)) {
+            stmt.setLong(1, retention.toSeconds());
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to delete finished user erasures", e);
+        }
+    }
+
+    private int deleteAll(Connection conn, String query, Long userId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            stmt.setLong(1, userId);
+            return stmt.executeUpdate();
+        }
+    }
+
+    private void bindUpdate(PreparedStatement stmt, UserErasure erasure, UserErasureStatus status,
+                            long transactions, long goals, long spendingLimits, String error) throws SQLException {
+        stmt.setString(1, status.name());
+        stmt.setLong(2, transactions);
+        stmt.setLong(3, goals);
+        stmt.setLong(4, spendingLimits);
+        stmt.setString(5, error);
+        stmt.setLong(6, erasure.getUserId());
+        stmt.setInt(7, erasure.getAttempt());
+    }
+
+    private UserErasure map(ResultSet rs) throws SQLException {
+        return new UserErasure(rs.getLong("user_id"),
+                UserErasureStatus.valueOf(rs.getString("status")),
+                rs.getInt("attempt"),
+                rs.getLong("transactions_deleted"),
+                rs.getLong("goals_deleted"),
+                rs.getLong("spending_limits_deleted"),
+                rs.getString("error"));
+    }
+}
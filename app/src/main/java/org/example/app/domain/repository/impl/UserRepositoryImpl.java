@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 import org.example.app.domain.model.Role;
 import org.example.app.domain.model.User;
 import org.example.app.domain.repository.UserRepository;
+import org.example.app.domain.repository.Workload;
+import org.example.app.domain.repository.WorkloadClass;
 import org.example.app.utils.queries.UserSqlQueries;
 import org.springframework.stereotype.Repository;
 
@@ -20,6 +22,7 @@ import java.util.Optional;
  */
 @Repository
 @RequiredArgsConstructor
+@Workload(WorkloadClass.POINT_READS)
 public class UserRepositoryImpl implements UserRepository {
     private final HikariDataSource dataSource;
 
@@ -44,7 +47,7 @@ public class UserRepositoryImpl implements UserRepository {
                 Role role = Role.valueOf(rs.getString("role"));
                 boolean isBanned = rs.getBoolean("is_banned");
 
-                User user = new User(id, name, email, password, role, isBanned);
+                User user = new User(id, name, email, password, role, isBanned, rs.getLong("version"));
                 users.add(user);
             }
             rs.close();
@@ -75,7 +78,7 @@ public class UserRepositoryImpl implements UserRepository {
                 Role role = Role.valueOf(rs.getString("role"));
                 boolean isBanned = rs.getBoolean("is_banned");
 
-                User user = new User(id, name, email, password, role, isBanned);
+                User user = new User(id, name, email, password, role, isBanned, rs.getLong("version"));
 
                 return Optional.of(user);
             }
@@ -92,6 +95,7 @@ public class UserRepositoryImpl implements UserRepository {
      * @param user пользователь для сохранения
      */
     @Override
+    @Workload(WorkloadClass.WRITES)
     public Long save(User user) {
         try (Connection conn = dataSource.getConnection()) {
             conn.setAutoCommit(false);
@@ -131,35 +135,90 @@ public class UserRepositoryImpl implements UserRepository {
     }
 
     /**
-     * Обновляет пользователя в репозитории.
+     * Сохраняет список новых пользователей пакетной вставкой.
      *
-     * @param user пользователь с обновленными данными
+     * @param users пользователи для сохранения
      */
     @Override
-    public void update(User user) {
+    @Workload(WorkloadClass.WRITES)
+    public void saveAll(List<User> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+
         try (Connection conn = dataSource.getConnection()) {
             conn.setAutoCommit(false);
 
             try (PreparedStatement stmt = conn.prepareStatement(
-                    UserSqlQueries.UPDATE)) {
-                stmt.setString(1, user.getName());
-                stmt.setString(2, user.getEmail());
-                stmt.setString(3, user.getPassword());
-                stmt.setString(4, user.getRole().name());
-                stmt.setBoolean(5, user.isBanned());
-                stmt.setLong(6, user.getId());
+                    UserSqlQueries.SAVE,
+                    Statement.RETURN_GENERATED_KEYS)) {
 
-                if (stmt.executeUpdate() == 0) {
+                for (User user : users) {
+                    stmt.setString(1, user.getName());
+                    stmt.setString(2, user.getEmail());
+                    stmt.setString(3, user.getPassword());
+                    stmt.setString(4, user.getRole().name());
+                    stmt.setBoolean(5, user.isBanned());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+
+                int index = 0;
+                try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                    while (generatedKeys.next() && index < users.size()) {
+                        users.get(index++).setId(generatedKeys.getLong(1));
+                    }
+                }
+                if (index != users.size()) {
                     conn.rollback();
-                    throw new RuntimeException(
-                            String.format("No user found with id: %d", user.getId()));
+                    throw new RuntimeException("DB did not return generated IDs for all users");
                 }
 
                 conn.commit();
             } catch (SQLException e) {
                 conn.rollback();
-                throw new RuntimeException(
-                        String.format("Failed to update user with id: %d", user.getId()), e);
+                throw new RuntimeException("Failed to save users", e);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to save users", e);
+        }
+    }
+
+    /**
+     * Обновляет пользователя одним запросом {@code UPDATE ... RETURNING}, если его версия совпадает с версией
+     * в {@code user}. Если версия не указана, пользователь обновляется без проверки.
+     * При успешном обновлении в {@code user} записывается новая версия.
+     *
+     * @param user пользователь с обновлёнными данными
+     * @return состояние пользователя до обновления или пустое значение, если пользователь не найден
+     * или его версия изменилась
+     */
+    @Override
+    @Workload(WorkloadClass.WRITES)
+    public Optional<User> update(User user) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     UserSqlQueries.UPDATE)) {
+            stmt.setString(1, user.getName());
+            stmt.setString(2, user.getEmail());
+            stmt.setString(3, user.getPassword());
+            stmt.setString(4, user.getRole().name());
+            stmt.setBoolean(5, user.isBanned());
+            stmt.setLong(6, user.getId());
+            stmt.setObject(7, user.getVersion(), Types.BIGINT);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    return Optional.empty();
+                }
+                user.setVersion(rs.getLong("new_version"));
+                return Optional.of(new User(rs.getLong("id"),
+                        rs.getString("name"),
+                        rs.getString("email"),
+                        rs.getString("password"),
+                        Role.valueOf(rs.getString("role")),
+                        rs.getBoolean("is_banned"),
+                        rs.getLong("version")));
             }
         } catch (SQLException e) {
             throw new RuntimeException(
@@ -171,30 +230,21 @@ public class UserRepositoryImpl implements UserRepository {
      * Удаляет пользователя по его идентификатору.
      *
      * @param id идентификатор пользователя для удаления
+     * @return {@code true}, если пользователь был удалён, {@code false}, если пользователь не найден
      */
     @Override
-    public void deleteById(Long id) {
-        try (Connection conn = dataSource.getConnection()) {
-            conn.setAutoCommit(false);
-
-            try (PreparedStatement stmt = conn.prepareStatement(
-                    UserSqlQueries.DELETE_BY_ID)) {
+    @Workload(WorkloadClass.WRITES)
+    public boolean deleteById(Long id) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(UserSqlQueries.DELETE_BY_ID)) {
             stmt.setLong(1, id);
 
-            if (stmt.executeUpdate() == 0) {
-                conn.rollback();
-                throw new RuntimeException(
-                        String.format("No user found with id: %d", id));
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
             }
-            conn.commit();
-        } catch (SQLException e) {
-                conn.rollback();
-                throw new RuntimeException(
-                        String.format("Failed to delete user with id: %d", id), e);
-        }
         } catch (SQLException e) {
             throw new RuntimeException(
-                    String.format("Failed to delete transaction with id: %d", id), e);
+                    String.format("Failed to delete user with id: %d", id), e);
         }
     }
 
@@ -218,7 +268,7 @@ public class UserRepositoryImpl implements UserRepository {
                 Role role = Role.valueOf(rs.getString("role"));
                 boolean isBanned = rs.getBoolean("is_banned");
 
-                User user = new User(id, name, email, password, role, isBanned);
+                User user = new User(id, name, email, password, role, isBanned, rs.getLong("version"));
 
                 return Optional.of(user);
             }
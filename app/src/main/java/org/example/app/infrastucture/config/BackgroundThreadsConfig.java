@@ -0,0 +1,28 @@
+package org.example.app.infrastucture.config;
+
+import org.example.app.infrastucture.jdbc.WorkloadContext;
+import org.springframework.boot.task.ThreadPoolTaskExecutorCustomizer;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Помечает потоки пула задач приложения и планировщика как фоновые (см. {@link WorkloadContext#isBackground()}).
+ * В них выполняются удаление пользователей, публикация outbox, очистка ключей идемпотентности и асинхронные
+ * уведомления: при исчерпании мест класса нагрузки такие задачи ждут, а не завершаются ошибкой.
+ */
+@Configuration
+public class BackgroundThreadsConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutorCustomizer backgroundTaskExecutorCustomizer() {
+        return executor -> executor.setThreadFactory(
+                task -> executor.createThread(WorkloadContext.inBackground(task)));
+    }
+
+    @Bean
+    public ThreadPoolTaskSchedulerCustomizer backgroundTaskSchedulerCustomizer() {
+        return scheduler -> scheduler.setThreadFactory(
+                task -> scheduler.createThread(WorkloadContext.inBackground(task)));
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.app.infrastucture.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Конфигурация бинарных форматов ответов.
+ * <p>
+ * Клиент может запросить Smile ({@code Accept: application/x-jackson-smile}) или CBOR
+ * ({@code Accept: application/cbor}) вместо JSON; это уменьшает размер больших списков и время сериализации.
+ * Преобразователи строятся из того же {@link Jackson2ObjectMapperBuilder}, что и JSON, поэтому используют
+ * те же модули и настройки. JSON остаётся форматом по умолчанию.
+ * </p>
+ */
+@Configuration
+@Profile("!reactive")
+public class BinaryFormatsConfig {
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
@@ -1,6 +1,10 @@
 package org.example.app.infrastucture.config;
 
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.app.infrastucture.jdbc.InstrumentedHikariDataSource;
+import org.example.app.infrastucture.jdbc.SqlStatementMetrics;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -15,6 +19,8 @@ import java.sql.Statement;
 /**
  * Класс конфигурации источника данных для подключения к базе данных.
  * Использует HikariCP как пул соединений и автоматически создает схему БД при инициализации.
+ * Выполняемые SQL-выражения учитываются в статистике по шаблонам и по HTTP-запросам,
+ * состояние пула публикуется в Micrometer под именами {@code hikaricp.connections.*}.
  */
 @Configuration
 public class DataSourceConfig {
@@ -29,6 +35,7 @@ public class DataSourceConfig {
      * @return настроенный источник данных HikariCP
      * @throws RuntimeException если не удалось создать схему базы данных
      * @see HikariDataSource
+     * @see InstrumentedHikariDataSource
      */
 
     @Bean
@@ -40,10 +47,15 @@ public class DataSourceConfig {
 
     @Bean
     @ConfigurationProperties("spring.datasource.hikari")
-    public HikariDataSource dataSource(DataSourceProperties properties) {
-        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
-                .type(HikariDataSource.class)
+    public HikariDataSource dataSource(DataSourceProperties properties,
+                                       SqlStatementMetrics statementMetrics,
+                                       MeterRegistry meterRegistry) {
+        InstrumentedHikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(InstrumentedHikariDataSource.class)
                 .build();
+        dataSource.setStatementListener(statementMetrics);
+        // Задаётся до первого соединения: после запуска пула метрики подключить нельзя
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
 
         initializeSchema(dataSource);
         return dataSource;
@@ -0,0 +1,34 @@
+package org.example.app.infrastucture.config;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.example.app.utils.JsonUtil;
+import org.example.app.utils.jackson.FastWritersModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Конфигурация Jackson.
+ * <p>
+ * Модули, объявленные бинами, Spring Boot подключает к общему {@code Jackson2ObjectMapperBuilder},
+ * поэтому они действуют для JSON, Smile и CBOR. Тот же набор модулей использует {@link JsonUtil}.
+ * </p>
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Заменяет рефлексивный доступ к свойствам DTO сгенерированными обращениями через {@code LambdaMetafactory}.
+     */
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Сериализаторы сумм и дат без промежуточных строк.
+     */
+    @Bean
+    public FastWritersModule fastWritersModule() {
+        return new FastWritersModule();
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.app.infrastucture.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Настройки подбора размера пула соединений HikariCP и таймаута получения соединения.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("app.datasource.pool-tuning")
+public class PoolTuningProperties {
+
+    /**
+     * Включён ли подбор параметров пула.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Режим работы: только рекомендации в метриках и журнале или применение рекомендаций к пулу.
+     */
+    private Mode mode = Mode.RECOMMEND;
+
+    /**
+     * Минимальный размер пула, который может быть рекомендован.
+     */
+    private int minPoolSize = 5;
+
+    /**
+     * Максимальный размер пула, который может быть рекомендован.
+     */
+    private int maxPoolSize = 40;
+
+    /**
+     * Запас к среднему числу занятых соединений по закону Литтла.
+     */
+    private double headroom = 1.5;
+
+    /**
+     * Среднее время ожидания соединения, начиная с которого пул считается недостаточным.
+     */
+    private Duration acquireWaitTarget = Duration.ofMillis(5);
+
+    /**
+     * Средняя длительность SQL-выражения, начиная с которой пул не увеличивается:
+     * при медленной БД дополнительные соединения только увеличивают её нагрузку.
+     */
+    private Duration dbLatencyCeiling = Duration.ofMillis(50);
+
+    /**
+     * Минимальный таймаут получения соединения, который может быть рекомендован.
+     */
+    private Duration minConnectionTimeout = Duration.ofMillis(250);
+
+    /**
+     * Максимальный таймаут получения соединения, который может быть рекомендован.
+     */
+    private Duration maxConnectionTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Режим подбора параметров пула.
+     */
+    public enum Mode {
+        /**
+         * Рекомендации публикуются в метриках и журнале, пул не изменяется.
+         */
+        RECOMMEND,
+
+        /**
+         * Рекомендации применяются к работающему пулу.
+         */
+        ADJUST
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.app.infrastucture.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Настройки учёта обращений к БД в рамках HTTP-запроса.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("app.query-stats")
+public class QueryStatsProperties {
+
+    /**
+     * Добавлять ли статистику в заголовки ответа. Включается в профиле dev.
+     */
+    private boolean headersEnabled = false;
+
+    /**
+     * Длительность запроса, начиная с которой он записывается в журнал медленных запросов.
+     */
+    private Duration slowRequestThreshold = Duration.ofMillis(500);
+
+    /**
+     * Допустимое число SQL-выражений на запрос, если для эндпоинта не задано своё значение.
+     */
+    private int defaultBudget = 10;
+
+    /**
+     * Допустимое число SQL-выражений по эндпоинтам в формате {@code "GET /api/goals/{userId}/progress"}.
+     */
+    private Map<String, Integer> budgets = new HashMap<>();
+
+    /**
+     * Возвращает допустимое число SQL-выражений для эндпоинта.
+     *
+     * @param endpoint метод и шаблон пути эндпоинта
+     * @return допустимое число SQL-выражений
+     */
+    public int budgetFor(String endpoint) {
+        return budgets.getOrDefault(endpoint, defaultBudget);
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.app.infrastucture.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Конфигурация безопасности для неблокирующего узла (профиль "reactive").
+ * Повторяет правила {@link WebSecurityConfig} средствами WebFlux Security и запускает
+ * приложение на Netty вместо Tomcat.
+ */
+@Configuration
+@Profile("reactive")
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+    private final UserDetailsService userDetailsService;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .authorizeExchange(exchange -> exchange
+                        .pathMatchers(
+                                "/v3/api-docs/**",
+                                "/swagger-ui/**",
+                                "/swagger-ui.html",
+                                "/swagger-ui/index.html",
+                                "/api/users/register"
+                        ).permitAll()
+                        .pathMatchers("/api/users").hasAuthority("ROLE_ADMIN")
+                        .pathMatchers("/actuator/sqlstatements").hasAuthority("ROLE_ADMIN")
+                        .anyExchange().authenticated()
+                )
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .httpBasic(Customizer.withDefaults())
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .authenticationManager(authenticationManager())
+                .build();
+    }
+
+    @Bean
+    public ReactiveAuthenticationManager authenticationManager() {
+        UserDetailsRepositoryReactiveAuthenticationManager manager =
+                new UserDetailsRepositoryReactiveAuthenticationManager(reactiveUserDetailsService());
+        manager.setPasswordEncoder(passwordEncoder());
+        return manager;
+    }
+
+    /**
+     * Адаптирует блокирующий {@link UserDetailsService} к реактивному контракту,
+     * выполняя поиск пользователя в пуле потоков для блокирующих операций.
+     */
+    @Bean
+    public ReactiveUserDetailsService reactiveUserDetailsService() {
+        return username -> Mono.fromCallable(() -> userDetailsService.loadUserByUsername(username))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(UsernameNotFoundException.class, e -> Mono.empty());
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
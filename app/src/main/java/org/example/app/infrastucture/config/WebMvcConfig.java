@@ -0,0 +1,36 @@
+package org.example.app.infrastucture.config;
+
+import lombok.RequiredArgsConstructor;
+import org.example.app.domain.model.TimeBucket;
+import org.example.app.infrastucture.web.UserDataETagInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Locale;
+
+/**
+ * Конфигурация Spring MVC: регистрирует перехватчики обработчиков и преобразователи параметров запроса.
+ */
+@Configuration
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+    private final UserDataETagInterceptor userDataETagInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(userDataETagInterceptor).addPathPatterns("/api/**");
+    }
+
+    /**
+     * Разрешает передавать шаг временного ряда в любом регистре ({@code ?granularity=day}).
+     */
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, TimeBucket.class,
+                source -> TimeBucket.valueOf(source.trim().toUpperCase(Locale.ROOT)));
+    }
+}
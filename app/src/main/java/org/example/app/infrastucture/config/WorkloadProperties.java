@@ -0,0 +1,64 @@
+package org.example.app.infrastucture.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.example.app.domain.repository.WorkloadClass;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Настройки изоляции классов нагрузки на БД.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("app.workloads")
+public class WorkloadProperties {
+
+    /**
+     * Настройки по классам нагрузки; для классов без настроек используются значения по умолчанию.
+     */
+    private Map<WorkloadClass, Bulkhead> classes = new EnumMap<>(WorkloadClass.class);
+
+    /**
+     * Возвращает настройки класса нагрузки.
+     *
+     * @param workloadClass класс нагрузки
+     * @return настройки класса нагрузки
+     */
+    public Bulkhead get(WorkloadClass workloadClass) {
+        return classes.getOrDefault(workloadClass, new Bulkhead());
+    }
+
+    /**
+     * Ограничения одного класса нагрузки.
+     */
+    @Getter
+    @Setter
+    public static class Bulkhead {
+
+        /**
+         * Максимальное число одновременных обращений к БД.
+         */
+        private int maxConcurrent = 10;
+
+        /**
+         * Размер отдельного пула соединений; 0 — класс использует общий пул.
+         */
+        private int poolSize = 0;
+
+        /**
+         * Сколько ждать освобождения места, прежде чем отклонить обращение; 0 — отклонять сразу.
+         */
+        private Duration maxWait = Duration.ZERO;
+
+        /**
+         * Значение заголовка {@code Retry-After} для отклонённых запросов.
+         */
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+}
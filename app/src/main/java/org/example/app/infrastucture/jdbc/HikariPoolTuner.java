@@ -0,0 +1,158 @@
+package org.example.app.infrastucture.jdbc;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.app.infrastucture.config.PoolTuningProperties;
+import org.example.app.infrastucture.jdbc.PoolSizeAdvisor.PoolSample;
+import org.example.app.infrastucture.jdbc.PoolSizeAdvisor.Recommendation;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Периодический подбор размера пула соединений HikariCP и таймаута получения соединения.
+ * <p>
+ * Наблюдения берутся из метрик пула {@code hikaricp.connections.*}, которые HikariCP публикует в Micrometer,
+ * и из статистики SQL-выражений {@link SqlStatementMetrics}; за окно принимается интервал между запусками.
+ * Рекомендация рассчитывается {@link PoolSizeAdvisor} и публикуется в метриках
+ * {@value #RECOMMENDED_SIZE_METRIC} и {@value #RECOMMENDED_TIMEOUT_METRIC}. В режиме
+ * {@link PoolTuningProperties.Mode#ADJUST} она применяется к работающему пулу.
+ * </p>
+ */
+@Slf4j
+@Component
+public class HikariPoolTuner {
+    public static final String RECOMMENDED_SIZE_METRIC = "hikaricp.tuning.recommended.size";
+    public static final String RECOMMENDED_TIMEOUT_METRIC = "hikaricp.tuning.recommended.connection-timeout";
+
+    private final HikariDataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementMetrics statementMetrics;
+    private final PoolTuningProperties properties;
+    private final PoolSizeAdvisor advisor;
+
+    private long lastSampleNanos = System.nanoTime();
+    private long lastAcquisitions;
+    private double lastAcquireMs;
+    private long lastUsages;
+    private double lastUsageMs;
+    private double lastTimeouts;
+    private long lastStatements;
+    private double lastStatementMs;
+    private volatile Recommendation recommendation;
+
+    public HikariPoolTuner(HikariDataSource dataSource,
+                           MeterRegistry meterRegistry,
+                           SqlStatementMetrics statementMetrics,
+                           PoolTuningProperties properties) {
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.statementMetrics = statementMetrics;
+        this.properties = properties;
+        this.advisor = new PoolSizeAdvisor(properties);
+        this.recommendation = new Recommendation(dataSource.getMaximumPoolSize(),
+                Duration.ofMillis(dataSource.getConnectionTimeout()), "initial configuration");
+
+        Gauge.builder(RECOMMENDED_SIZE_METRIC, this, tuner -> tuner.recommendation.poolSize())
+                .description("Рекомендуемый максимальный размер пула соединений")
+                .tag("pool", poolName())
+                .register(meterRegistry);
+        Gauge.builder(RECOMMENDED_TIMEOUT_METRIC, this, tuner -> tuner.recommendation.connectionTimeout().toMillis())
+                .description("Рекомендуемый таймаут получения соединения, мс")
+                .tag("pool", poolName())
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Возвращает последнюю рассчитанную рекомендацию.
+     *
+     * @return рекомендуемые параметры пула
+     */
+    public Recommendation getRecommendation() {
+        return recommendation;
+    }
+
+    /**
+     * Рассчитывает рекомендацию по наблюдениям с предыдущего запуска и, в режиме
+     * {@link PoolTuningProperties.Mode#ADJUST}, применяет её к пулу.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.pool-tuning.interval:PT30S}",
+            initialDelayString = "${app.datasource.pool-tuning.interval:PT30S}")
+    public synchronized void tune() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+            int poolSize = config.getMaximumPoolSize();
+            Duration connectionTimeout = Duration.ofMillis(config.getConnectionTimeout());
+
+            Recommendation next = advisor.recommend(sample(), poolSize, connectionTimeout);
+            recommendation = next;
+
+            if (next.poolSize() == poolSize && next.connectionTimeout().equals(connectionTimeout)) {
+                return;
+            }
+            if (properties.getMode() == PoolTuningProperties.Mode.ADJUST) {
+                config.setMaximumPoolSize(next.poolSize());
+                config.setConnectionTimeout(next.connectionTimeout().toMillis());
+                log.info("Параметры пула {} изменены: размер {} -> {}, таймаут {} -> {} мс ({})", poolName(),
+                        poolSize, next.poolSize(), connectionTimeout.toMillis(),
+                        next.connectionTimeout().toMillis(), next.reason());
+            } else {
+                log.info("Рекомендуемые параметры пула {}: размер {} (сейчас {}), таймаут {} мс (сейчас {}) ({})",
+                        poolName(), next.poolSize(), poolSize, next.connectionTimeout().toMillis(),
+                        connectionTimeout.toMillis(), next.reason());
+            }
+        } catch (RuntimeException e) {
+            log.error("Не удалось подобрать параметры пула соединений", e);
+        }
+    }
+
+    private PoolSample sample() {
+        long now = System.nanoTime();
+        Duration window = Duration.ofNanos(now - lastSampleNanos);
+        lastSampleNanos = now;
+
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", poolName()).timer();
+        Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", poolName()).timer();
+        Counter timeouts = meterRegistry.find("hikaricp.connections.timeout").tag("pool", poolName()).counter();
+        SqlStatementMetrics.StatementSummary statements = statementMetrics.overall();
+
+        long acquisitions = acquire != null ? acquire.count() - lastAcquisitions : 0;
+        double acquireMs = acquire != null ? acquire.totalTime(TimeUnit.MILLISECONDS) - lastAcquireMs : 0;
+        long usages = usage != null ? usage.count() - lastUsages : 0;
+        double usageMs = usage != null ? usage.totalTime(TimeUnit.MILLISECONDS) - lastUsageMs : 0;
+        double timedOut = timeouts != null ? timeouts.count() - lastTimeouts : 0;
+        long statementCount = statements.count() - lastStatements;
+        double statementMs = statements.totalMs() - lastStatementMs;
+
+        lastAcquisitions += acquisitions;
+        lastAcquireMs += acquireMs;
+        lastUsages += usages;
+        lastUsageMs += usageMs;
+        lastTimeouts += timedOut;
+        lastStatements += statementCount;
+        lastStatementMs += statementMs;
+
+        return new PoolSample(window,
+                acquisitions,
+                acquisitions == 0 ? 0 : acquireMs / acquisitions,
+                acquire != null ? acquire.max(TimeUnit.MILLISECONDS) : 0,
+                usages == 0 ? 0 : usageMs / usages,
+                (long) timedOut,
+                statementCount == 0 ? 0 : statementMs / statementCount);
+    }
+
+    private String poolName() {
+        return dataSource.getPoolName();
+    }
+}
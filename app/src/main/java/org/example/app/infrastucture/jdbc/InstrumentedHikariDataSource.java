@@ -0,0 +1,44 @@
+package org.example.app.infrastucture.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.example.app.domain.repository.WorkloadClass;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Пул соединений HikariCP, выдающий соединения с учётом обращений к БД.
+ * Сведения о выражениях передаются {@link StatementListener}, а в рамках HTTP-запроса
+ * дополнительно собираются в {@link QueryStats}.
+ * Если текущему классу нагрузки ({@link WorkloadContext}) выделен отдельный пул, соединение выдаётся из него.
+ *
+ * @see JdbcProxies
+ */
+public class InstrumentedHikariDataSource extends HikariDataSource {
+    private volatile StatementListener statementListener;
+    private volatile Map<WorkloadClass, ? extends DataSource> workloadPools = Map.of();
+
+    public void setStatementListener(StatementListener statementListener) {
+        this.statementListener = statementListener;
+    }
+
+    public void setWorkloadPools(Map<WorkloadClass, ? extends DataSource> workloadPools) {
+        this.workloadPools = workloadPools;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        WorkloadClass workloadClass = WorkloadContext.current();
+        DataSource pool = workloadClass != null ? workloadPools.get(workloadClass) : null;
+        Connection connection = pool != null ? pool.getConnection() : super.getConnection();
+        return JdbcProxies.wrap(connection, statementListener);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return JdbcProxies.wrap(super.getConnection(username, password), statementListener);
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.app.infrastucture.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Динамические прокси JDBC, записывающие обращения к БД.
+ * <p>
+ * Каждое выполненное выражение передаётся {@link StatementListener} вместе с временем выполнения и типами
+ * привязанных параметров. В рамках HTTP-запроса дополнительно заполняется {@link QueryStats}:
+ * число выражений, время их выполнения и строки, прочитанные через {@link ResultSet#next()}.
+ * Все остальные вызовы передаются исходным объектам без изменений.
+ * </p>
+ */
+public final class JdbcProxies {
+
+    private JdbcProxies() {
+        // Приватный конструктор для предотвращения создания экземпляров класса
+    }
+
+    /**
+     * Оборачивает соединение, если есть кому передавать сведения об обращениях.
+     *
+     * @param connection исходное соединение
+     * @param listener   получатель сведений о выражениях, может быть null
+     * @return соединение с учётом обращений, или исходное соединение, если учитывать нечего
+     */
+    public static Connection wrap(Connection connection, StatementListener listener) {
+        QueryStats stats = QueryStats.current();
+        if (stats == null && listener == null) {
+            return connection;
+        }
+        return proxy(Connection.class, new ConnectionHandler(connection, stats, listener));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(JdbcProxies.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private record ConnectionHandler(Connection target, QueryStats stats, StatementListener listener)
+            implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = JdbcProxies.invoke(target, method, args);
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+
+            if (result instanceof CallableStatement statement) {
+                return proxy(CallableStatement.class, new StatementHandler(statement, sql, stats, listener));
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, new StatementHandler(statement, sql, stats, listener));
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, new StatementHandler(statement, null, stats, listener));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String preparedSql;
+        private final QueryStats stats;
+        private final StatementListener listener;
+        private final Map<Integer, String> bindTypes = new TreeMap<>();
+
+        private StatementHandler(Statement target, String preparedSql, QueryStats stats, StatementListener listener) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.stats = stats;
+            this.listener = listener;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            Object result;
+            if (name.startsWith("execute")) {
+                long started = System.nanoTime();
+                try {
+                    result = JdbcProxies.invoke(target, method, args);
+                } finally {
+                    statementExecuted(args, System.nanoTime() - started);
+                }
+            } else {
+                result = JdbcProxies.invoke(target, method, args);
+                if (listener != null) {
+                    rememberBindType(name, args);
+                }
+            }
+
+            if (result instanceof ResultSet resultSet && stats != null) {
+                return proxy(ResultSet.class, new ResultSetHandler(resultSet, stats));
+            }
+            return result;
+        }
+
+        private void statementExecuted(Object[] args, long elapsedNanos) {
+            if (stats != null) {
+                stats.recordStatement(elapsedNanos);
+            }
+            if (listener != null) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                listener.statementExecuted(sql, elapsedNanos, () -> bindTypes.values().toString());
+            }
+        }
+
+        private void rememberBindType(String name, Object[] args) {
+            if ("clearParameters".equals(name)) {
+                bindTypes.clear();
+            } else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                String type = name.substring(3);
+                bindTypes.put(index, type.isEmpty() ? "?" : Character.toLowerCase(type.charAt(0)) + type.substring(1));
+            }
+        }
+    }
+
+    private record ResultSetHandler(ResultSet target, QueryStats stats) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = JdbcProxies.invoke(target, method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                stats.recordRow();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.app.infrastucture.jdbc;
+
+import org.example.app.infrastucture.config.PoolTuningProperties;
+
+import java.time.Duration;
+
+/**
+ * Расчёт рекомендуемого размера пула соединений и таймаута получения соединения по наблюдениям за окно.
+ * <p>
+ * Базовый размер пула — среднее число одновременно занятых соединений по закону Литтла
+ * (частота выдачи соединений, умноженная на среднее время их использования) с запасом.
+ * Если потоки ждали соединение дольше целевого времени, пул увеличивается хотя бы на одно соединение,
+ * но только пока БД отвечает быстрее заданного порога: рост пула при медленной БД увеличивает её нагрузку,
+ * а не пропускную способность. Уменьшается пул не более чем на одно соединение за окно.
+ * </p>
+ * Таймаут получения соединения рекомендуется с четырёхкратным запасом к наибольшему ожиданию
+ * и среднему времени использования соединения, чтобы ошибкой завершались только запросы при насыщении пула.
+ */
+public class PoolSizeAdvisor {
+    private static final int TIMEOUT_FACTOR = 4;
+
+    private final PoolTuningProperties properties;
+
+    public PoolSizeAdvisor(PoolTuningProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Рассчитывает рекомендацию по наблюдениям за окно.
+     *
+     * @param sample            наблюдения за окно
+     * @param poolSize          текущий максимальный размер пула
+     * @param connectionTimeout текущий таймаут получения соединения
+     * @return рекомендуемые параметры пула
+     */
+    public Recommendation recommend(PoolSample sample, int poolSize, Duration connectionTimeout) {
+        if (sample.acquisitions() == 0 || sample.window().isZero()) {
+            return new Recommendation(clamp(poolSize), connectionTimeout, "no connections acquired");
+        }
+
+        double rate = sample.acquisitions() / (sample.window().toNanos() / 1_000_000_000.0);
+        double busy = rate * sample.meanUsageMs() / 1000.0;
+        int size = (int) Math.ceil(busy * properties.getHeadroom());
+        String reason = String.format("%.1f connections busy on average", busy);
+
+        boolean waiting = sample.meanAcquireMs() > properties.getAcquireWaitTarget().toMillis()
+                || sample.timeouts() > 0;
+        if (waiting && sample.meanStatementMs() > properties.getDbLatencyCeiling().toMillis()) {
+            size = Math.min(size, poolSize);
+            reason = String.format("connection waits, but mean statement time %.1f ms is above the ceiling",
+                    sample.meanStatementMs());
+        } else if (waiting) {
+            size = Math.max(size, poolSize + 1);
+            reason = String.format("mean connection wait %.1f ms, %d timeouts",
+                    sample.meanAcquireMs(), sample.timeouts());
+        }
+        size = Math.max(size, poolSize - 1);
+
+        long timeoutMs = Math.round(Math.max(sample.maxAcquireMs(), sample.meanUsageMs()) * TIMEOUT_FACTOR);
+        Duration timeout = Duration.ofMillis(Math.min(Math.max(timeoutMs,
+                        properties.getMinConnectionTimeout().toMillis()),
+                properties.getMaxConnectionTimeout().toMillis()));
+
+        return new Recommendation(clamp(size), timeout, reason);
+    }
+
+    private int clamp(int size) {
+        return Math.min(Math.max(size, properties.getMinPoolSize()), properties.getMaxPoolSize());
+    }
+
+    /**
+     * Наблюдения за пулом соединений и БД за окно.
+     *
+     * @param window          длительность окна
+     * @param acquisitions    количество выданных соединений
+     * @param meanAcquireMs   среднее ожидание соединения, мс
+     * @param maxAcquireMs    наибольшее ожидание соединения, мс
+     * @param meanUsageMs     среднее время использования соединения, мс
+     * @param timeouts        количество запросов соединения, завершившихся по таймауту
+     * @param meanStatementMs средняя длительность SQL-выражения, мс
+     */
+    public record PoolSample(Duration window, long acquisitions, double meanAcquireMs, double maxAcquireMs,
+                             double meanUsageMs, long timeouts, double meanStatementMs) {
+    }
+
+    /**
+     * Рекомендуемые параметры пула.
+     *
+     * @param poolSize          максимальный размер пула
+     * @param connectionTimeout таймаут получения соединения
+     * @param reason            основание рекомендации
+     */
+    public record Recommendation(int poolSize, Duration connectionTimeout, String reason) {
+    }
+}
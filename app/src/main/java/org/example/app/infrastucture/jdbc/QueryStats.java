@@ -0,0 +1,61 @@
+package org.example.app.infrastucture.jdbc;
+
+/**
+ * Статистика обращений к БД в рамках одного HTTP-запроса.
+ * Заполняется одним потоком обработки запроса, поэтому не синхронизирована.
+ */
+public class QueryStats {
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rows;
+    private long dbTimeNanos;
+
+    /**
+     * Начинает сбор статистики для текущего потока.
+     *
+     * @return статистика текущего запроса
+     */
+    public static QueryStats begin() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Возвращает статистику текущего запроса.
+     *
+     * @return статистика, или null, если поток не обрабатывает HTTP-запрос
+     */
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Завершает сбор статистики для текущего потока.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(long elapsedNanos) {
+        statements++;
+        dbTimeNanos += elapsedNanos;
+    }
+
+    void recordRow() {
+        rows++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getDbTimeNanos() {
+        return dbTimeNanos;
+    }
+}
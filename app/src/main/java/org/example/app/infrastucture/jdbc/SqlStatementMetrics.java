@@ -0,0 +1,170 @@
+package org.example.app.infrastucture.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Статистика выполнения SQL-выражений в разрезе шаблонов из классов {@code *SqlQueries}.
+ * <p>
+ * Шаблон определяется по тексту выражения и называется по имени константы, например
+ * {@code TransactionSqlQueries.GET_BALANCE_BY_USER_ID}; прочие выражения учитываются как {@value #UNREGISTERED}.
+ * Для каждого шаблона ведётся гистограмма задержек {@code jdbc.statement}. Выражения дольше порога
+ * записываются в журнал с типами привязанных параметров, значения параметров не записываются.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SqlStatementMetrics implements StatementListener {
+    public static final String UNREGISTERED = "unregistered";
+    private static final String QUERIES_PACKAGE = "org.example.app.utils.queries";
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final Map<String, String> templateNames;
+    private final Map<String, StatementTotals> totals = new ConcurrentHashMap<>();
+
+    public SqlStatementMetrics(MeterRegistry meterRegistry,
+                               @Value("${app.sql.slow-statement-threshold:200ms}") Duration slowThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.templateNames = loadTemplateNames();
+    }
+
+    @Override
+    public void statementExecuted(String sql, long elapsedNanos, Supplier<String> bindShape) {
+        String name = sql != null ? templateNames.getOrDefault(sql, UNREGISTERED) : UNREGISTERED;
+        totals.computeIfAbsent(name, this::createTotals).record(elapsedNanos);
+
+        if (elapsedNanos >= slowThresholdNanos) {
+            log.warn("Slow SQL statement {}: {} ms, binds {}{}", name, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    bindShape.get(), UNREGISTERED.equals(name) && sql != null ? ", sql: " + abbreviate(sql) : "");
+        }
+    }
+
+    /**
+     * Возвращает шаблоны с наибольшим суммарным временем выполнения.
+     *
+     * @param limit максимальное количество шаблонов
+     * @return сводка по шаблонам в порядке убывания суммарного времени
+     */
+    public List<StatementSummary> top(int limit) {
+        return totals.entrySet().stream()
+                .map(entry -> entry.getValue().summary(entry.getKey()))
+                .sorted(Comparator.comparingDouble(StatementSummary::totalMs).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Возвращает сводку по всем выполненным выражениям.
+     *
+     * @return суммарные количество и время выполнения всех выражений
+     */
+    public StatementSummary overall() {
+        long count = 0;
+        double totalMs = 0;
+        double maxMs = 0;
+        for (StatementTotals statementTotals : totals.values()) {
+            StatementSummary summary = statementTotals.summary(null);
+            count += summary.count();
+            totalMs += summary.totalMs();
+            maxMs = Math.max(maxMs, summary.maxMs());
+        }
+        return new StatementSummary("all", count, totalMs, count == 0 ? 0 : totalMs / count, maxMs);
+    }
+
+    private StatementTotals createTotals(String name) {
+        Timer timer = Timer.builder("jdbc.statement")
+                .description("Время выполнения SQL-выражения")
+                .tag("statement", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        return new StatementTotals(timer);
+    }
+
+    private static String abbreviate(String sql) {
+        String compact = sql.replaceAll("\\s+", " ").trim();
+        return compact.length() > 200 ? compact.substring(0, 200) + "..." : compact;
+    }
+
+    private static Map<String, String> loadTemplateNames() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new RegexPatternTypeFilter(Pattern.compile(".*SqlQueries")));
+
+        Map<String, String> names = new HashMap<>();
+        for (BeanDefinition definition : scanner.findCandidateComponents(QUERIES_PACKAGE)) {
+            Class<?> queries = ClassUtils.resolveClassName(definition.getBeanClassName(),
+                    SqlStatementMetrics.class.getClassLoader());
+            for (Field field : queries.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers) && field.getType() == String.class) {
+                    try {
+                        field.setAccessible(true);
+                        names.putIfAbsent((String) field.get(null), queries.getSimpleName() + "." + field.getName());
+                    } catch (IllegalAccessException e) {
+                        log.warn("Cannot read SQL template {}.{}", queries.getSimpleName(), field.getName(), e);
+                    }
+                }
+            }
+        }
+        return Map.copyOf(names);
+    }
+
+    /**
+     * Сводка по шаблону SQL-выражения.
+     *
+     * @param statement имя шаблона
+     * @param count     количество выполнений
+     * @param totalMs   суммарное время выполнения, мс
+     * @param meanMs    среднее время выполнения, мс
+     * @param maxMs     максимальное время выполнения, мс
+     */
+    public record StatementSummary(String statement, long count, double totalMs, double meanMs, double maxMs) {
+    }
+
+    private static final class StatementTotals {
+        private final Timer timer;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private StatementTotals(Timer timer) {
+            this.timer = timer;
+        }
+
+        private void record(long elapsedNanos) {
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+        }
+
+        private StatementSummary summary(String name) {
+            long executions = count.sum();
+            double totalMs = totalNanos.sum() / 1_000_000.0;
+            return new StatementSummary(name, executions, totalMs,
+                    executions == 0 ? 0 : totalMs / executions, maxNanos.get() / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.app.infrastucture.jdbc;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Эндпоинт Actuator {@code /actuator/sqlstatements}, возвращающий SQL-шаблоны с наибольшим суммарным временем.
+ */
+@Component
+@Endpoint(id = "sqlstatements")
+public class SqlStatementsEndpoint {
+    private final SqlStatementMetrics statementMetrics;
+    private final int defaultLimit;
+
+    public SqlStatementsEndpoint(SqlStatementMetrics statementMetrics,
+                                 @Value("${app.sql.top-statements:20}") int defaultLimit) {
+        this.statementMetrics = statementMetrics;
+        this.defaultLimit = defaultLimit;
+    }
+
+    /**
+     * Возвращает шаблоны с наибольшим суммарным временем выполнения.
+     *
+     * @param limit максимальное количество шаблонов; по умолчанию {@code app.sql.top-statements}
+     * @return сводка по шаблонам
+     */
+    @ReadOperation
+    public List<SqlStatementMetrics.StatementSummary> top(@Nullable Integer limit) {
+        return statementMetrics.top(limit != null ? limit : defaultLimit);
+    }
+}
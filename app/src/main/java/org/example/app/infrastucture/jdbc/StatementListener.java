@@ -0,0 +1,19 @@
+package org.example.app.infrastucture.jdbc;
+
+import java.util.function.Supplier;
+
+/**
+ * Получатель сведений о каждом выполненном SQL-выражении.
+ */
+@FunctionalInterface
+public interface StatementListener {
+
+    /**
+     * Вызывается после выполнения выражения, в том числе завершившегося ошибкой.
+     *
+     * @param sql          текст выражения
+     * @param elapsedNanos время выполнения в наносекундах
+     * @param bindShape    типы привязанных параметров без значений, например {@code [long, string, null]}
+     */
+    void statementExecuted(String sql, long elapsedNanos, Supplier<String> bindShape);
+}
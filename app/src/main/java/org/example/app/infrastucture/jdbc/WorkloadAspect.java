@@ -0,0 +1,51 @@
+package org.example.app.infrastucture.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.app.domain.repository.Workload;
+import org.example.app.domain.repository.WorkloadClass;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * Выполняет методы репозиториев, отмеченные {@link Workload}, в пределах ограничений их класса нагрузки.
+ * Аннотация на методе имеет приоритет над аннотацией на классе.
+ * Запись журнала аудита выполняет репозиторий audit-starter, который не отмечен {@link Workload},
+ * поэтому он ограничивается классом {@link WorkloadClass#AUDIT} отдельно.
+ *
+ * @see WorkloadBulkheads
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class WorkloadAspect {
+    private final WorkloadBulkheads bulkheads;
+
+    @Around("execution(public * org.example.app.domain.repository.impl..*(..)) "
+            + "&& (@annotation(org.example.app.domain.repository.Workload) "
+            + "|| @within(org.example.app.domain.repository.Workload))")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+        Method method = AopUtils.getMostSpecificMethod(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), targetClass);
+        Workload workload = AnnotatedElementUtils.findMergedAnnotation(method, Workload.class);
+        if (workload == null) {
+            workload = AnnotatedElementUtils.findMergedAnnotation(targetClass, Workload.class);
+        }
+        if (workload == null) {
+            return joinPoint.proceed();
+        }
+        return bulkheads.execute(workload.value(), joinPoint::proceed);
+    }
+
+    @Around("execution(public * org.example.auditstarter.repository.AuditLogRepository+.*(..))")
+    public Object limitAudit(ProceedingJoinPoint joinPoint) throws Throwable {
+        return bulkheads.execute(WorkloadClass.AUDIT, joinPoint::proceed);
+    }
+}
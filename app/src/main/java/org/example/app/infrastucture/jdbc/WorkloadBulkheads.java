@@ -0,0 +1,151 @@
+package org.example.app.infrastucture.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.app.application.exception.WorkloadSaturatedException;
+import org.example.app.domain.repository.WorkloadClass;
+import org.example.app.infrastucture.config.WorkloadProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Изоляция классов нагрузки на БД (bulkhead).
+ * <p>
+ * Для каждого {@link WorkloadClass} число одновременных обращений ограничивается семафором: при его исчерпании
+ * обращение отклоняется сразу или после короткого ожидания исключением {@link WorkloadSaturatedException},
+ * а не ждёт соединения до таймаута пула. Так ведут себя только потоки запросов: фоновые потоки
+ * (см. {@link WorkloadContext#isBackground()}) ждут свободного места, потому что повторить их работу некому.
+ * Классу можно выделить отдельный пул соединений HikariCP со всеми настройками общего пула (свойства драйвера,
+ * таймауты, схема, проверка соединений), кроме имени и размера; соединения выдаются из него, пока поток
+ * выполняет метод этого класса
+ * (см. {@link WorkloadContext}). Отдельные пулы открывают соединения при первом обращении.
+ * </p>
+ * Число обращений в процессе публикуется в Micrometer под именем {@value #IN_FLIGHT_METRIC_NAME},
+ * число отклонённых — под именем {@value #REJECTED_METRIC_NAME}, оба с тегом {@code workload}.
+ */
+@Slf4j
+@Component
+public class WorkloadBulkheads implements DisposableBean {
+    public static final String IN_FLIGHT_METRIC_NAME = "workload.in-flight";
+    public static final String REJECTED_METRIC_NAME = "workload.rejected";
+
+    private final WorkloadProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<WorkloadClass, Semaphore> permits = new EnumMap<>(WorkloadClass.class);
+    private final Map<WorkloadClass, HikariDataSource> pools = new EnumMap<>(WorkloadClass.class);
+
+    public WorkloadBulkheads(WorkloadProperties properties, MeterRegistry meterRegistry, HikariDataSource dataSource) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        for (WorkloadClass workloadClass : WorkloadClass.values()) {
+            WorkloadProperties.Bulkhead bulkhead = properties.get(workloadClass);
+            Semaphore semaphore = new Semaphore(bulkhead.getMaxConcurrent());
+            permits.put(workloadClass, semaphore);
+            Gauge.builder(IN_FLIGHT_METRIC_NAME, semaphore,
+                            s -> bulkhead.getMaxConcurrent() - s.availablePermits())
+                    .tag("workload", tagOf(workloadClass))
+                    .register(meterRegistry);
+
+            if (bulkhead.getPoolSize() > 0) {
+                pools.put(workloadClass, createPool(dataSource, workloadClass, bulkhead.getPoolSize()));
+            }
+        }
+
+        if (dataSource instanceof InstrumentedHikariDataSource instrumented) {
+            instrumented.setWorkloadPools(Map.copyOf(pools));
+        } else if (!pools.isEmpty()) {
+            log.warn("Отдельные пулы классов нагрузки не используются: источник данных не поддерживает маршрутизацию");
+        }
+    }
+
+    /**
+     * Выполняет обращение к БД в пределах ограничений класса нагрузки.
+     * Вложенное обращение того же класса не занимает дополнительное место.
+     * Фоновый поток ждёт свободного места без ограничения времени.
+     *
+     * @param workloadClass класс нагрузки
+     * @param call          обращение к БД
+     * @param <T>           тип результата
+     * @return результат обращения
+     * @throws WorkloadSaturatedException если все места класса заняты, или ожидание фонового потока прервано
+     */
+    public <T> T execute(WorkloadClass workloadClass, WorkloadCall<T> call) throws Throwable {
+        WorkloadClass outer = WorkloadContext.current();
+        if (outer == workloadClass) {
+            return call.proceed();
+        }
+
+        Semaphore semaphore = permits.get(workloadClass);
+        WorkloadProperties.Bulkhead bulkhead = properties.get(workloadClass);
+        if (!acquire(semaphore, bulkhead)) {
+            meterRegistry.counter(REJECTED_METRIC_NAME, "workload", tagOf(workloadClass)).increment();
+            throw new WorkloadSaturatedException(
+                    String.format("Too many concurrent %s requests, retry later", tagOf(workloadClass)),
+                    bulkhead.getRetryAfter());
+        }
+
+        WorkloadContext.set(workloadClass);
+        try {
+            return call.proceed();
+        } finally {
+            WorkloadContext.set(outer);
+            semaphore.release();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+
+    private static boolean acquire(Semaphore semaphore, WorkloadProperties.Bulkhead bulkhead) {
+        boolean background = WorkloadContext.isBackground();
+        if (!background && bulkhead.getMaxWait().isZero()) {
+            return semaphore.tryAcquire();
+        }
+        try {
+            if (background) {
+                semaphore.acquire();
+                return true;
+            }
+            return semaphore.tryAcquire(bulkhead.getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private HikariDataSource createPool(HikariDataSource dataSource, WorkloadClass workloadClass, int poolSize) {
+        HikariDataSource pool = new HikariDataSource();
+        dataSource.copyStateTo(pool);
+        pool.setPoolName("workload-" + tagOf(workloadClass));
+        pool.setMaximumPoolSize(poolSize);
+        pool.setMinimumIdle(0);
+        pool.setMetricRegistry(null);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+
+    private static String tagOf(WorkloadClass workloadClass) {
+        return workloadClass.name().toLowerCase().replace('_', '-');
+    }
+
+    /**
+     * Обращение к БД, выполняемое в пределах ограничений класса нагрузки.
+     *
+     * @param <T> тип результата
+     */
+    @FunctionalInterface
+    public interface WorkloadCall<T> {
+        T proceed() throws Throwable;
+    }
+}
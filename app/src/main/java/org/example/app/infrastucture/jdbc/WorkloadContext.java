@@ -0,0 +1,62 @@
+package org.example.app.infrastucture.jdbc;
+
+import org.example.app.domain.repository.WorkloadClass;
+
+/**
+ * Класс нагрузки, к которому относится текущее обращение потока к БД.
+ * Задаётся {@link WorkloadBulkheads} на время выполнения метода репозитория и используется
+ * {@link InstrumentedHikariDataSource} для выбора пула соединений.
+ * Также хранит признак фонового потока: обращения из него ждут свободного места класса нагрузки,
+ * а не отклоняются (см. {@link WorkloadBulkheads}).
+ */
+public final class WorkloadContext {
+    private static final ThreadLocal<WorkloadClass> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> BACKGROUND = new ThreadLocal<>();
+
+    private WorkloadContext() {
+        // Приватный конструктор для предотвращения создания экземпляров класса
+    }
+
+    /**
+     * Возвращает класс нагрузки текущего потока.
+     *
+     * @return класс нагрузки, или null, если поток не выполняет метод репозитория
+     */
+    public static WorkloadClass current() {
+        return CURRENT.get();
+    }
+
+    static void set(WorkloadClass workloadClass) {
+        if (workloadClass == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(workloadClass);
+        }
+    }
+
+    /**
+     * Проверяет, выполняет ли текущий поток фоновую работу, а не запрос пользователя.
+     *
+     * @return true, если поток помечен как фоновый
+     */
+    public static boolean isBackground() {
+        return Boolean.TRUE.equals(BACKGROUND.get());
+    }
+
+    /**
+     * Оборачивает задачу так, чтобы на время её выполнения поток считался фоновым.
+     *
+     * @param task задача фонового потока
+     * @return задача, помечающая выполняющий её поток как фоновый
+     */
+    public static Runnable inBackground(Runnable task) {
+        return () -> {
+            BACKGROUND.set(Boolean.TRUE);
+            try {
+                task.run();
+            } finally {
+                BACKGROUND.remove();
+            }
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.app.infrastucture.web;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.app.infrastucture.config.QueryStatsProperties;
+import org.example.app.infrastucture.jdbc.QueryStats;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Фильтр, собирающий статистику обращений к БД за время обработки HTTP-запроса.
+ * <p>
+ * По завершении запроса записывает метрики по эндпоинту, предупреждает о превышении допустимого
+ * числа SQL-выражений (признак N+1) и записывает в журнал медленные запросы.
+ * </p>
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class QueryStatsFilter extends OncePerRequestFilter {
+    private final QueryStatsProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryStats stats = QueryStats.begin();
+        long started = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryStats.end();
+            record(request, stats, System.nanoTime() - started);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryStats stats, long elapsedNanos) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String endpoint = request.getMethod() + " " + uri;
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder("http.server.requests.db.statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("http.server.requests.db.rows")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getRows());
+        meterRegistry.timer("http.server.requests.db.time", tags)
+                .record(stats.getDbTimeNanos(), TimeUnit.NANOSECONDS);
+
+        int budget = properties.budgetFor(endpoint);
+        if (stats.getStatements() > budget) {
+            meterRegistry.counter("http.server.requests.db.budget.exceeded", tags).increment();
+            log.warn("SQL budget exceeded for {}: {} statements (budget {}), {} rows, {} ms in DB",
+                    endpoint, stats.getStatements(), budget, stats.getRows(),
+                    TimeUnit.NANOSECONDS.toMillis(stats.getDbTimeNanos()));
+        }
+
+        if (elapsedNanos >= properties.getSlowRequestThreshold().toNanos()) {
+            log.warn("Slow request {} {}: {} ms total, {} statements, {} rows, {} ms in DB",
+                    request.getMethod(), request.getRequestURI(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    stats.getStatements(), stats.getRows(), TimeUnit.NANOSECONDS.toMillis(stats.getDbTimeNanos()));
+        }
+    }
+}
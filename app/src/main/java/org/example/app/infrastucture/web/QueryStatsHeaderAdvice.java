@@ -0,0 +1,49 @@
+package org.example.app.infrastucture.web;
+
+import org.example.app.infrastucture.jdbc.QueryStats;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Добавляет статистику обращений к БД в заголовки ответа.
+ * <p>
+ * Заголовки выставляются перед записью тела, когда обработчик уже выполнил все запросы к БД,
+ * поэтому ответы без тела их не содержат. Включается свойством {@code app.query-stats.headers-enabled}.
+ * </p>
+ */
+@ControllerAdvice
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "app.query-stats", name = "headers-enabled", havingValue = "true")
+public class QueryStatsHeaderAdvice implements ResponseBodyAdvice<Object> {
+    public static final String STATEMENTS_HEADER = "X-DB-Statements";
+    public static final String ROWS_HEADER = "X-DB-Rows";
+    public static final String TIME_HEADER = "X-DB-Time-Ms";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            response.getHeaders().set(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+            response.getHeaders().set(ROWS_HEADER, String.valueOf(stats.getRows()));
+            response.getHeaders().set(TIME_HEADER,
+                    String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getDbTimeNanos())));
+        }
+        return body;
+    }
+}
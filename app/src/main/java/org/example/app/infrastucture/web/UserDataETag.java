@@ -0,0 +1,16 @@
+package org.example.app.infrastucture.web;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Помечает GET-обработчики, ответ которых зависит только от данных пользователя из переменной пути
+ * {@code userId} и текущей даты. Для таких обработчиков {@link UserDataETagInterceptor} выдаёт ETag
+ * и отвечает {@code 304 Not Modified} без обращения к БД, если данные не менялись.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UserDataETag {
+}
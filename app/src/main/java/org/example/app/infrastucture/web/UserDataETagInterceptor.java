@@ -0,0 +1,82 @@
+package org.example.app.infrastucture.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.app.application.cache.UserDataVersions;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Обрабатывает условные GET-запросы к обработчикам, помеченным {@link UserDataETag}.
+ * <p>
+ * ETag строится из версии данных пользователя и текущей даты, так как часть ответов
+ * (расходы за месяц, прогноз достижения целей) зависит от даты. Версия читается до вызова
+ * обработчика: если данные изменятся во время обработки, клиент получит новые данные при следующем запросе.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class UserDataETagInterceptor implements HandlerInterceptor {
+    private final UserDataVersions userDataVersions;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) || !(handler instanceof HandlerMethod method)
+                || !isVersioned(method)) {
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        Long userId = parseUserId(variables != null ? variables.get("userId") : null);
+        if (userId == null) {
+            return true;
+        }
+
+        String etag = "\"" + userDataVersions.get(userId) + "-" + LocalDate.now().toEpochDay() + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && matches(ifNoneMatch, etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean isVersioned(HandlerMethod method) {
+        return method.hasMethodAnnotation(UserDataETag.class)
+                || method.getBeanType().isAnnotationPresent(UserDataETag.class);
+    }
+
+    private static Long parseUserId(String value) {
+        try {
+            return value != null ? Long.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag) || "*".equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.app.infrastucture.web;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.app.application.exception.WorkloadSaturatedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Точка входа аутентификации, отличающая перегрузку БД от неверных учётных данных.
+ * <p>
+ * Поиск пользователя при HTTP Basic выполняется в классе нагрузки точечного чтения. Если его места заняты,
+ * {@code DaoAuthenticationProvider} оборачивает {@link WorkloadSaturatedException} в
+ * {@code InternalAuthenticationServiceException}, и клиент получил бы 401 вместо повторяемой ошибки.
+ * Такой отказ отдаётся как 503 с заголовком {@code Retry-After}, как и для остальных запросов;
+ * прочие ошибки аутентификации обрабатывает исходная точка входа.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class WorkloadAwareAuthenticationEntryPoint implements AuthenticationEntryPoint {
+    private final AuthenticationEntryPoint delegate;
+
+    @Override
+    public void commence(HttpServletRequest request, HttpServletResponse response,
+                         AuthenticationException authException) throws IOException, ServletException {
+        if (authException.getCause() instanceof WorkloadSaturatedException saturated) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(saturated.getRetryAfterSeconds()));
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write(saturated.getMessage());
+            return;
+        }
+        delegate.commence(request, response, authException);
+    }
+}
@@ -7,10 +7,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.app.application.dto.BatchGetDTO;
 import org.example.app.application.dto.goal.GoalCreateDTO;
 import org.example.app.application.dto.goal.GoalDTO;
 import org.example.app.application.dto.goal.GoalEditDTO;
+import org.example.app.application.dto.goal.GoalProgressDTO;
 import org.example.app.application.service.GoalService;
+import org.example.app.infrastucture.web.UserDataETag;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -27,9 +31,11 @@ import java.util.List;
 /**
  * Контроллер для работы с целями.
  * Обрабатывает HTTP-запросы по пути "/api/goals/*" и выполняет CRUD-операции с целями.
+ * Доступен только на блокирующем узле: в профиле "reactive" не загружается.
  */
 @Validated
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/goals")
 @RequiredArgsConstructor
 @Tag(name = "Goal Management", description = "Operations pertaining to goals")
@@ -50,12 +56,27 @@ public class GoalController {
         return ResponseEntity.ok(goalDTO);
     }
 
+    @Operation(summary = "Get goals by IDs",
+            description = "Returns goals for the given IDs in request order; unknown IDs are skipped")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved goals"),
+            @ApiResponse(responseCode = "400", description = "Empty or too long list of IDs")
+    })
+    @PostMapping("/batch-get")
+    public ResponseEntity<List<GoalDTO>> batchGet(
+            @Parameter(description = "IDs of goals to be retrieved", required = true)
+            @RequestBody @Valid BatchGetDTO batchGetDTO) {
+        List<GoalDTO> goals = goalService.getAllByIds(batchGetDTO.getIds());
+        return ResponseEntity.ok(goals);
+    }
+
     @Operation(summary = "Get all goals by user ID", description = "Returns list of goals for a user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved goals"),
             @ApiResponse(responseCode = "400", description = "Invalid user ID supplied"),
             @ApiResponse(responseCode = "404", description = "No goals found for this user")
     })
+    @UserDataETag
     @GetMapping("/{userId}/user")
     public ResponseEntity<List<GoalDTO>> showAllByUser(
             @Parameter(description = "ID of user whose goals to be retrieved", required = true)
@@ -64,6 +85,20 @@ public class GoalController {
         return ResponseEntity.ok(goals);
     }
 
+    @Operation(summary = "Get goal progress by user ID",
+            description = "Returns completion percentage and projected completion date for each goal of a user")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully calculated goal progress"),
+            @ApiResponse(responseCode = "400", description = "Invalid user ID supplied")
+    })
+    @GetMapping("/{userId}/progress")
+    public ResponseEntity<List<GoalProgressDTO>> showProgressByUser(
+            @Parameter(description = "ID of user whose goal progress to be calculated", required = true)
+            @PathVariable Long userId) {
+        List<GoalProgressDTO> progress = goalService.getProgressByUser(userId);
+        return ResponseEntity.ok(progress);
+    }
+
     @Operation(summary = "Create a new goal", description = "Creates a new goal record")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Successfully created goal"),
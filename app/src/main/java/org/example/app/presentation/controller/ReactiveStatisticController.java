@@ -0,0 +1,162 @@
+package org.example.app.presentation.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.app.application.cache.CubeQuery;
+import org.example.app.application.dto.statistic.TimeSeriesPointDTO;
+import org.example.app.application.dto.statistic.TransactionAggregateDTO;
+import org.example.app.application.service.ReactiveTransactionService;
+import org.example.app.application.service.TransactionAnalyticsService;
+import org.example.app.domain.model.Category;
+import org.example.app.domain.model.TimeBucket;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Неблокирующий контроллер статистики по транзакциям для профиля "reactive".
+ * Обслуживает те же пути "/api/transactions/statistics/*", что и {@link StatisticController}.
+ * Если по запросу нет ни одной транзакции, как и в блокирующей версии, возвращается 200 с пустым телом.
+ * Агрегаты и временные ряды строятся блокирующим {@link TransactionAnalyticsService} на отдельном пуле потоков.
+ * Условные запросы (ETag, 304 Not Modified) на этом узле не поддерживаются.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/transactions/statistics")
+@RequiredArgsConstructor
+@Tag(name = "Transaction Statistics (reactive)", description = "Non-blocking operations for transaction statistics")
+public class ReactiveStatisticController {
+    private final ReactiveTransactionService transactionService;
+    private final TransactionAnalyticsService transactionAnalyticsService;
+
+    @Operation(summary = "Get total consumption for user")
+    @GetMapping("/{userId}/consumption")
+    public Mono<ResponseEntity<BigDecimal>> getConsumption(
+            @Parameter(description = "User ID", required = true)
+            @PathVariable Long userId) {
+        return toResponse(transactionService.getConsumptionByUserId(userId));
+    }
+
+    @Operation(summary = "Get total income for user")
+    @GetMapping("/{userId}/income")
+    public Mono<ResponseEntity<BigDecimal>> getIncome(
+            @Parameter(description = "User ID", required = true)
+            @PathVariable Long userId) {
+        return toResponse(transactionService.getIncomeByUserId(userId));
+    }
+
+    @Operation(summary = "Get balance for user")
+    @GetMapping("/{userId}/balance")
+    public Mono<ResponseEntity<BigDecimal>> getBalance(
+            @Parameter(description = "User ID", required = true)
+            @PathVariable Long userId) {
+        return toResponse(transactionService.getBalanceByUserId(userId));
+    }
+
+    @Operation(summary = "Get monthly consumption for user")
+    @GetMapping("/{userId}/consumption-by-month")
+    public Mono<ResponseEntity<BigDecimal>> getConsumptionByMonth(
+            @Parameter(description = "User ID", required = true)
+            @PathVariable Long userId) {
+        return toResponse(transactionService.getConsumptionByUserIdByMonth(userId));
+    }
+
+    @Operation(summary = "Get consumption for period")
+    @GetMapping("/{userId}/consumption-by-period")
+    public Mono<ResponseEntity<BigDecimal>> getConsumptionByPeriod(
+            @Parameter(description = "User ID", required = true)
+            @PathVariable Long userId,
+            @Parameter(description = "Start date (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return toResponse(transactionService.getConsumptionByUserIdByPeriodDate(userId, startDate, endDate));
+    }
+
+    @Operation(summary = "Get income for period")
+    @GetMapping("/{userId}/income-by-period")
+    public Mono<ResponseEntity<BigDecimal>> getIncomeByPeriod(
+            @Parameter(description = "User ID", required = true)
+            @PathVariable Long userId,
+            @Parameter(description = "Start date (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return toResponse(transactionService.getIncomeByUserIdByPeriodDate(userId, startDate, endDate));
+    }
+
+    @Operation(summary = "Get consumption by category")
+    @GetMapping("/{userId}/consumption-by-category")
+    public Mono<ResponseEntity<BigDecimal>> getConsumptionByCategory(
+            @Parameter(description = "User ID", required = true)
+            @PathVariable Long userId,
+            @Parameter(description = "Transaction category", required = true)
+            @RequestParam Category category) {
+        return toResponse(transactionService.getConsumptionByUserIdByCategory(userId, category));
+    }
+
+    @Operation(summary = "Get transaction aggregate",
+            description = "Returns income, expense, net amount and count of user transactions, optionally "
+                    + "filtered by period, categories and income flag and grouped by day, week or month and category")
+    @GetMapping("/{userId}/aggregate")
+    public Mono<ResponseEntity<List<TransactionAggregateDTO>>> getAggregate(
+            @Parameter(description = "User ID", required = true)
+            @PathVariable Long userId,
+            @Parameter(description = "Start date inclusive (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "End date exclusive (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Time grouping: NONE, DAY, WEEK or MONTH")
+            @RequestParam(defaultValue = "NONE") CubeQuery.Granularity granularity,
+            @Parameter(description = "Group by category")
+            @RequestParam(defaultValue = "false") boolean byCategory,
+            @Parameter(description = "Categories to include; all categories when omitted")
+            @RequestParam(required = false) Set<Category> category,
+            @Parameter(description = "Only income (true) or only expense (false) transactions")
+            @RequestParam(required = false) Boolean income) {
+        CubeQuery query = new CubeQuery(from, to, granularity, byCategory, category, income);
+        return Mono.fromCallable(() -> transactionAnalyticsService.aggregate(userId, query))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Get consumption time series",
+            description = "Returns user consumption grouped by day, week or month within a date range; "
+                    + "periods without consumption are returned with zero amount")
+    @GetMapping("/{userId}/timeseries")
+    public Mono<ResponseEntity<List<TimeSeriesPointDTO>>> getTimeSeries(
+            @Parameter(description = "User ID", required = true)
+            @PathVariable Long userId,
+            @Parameter(description = "Time grouping: day, week or month")
+            @RequestParam(defaultValue = "MONTH") TimeBucket granularity,
+            @Parameter(description = "Start date inclusive (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "End date exclusive (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Transaction category; all categories when omitted")
+            @RequestParam(required = false) Category category) {
+        return Mono.fromCallable(() -> transactionAnalyticsService.getConsumptionTimeSeries(
+                        userId, granularity, from, to, category))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+
+    private Mono<ResponseEntity<BigDecimal>> toResponse(Mono<BigDecimal> value) {
+        return value.map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.ok().build());
+    }
+}
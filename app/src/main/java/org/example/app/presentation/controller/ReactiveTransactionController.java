@@ -0,0 +1,126 @@
+package org.example.app.presentation.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.app.application.dto.BatchGetDTO;
+import org.example.app.application.dto.transaction.TransactionCreateDTO;
+import org.example.app.application.dto.transaction.TransactionDTO;
+import org.example.app.application.dto.transaction.TransactionEditDTO;
+import org.example.app.application.service.ReactiveTransactionService;
+import org.example.app.application.service.TransactionService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * Неблокирующий контроллер транзакций для профиля "reactive".
+ * Обслуживает те же пути "/api/transactions/*", что и {@link TransactionController}.
+ * Чтение выполняется через R2DBC; списки можно получать потоком в формате
+ * "application/x-ndjson". Операции записи и пакетное чтение делегируются блокирующему {@link TransactionService}
+ * на отдельном пуле потоков, чтобы не занимать потоки event loop.
+ * Условные запросы (ETag, 304 Not Modified) на этом узле не поддерживаются.
+ */
+@Validated
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/transactions")
+@RequiredArgsConstructor
+@Tag(name = "Transaction Management (reactive)", description = "Non-blocking operations pertaining to transactions")
+public class ReactiveTransactionController {
+    private final ReactiveTransactionService reactiveTransactionService;
+    private final TransactionService transactionService;
+
+    @Operation(summary = "Get all transactions", description = "Streams all transactions")
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TransactionDTO> getAll() {
+        return reactiveTransactionService.getAll();
+    }
+
+    @Operation(summary = "Get transaction by ID", description = "Returns a single transaction by its ID")
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<TransactionDTO>> show(
+            @Parameter(description = "ID of transaction to be retrieved", required = true)
+            @PathVariable Long id) {
+        return reactiveTransactionService.getById(id)
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Get transactions by IDs",
+            description = "Returns transactions for the given IDs in request order; unknown IDs are skipped")
+    @PostMapping("/batch-get")
+    public Mono<ResponseEntity<List<TransactionDTO>>> batchGet(
+            @Parameter(description = "IDs of transactions to be retrieved", required = true)
+            @RequestBody @Valid BatchGetDTO batchGetDTO) {
+        return Mono.fromCallable(() -> transactionService.getAllByIds(batchGetDTO.getIds()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Get all transactions by user ID", description = "Streams all transactions for a specific user")
+    @GetMapping(value = "/{userId}/user/", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TransactionDTO> showAllByUserId(
+            @Parameter(description = "ID of user whose transactions to be retrieved", required = true)
+            @PathVariable(value = "userId") Long userId) {
+        return reactiveTransactionService.getAllByUserId(userId);
+    }
+
+    @Operation(summary = "Create a new transaction",
+            description = "Creates a new transaction record. Retries with the same Idempotency-Key "
+                    + "return the original response without creating another transaction")
+    @PostMapping
+    public Mono<ResponseEntity<String>> create(
+            @Parameter(description = "Transaction object that needs to be created", required = true)
+            @RequestBody @Valid TransactionCreateDTO createDTO,
+            @Parameter(description = "Client-generated key that makes retries of this request safe")
+            @RequestHeader(value = TransactionController.IDEMPOTENCY_KEY_HEADER, required = false)
+            String idempotencyKey) {
+        return Mono.fromCallable(() -> idempotencyKey != null
+                        ? transactionService.create(createDTO, idempotencyKey)
+                        : transactionService.create(createDTO))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(id -> ResponseEntity
+                        .status(HttpStatus.CREATED)
+                        .body("Transaction added"));
+    }
+
+    @Operation(summary = "Update an existing transaction", description = "Updates transaction data")
+    @PostMapping("/{id}")
+    public Mono<ResponseEntity<String>> update(
+            @Parameter(description = "ID of transaction to be updated", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Updated transaction data", required = true)
+            @RequestBody @Valid TransactionEditDTO editDTO) {
+        editDTO.setId(id);
+        return Mono.fromRunnable(() -> transactionService.update(editDTO))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(Mono.just(ResponseEntity.ok("Transaction updated successfully")));
+    }
+
+    @Operation(summary = "Delete a transaction", description = "Deletes a transaction by ID")
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(
+            @Parameter(description = "ID of transaction to be deleted", required = true)
+            @PathVariable Long id) {
+        return Mono.fromRunnable(() -> transactionService.delete(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(Mono.just(ResponseEntity.notFound().<Void>build()));
+    }
+}
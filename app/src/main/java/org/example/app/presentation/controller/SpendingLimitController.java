@@ -7,10 +7,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.app.application.dto.BatchGetDTO;
 import org.example.app.application.dto.limit.SpendingLimitCreateDTO;
 import org.example.app.application.dto.limit.SpendingLimitDTO;
 import org.example.app.application.dto.limit.SpendingLimitEditDTO;
 import org.example.app.application.service.SpendingLimitService;
+import org.example.app.infrastucture.web.UserDataETag;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -27,9 +30,11 @@ import java.util.List;
 /**
  * Контроллер для работы с лимитами расходов.
  * Обрабатывает HTTP-запросы по пути "/api/limits/*" и выполняет CRUD-операции с лимитами.
+ * Доступен только на блокирующем узле: в профиле "reactive" не загружается.
  */
 @Validated
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/limits")
 @RequiredArgsConstructor
 @Tag(name = "Spending Limit Management", description = "Operations pertaining to spending limits")
@@ -50,6 +55,20 @@ public class SpendingLimitController {
         return ResponseEntity.ok(limitDTO);
     }
 
+    @Operation(summary = "Get spending limits by IDs",
+            description = "Returns spending limits for the given IDs in request order; unknown IDs are skipped")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved spending limits"),
+            @ApiResponse(responseCode = "400", description = "Empty or too long list of IDs")
+    })
+    @PostMapping("/batch-get")
+    public ResponseEntity<List<SpendingLimitDTO>> batchGet(
+            @Parameter(description = "IDs of spending limits to be retrieved", required = true)
+            @RequestBody @Valid BatchGetDTO batchGetDTO) {
+        List<SpendingLimitDTO> limits = spendingLimitService.getAllByIds(batchGetDTO.getIds());
+        return ResponseEntity.ok(limits);
+    }
+
     @Operation(summary = "Get all spending limits by user ID",
             description = "Returns list of spending limits for a user")
     @ApiResponses(value = {
@@ -57,6 +76,7 @@ public class SpendingLimitController {
             @ApiResponse(responseCode = "400", description = "Invalid user ID supplied"),
             @ApiResponse(responseCode = "404", description = "No limits found for this user")
     })
+    @UserDataETag
     @GetMapping("/{userId}/user")
     public ResponseEntity<List<SpendingLimitDTO>> showAllByUser(
             @Parameter(description = "ID of user whose limits to be retrieved", required = true)
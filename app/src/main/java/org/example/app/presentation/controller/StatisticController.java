@@ -6,8 +6,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.example.app.application.cache.CubeQuery;
+import org.example.app.application.dto.statistic.TimeSeriesPointDTO;
+import org.example.app.application.dto.statistic.TransactionAggregateDTO;
+import org.example.app.application.service.TransactionAnalyticsService;
 import org.example.app.application.service.TransactionService;
 import org.example.app.domain.model.Category;
+import org.example.app.domain.model.TimeBucket;
+import org.example.app.infrastucture.web.UserDataETag;
+import org.springframework.context.annotation.Profile;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,6 +25,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Контроллер для работы со статистикой по транзакциям.
@@ -25,11 +34,14 @@ import java.time.LocalDate;
  * Предоставляет различные методы для получения статистических данных о транзакциях пользователя.
  */
 @RestController
+@UserDataETag
+@Profile("!reactive")
 @RequestMapping("/api/transactions/statistics")
 @RequiredArgsConstructor
 @Tag(name = "Transaction Statistics", description = "Operations for transaction statistics")
 public class StatisticController {
     private final TransactionService transactionService;
+    private final TransactionAnalyticsService transactionAnalyticsService;
 
     @Operation(summary = "Get total consumption for user",
             description = "Returns the total consumption amount for a specific user")
@@ -138,4 +150,54 @@ public class StatisticController {
         BigDecimal consumption = transactionService.getConsumptionByUserIdByCategory(userId, category);
         return ResponseEntity.ok(consumption);
     }
+
+    @Operation(summary = "Get transaction aggregate",
+            description = "Returns income, expense, net amount and count of user transactions, optionally "
+                    + "filtered by period, categories and income flag and grouped by day, week or month and category")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully calculated aggregate"),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters")
+    })
+    @GetMapping("/{userId}/aggregate")
+    public ResponseEntity<List<TransactionAggregateDTO>> getAggregate(
+            @Parameter(description = "User ID", required = true)
+            @PathVariable Long userId,
+            @Parameter(description = "Start date inclusive (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "End date exclusive (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Time grouping: NONE, DAY, WEEK or MONTH")
+            @RequestParam(defaultValue = "NONE") CubeQuery.Granularity granularity,
+            @Parameter(description = "Group by category")
+            @RequestParam(defaultValue = "false") boolean byCategory,
+            @Parameter(description = "Categories to include; all categories when omitted")
+            @RequestParam(required = false) Set<Category> category,
+            @Parameter(description = "Only income (true) or only expense (false) transactions")
+            @RequestParam(required = false) Boolean income) {
+        CubeQuery query = new CubeQuery(from, to, granularity, byCategory, category, income);
+        return ResponseEntity.ok(transactionAnalyticsService.aggregate(userId, query));
+    }
+
+    @Operation(summary = "Get consumption time series",
+            description = "Returns user consumption grouped by day, week or month within a date range; "
+                    + "periods without consumption are returned with zero amount")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved time series"),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters")
+    })
+    @GetMapping("/{userId}/timeseries")
+    public ResponseEntity<List<TimeSeriesPointDTO>> getTimeSeries(
+            @Parameter(description = "User ID", required = true)
+            @PathVariable Long userId,
+            @Parameter(description = "Time grouping: day, week or month")
+            @RequestParam(defaultValue = "MONTH") TimeBucket granularity,
+            @Parameter(description = "Start date inclusive (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "End date exclusive (yyyy-MM-dd)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Transaction category; all categories when omitted")
+            @RequestParam(required = false) Category category) {
+        return ResponseEntity.ok(transactionAnalyticsService.getConsumptionTimeSeries(
+                userId, granularity, from, to, category));
+    }
 }
@@ -7,10 +7,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.app.application.dto.BatchGetDTO;
 import org.example.app.application.dto.transaction.TransactionCreateDTO;
 import org.example.app.application.dto.transaction.TransactionDTO;
 import org.example.app.application.dto.transaction.TransactionEditDTO;
 import org.example.app.application.service.TransactionService;
+import org.example.app.infrastucture.web.UserDataETag;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -19,6 +22,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -30,10 +34,13 @@ import java.util.List;
  */
 @Validated
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/transactions")
 @RequiredArgsConstructor
 @Tag(name = "Transaction Management", description = "Operations pertaining to transactions")
 public class TransactionController {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final TransactionService transactionService;
 
     @Operation(summary = "Get all transactions",
@@ -62,6 +69,20 @@ public class TransactionController {
         return ResponseEntity.ok(transaction);
     }
 
+    @Operation(summary = "Get transactions by IDs",
+            description = "Returns transactions for the given IDs in request order; unknown IDs are skipped")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved transactions"),
+            @ApiResponse(responseCode = "400", description = "Empty or too long list of IDs")
+    })
+    @PostMapping("/batch-get")
+    public ResponseEntity<List<TransactionDTO>> batchGet(
+            @Parameter(description = "IDs of transactions to be retrieved", required = true)
+            @RequestBody @Valid BatchGetDTO batchGetDTO) {
+        List<TransactionDTO> transactions = transactionService.getAllByIds(batchGetDTO.getIds());
+        return ResponseEntity.ok(transactions);
+    }
+
     @Operation(summary = "Get all transactions by user ID",
             description = "Returns all transactions for a specific user")
     @ApiResponses(value = {
@@ -69,6 +90,7 @@ public class TransactionController {
             @ApiResponse(responseCode = "400", description = "Invalid user ID supplied"),
             @ApiResponse(responseCode = "404", description = "No transactions found for this user")
     })
+    @UserDataETag
     @GetMapping("/{userId}/user/")
     public ResponseEntity<List<TransactionDTO>> showAllByUserId(
             @Parameter(description = "ID of user whose transactions to be retrieved", required = true)
@@ -78,16 +100,24 @@ public class TransactionController {
     }
 
     @Operation(summary = "Create a new transaction",
-            description = "Creates a new transaction record")
+            description = "Creates a new transaction record. Retries with the same Idempotency-Key "
+                    + "return the original response without creating another transaction")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Successfully created transaction"),
-            @ApiResponse(responseCode = "400", description = "Invalid input")
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid input or idempotency key reused for a different request")
     })
     @PostMapping
     public ResponseEntity<String> create(
             @Parameter(description = "Transaction object that needs to be created", required = true)
-            @RequestBody @Valid TransactionCreateDTO createDTO) {
-        transactionService.create(createDTO);
+            @RequestBody @Valid TransactionCreateDTO createDTO,
+            @Parameter(description = "Client-generated key that makes retries of this request safe")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey != null) {
+            transactionService.create(createDTO, idempotencyKey);
+        } else {
+            transactionService.create(createDTO);
+        }
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body("Transaction added");
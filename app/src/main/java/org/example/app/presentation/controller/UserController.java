@@ -12,7 +12,9 @@ import org.example.app.application.dto.AuthDTO;
 import org.example.app.application.dto.user.UserCreateDTO;
 import org.example.app.application.dto.user.UserDTO;
 import org.example.app.application.dto.user.UserEditDTO;
+import org.example.app.application.dto.user.UserErasureDTO;
 import org.example.app.application.service.UserService;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -24,15 +26,18 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.net.URI;
 import java.util.List;
 
 /**
  * Контроллер для работы с пользователями.
  * Обрабатывает HTTP-запросы по пути "/api/users/*" и выполняет операции:
  * регистрацию, аутентификацию, управление пользователями.
+ * Доступен только на блокирующем узле: в профиле "reactive" не загружается.
  */
 @Validated
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
 @Tag(name = "User Management", description = "Endpoints for managing users")
@@ -124,17 +129,34 @@ public class UserController {
     }
 
     @Operation(summary = "Delete user",
-            description = "Deletes a user account")
+            description = "Starts background deletion of a user account together with all of its data")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "204", description = "Successfully deleted user"),
+            @ApiResponse(responseCode = "202", description = "User deletion started"),
             @ApiResponse(responseCode = "400", description = "Invalid ID supplied"),
             @ApiResponse(responseCode = "404", description = "User not found")
     })
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(
+    public ResponseEntity<UserErasureDTO> delete(
             @Parameter(description = "ID of user to be deleted", required = true)
             @PathVariable Long id) {
-        userService.delete(id);
-        return ResponseEntity.noContent().build();
+        UserErasureDTO erasure = userService.delete(id);
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/api/users/" + id + "/erasure"))
+                .body(erasure);
+    }
+
+    @Operation(summary = "Get user deletion progress",
+            description = "Returns the status and the number of deleted records of a user deletion")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved deletion progress"),
+            @ApiResponse(responseCode = "400", description = "Invalid ID supplied"),
+            @ApiResponse(responseCode = "404", description = "User deletion not found")
+    })
+    @GetMapping("/{id}/erasure")
+    public ResponseEntity<UserErasureDTO> erasure(
+            @Parameter(description = "ID of user being deleted", required = true)
+            @PathVariable Long id) {
+        return ResponseEntity.ok(userService.getErasure(id));
     }
 }
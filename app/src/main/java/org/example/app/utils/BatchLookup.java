@@ -0,0 +1,49 @@
+package org.example.app.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Вспомогательный класс для пакетного получения сущностей по списку идентификаторов.
+ */
+public final class BatchLookup {
+    /**
+     * Максимальное число идентификаторов в одном пакетном запросе.
+     */
+    public static final int MAX_IDS = 100;
+
+    private BatchLookup() {
+        // Приватный конструктор для предотвращения создания экземпляров класса
+    }
+
+    /**
+     * Возвращает найденные сущности в порядке запрошенных идентификаторов.
+     * Повторяющиеся идентификаторы учитываются один раз, отсутствующие пропускаются.
+     *
+     * @param ids   запрошенные идентификаторы
+     * @param found сущности, найденные в БД в произвольном порядке
+     * @param idOf  функция получения идентификатора сущности
+     * @param <T>   тип сущности
+     * @return сущности в порядке запрошенных идентификаторов
+     */
+    public static <T> List<T> inRequestOrder(Collection<Long> ids, List<T> found, Function<T, Long> idOf) {
+        Map<Long, T> byId = new HashMap<>();
+        for (T entity : found) {
+            byId.put(idOf.apply(entity), entity);
+        }
+
+        List<T> result = new ArrayList<>(byId.size());
+        for (Long id : new LinkedHashSet<>(ids)) {
+            T entity = byId.get(id);
+            if (entity != null) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+}
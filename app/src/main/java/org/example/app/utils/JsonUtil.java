@@ -2,16 +2,32 @@ package org.example.app.utils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import lombok.Getter;
+import org.example.app.utils.jackson.FastWritersModule;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+/**
+ * {@link ObjectMapper} для кода вне контекста Spring, настроенный так же, как общий mapper приложения.
+ */
 @Getter
 public class JsonUtil {
     private final ObjectMapper objectMapper;
 
     public JsonUtil() {
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
-        this.objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        this.objectMapper = configure(Jackson2ObjectMapperBuilder.json()).build();
+    }
+
+    /**
+     * Применяет к построителю настройки приложения: модули JavaTime, Blackbird и сериализаторы без
+     * промежуточных строк, запись дат строками ISO-8601.
+     *
+     * @param builder построитель {@link ObjectMapper}
+     * @return тот же построитель
+     */
+    public static Jackson2ObjectMapperBuilder configure(Jackson2ObjectMapperBuilder builder) {
+        return builder
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new BlackbirdModule(), new FastWritersModule());
     }
 }
@@ -0,0 +1,72 @@
+package org.example.app.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Денежные суммы в копейках ({@code long}) для агрегаций в памяти.
+ * <p>
+ * Столбцы сумм имеют тип {@code DECIMAL(10,2)}, поэтому любая сумма точно представима целым числом копеек.
+ * Суммирование в {@code long} не выделяет объект на каждое слагаемое, в отличие от {@link BigDecimal}.
+ * Все арифметические операции проверяют переполнение и бросают {@link ArithmeticException}.
+ * Преобразование в {@link BigDecimal} выполняется только на границе API.
+ * </p>
+ */
+public final class Money {
+    /**
+     * Число знаков после запятой в денежных суммах.
+     */
+    public static final int SCALE = 2;
+
+    private Money() {
+        // Приватный конструктор для предотвращения создания экземпляров класса
+    }
+
+    /**
+     * Точно переводит сумму в копейки.
+     *
+     * @param amount сумма с не более чем двумя знаками после запятой
+     * @return сумма в копейках
+     * @throws ArithmeticException если сумма имеет больше двух знаков после запятой или не помещается в long
+     */
+    public static long toMinor(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Переводит сумму в копейках в {@link BigDecimal} с двумя знаками после запятой.
+     *
+     * @param minor сумма в копейках
+     * @return сумма
+     */
+    public static BigDecimal toBigDecimal(long minor) {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+
+    /**
+     * Складывает суммы в копейках.
+     *
+     * @throws ArithmeticException при переполнении
+     */
+    public static long add(long left, long right) {
+        return Math.addExact(left, right);
+    }
+
+    /**
+     * Вычитает суммы в копейках.
+     *
+     * @throws ArithmeticException при переполнении
+     */
+    public static long subtract(long left, long right) {
+        return Math.subtractExact(left, right);
+    }
+
+    /**
+     * Меняет знак суммы в копейках.
+     *
+     * @throws ArithmeticException при переполнении
+     */
+    public static long negate(long minor) {
+        return Math.negateExact(minor);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.app.utils.jackson;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.NumberSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Сериализатор {@link BigDecimal}, записывающий денежные суммы в JSON без промежуточной строки.
+ * <p>
+ * Значения с точностью и масштабом до 18 знаков форматируются в переиспользуемый буфер потока
+ * и передаются генератору как готовое число. Остальные значения, бинарные форматы и поля
+ * с {@code @JsonFormat} обрабатываются стандартным сериализатором Jackson.
+ * </p>
+ */
+public class DecimalSerializer extends StdScalarSerializer<BigDecimal> implements ContextualSerializer {
+    private static final int MAX_DIGITS = 18;
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[MAX_DIGITS + 3]);
+
+    public DecimalSerializer() {
+        super(BigDecimal.class);
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
+            throws JsonMappingException {
+        JsonFormat.Value format = findFormatOverrides(prov, property, handledType());
+        if (format != null && format.getShape() != JsonFormat.Shape.ANY) {
+            return new NumberSerializer(BigDecimal.class).createContextual(prov, property);
+        }
+        return this;
+    }
+
+    @Override
+    public void serialize(BigDecimal value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        int scale = value.scale();
+        if (!gen.canWriteFormattedNumbers() || scale < 0 || scale > MAX_DIGITS || value.precision() > MAX_DIGITS) {
+            gen.writeNumber(value);
+            return;
+        }
+
+        char[] buffer = BUFFER.get();
+        int length = format(value.unscaledValue().longValue(), scale, buffer);
+        gen.writeNumber(buffer, buffer.length - length, length);
+    }
+
+    /**
+     * Записывает число {@code unscaled * 10^-scale} в конец буфера.
+     *
+     * @return количество записанных символов
+     */
+    static int format(long unscaled, int scale, char[] buffer) {
+        boolean negative = unscaled < 0;
+        long rest = Math.abs(unscaled);
+        int position = buffer.length;
+        int digits = 0;
+
+        do {
+            buffer[--position] = (char) ('0' + rest % 10);
+            rest /= 10;
+            if (++digits == scale) {
+                buffer[--position] = '.';
+            }
+        } while (rest != 0 || digits < scale);
+
+        if (buffer[position] == '.') {
+            buffer[--position] = '0';
+        }
+        if (negative) {
+            buffer[--position] = '-';
+        }
+        return buffer.length - position;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.app.utils.jackson;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Модуль Jackson с сериализаторами {@link BigDecimal} и {@link LocalDate}, не создающими промежуточных строк.
+ * Регистрируется после {@code JavaTimeModule} и замещает его сериализатор дат.
+ */
+public class FastWritersModule extends SimpleModule {
+
+    public FastWritersModule() {
+        super(FastWritersModule.class.getSimpleName());
+        addSerializer(BigDecimal.class, new DecimalSerializer());
+        addSerializer(LocalDate.class, new IsoDateSerializer());
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.app.utils.jackson;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Сериализатор {@link LocalDate} в формат {@code yyyy-MM-dd} без промежуточной строки.
+ * <p>
+ * Дата записывается в переиспользуемый буфер потока. Даты вне диапазона 0000–9999 годов, запись дат
+ * числами ({@link SerializationFeature#WRITE_DATES_AS_TIMESTAMPS}) и поля с {@code @JsonFormat}
+ * обрабатываются стандартным {@link LocalDateSerializer}.
+ * </p>
+ */
+public class IsoDateSerializer extends StdScalarSerializer<LocalDate> implements ContextualSerializer {
+    private static final int LENGTH = 10;
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[LENGTH]);
+
+    public IsoDateSerializer() {
+        super(LocalDate.class);
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
+            throws JsonMappingException {
+        JsonFormat.Value format = findFormatOverrides(prov, property, handledType());
+        if (format != null && (format.hasPattern() || format.getShape() != JsonFormat.Shape.ANY)) {
+            return LocalDateSerializer.INSTANCE.createContextual(prov, property);
+        }
+        return this;
+    }
+
+    @Override
+    public void serialize(LocalDate value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        int year = value.getYear();
+        if (year < 0 || year > 9999 || provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            LocalDateSerializer.INSTANCE.serialize(value, gen, provider);
+            return;
+        }
+
+        char[] buffer = BUFFER.get();
+        writeDigits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, value.getMonthValue(), 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, value.getDayOfMonth(), 2);
+        gen.writeString(buffer, 0, LENGTH);
+    }
+
+    private static void writeDigits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -7,9 +7,18 @@ public final class GoalSqlQueries {
     public static final String FIND_ALL = "SELECT * FROM financial_tracker.goals";
     public static final String FIND_BY_USER_ID = "SELECT * FROM financial_tracker.goals WHERE user_id = ?";
     public static final String FIND_BY_ID = "SELECT * FROM financial_tracker.goals WHERE id = ?";
+    public static final String FIND_ALL_BY_IDS = "SELECT * FROM financial_tracker.goals WHERE id = ANY(?)";
     public static final String SAVE = "INSERT INTO financial_tracker.goals (user_id, description, target_amount) VALUES (?, ?, ?)";
-    public static final String UPDATE = "UPDATE financial_tracker.goals SET description = ?, target_amount = ?, user_id = ? WHERE id = ?";
-    public static final String DELETE_BY_ID = "DELETE FROM financial_tracker.goals WHERE id = ?";
+    public static final String UPDATE = "UPDATE financial_tracker.goals g " +
+            "SET description = ?, target_amount = ?, user_id = ?, version = g.version + 1 " +
+            "FROM (SELECT * FROM financial_tracker.goals WHERE id = ? FOR UPDATE) old " +
+            "WHERE g.id = old.id AND g.version = COALESCE(?, g.version) " +
+            "RETURNING old.*, g.version AS new_version";
+    public static final String DELETE_BY_ID = "DELETE FROM financial_tracker.goals WHERE id = ? " +
+            "RETURNING user_id";
+    public static final String DELETE_BATCH_BY_USER_ID = "DELETE FROM financial_tracker.goals " +
+            "WHERE id IN (SELECT id FROM financial_tracker.goals WHERE user_id = ? LIMIT ?)";
+    public static final String DELETE_ALL_BY_USER_ID = "DELETE FROM financial_tracker.goals WHERE user_id = ?";
 
     private GoalSqlQueries() {
         // Приватный конструктор для предотвращения создания экземпляров класса
@@ -0,0 +1,26 @@
+package org.example.app.utils.queries;
+
+/**
+ * Класс с SQL-запросами для работы с ключами идемпотентности.
+ * Срок жизни ключа передаётся в секундах и отсчитывается по часам БД.
+ */
+public final class IdempotencyKeySqlQueries {
+    public static final String SAVE = "INSERT INTO financial_tracker.idempotency_keys " +
+            "(user_id, idempotency_key, request_hash, transaction_id, created_at) " +
+            "VALUES (?, ?, ?, ?, now()) " +
+            "ON CONFLICT (user_id, idempotency_key) DO UPDATE " +
+            "SET request_hash = EXCLUDED.request_hash, " +
+            "transaction_id = EXCLUDED.transaction_id, " +
+            "created_at = EXCLUDED.created_at " +
+            "WHERE financial_tracker.idempotency_keys.created_at < now() - ? * interval '1 second'";
+    public static final String FIND_LIVE = "SELECT * " +
+            "FROM financial_tracker.idempotency_keys " +
+            "WHERE user_id = ? AND idempotency_key = ? " +
+            "AND created_at >= now() - ? * interval '1 second'";
+    public static final String DELETE_EXPIRED = "DELETE FROM financial_tracker.idempotency_keys " +
+            "WHERE created_at < now() - ? * interval '1 second'";
+
+    private IdempotencyKeySqlQueries() {
+        // Приватный конструктор для предотвращения создания экземпляров класса
+    }
+}
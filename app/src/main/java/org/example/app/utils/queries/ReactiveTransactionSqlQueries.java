@@ -0,0 +1,43 @@
+package org.example.app.utils.queries;
+
+/**
+ * Класс с SQL-запросами для неблокирующего (R2DBC) доступа к транзакциям.
+ * Драйвер R2DBC не поддерживает позиционные параметры "?", поэтому запросы
+ * используют именованные параметры, которые {@code DatabaseClient} транслирует в "$n".
+ */
+public final class ReactiveTransactionSqlQueries {
+    public static final String FIND_ALL = "SELECT * FROM financial_tracker.transactions";
+    public static final String FIND_BY_ID = "SELECT * FROM financial_tracker.transactions WHERE id = :id";
+    public static final String FIND_BY_USER_ID = "SELECT * FROM financial_tracker.transactions WHERE user_id = :userId";
+
+    public static final String SUM_BY_USER_ID_AND_INCOME = "SELECT SUM(amount) AS result " +
+            "FROM financial_tracker.transactions " +
+            "WHERE user_id = :userId " +
+            "AND is_income = :income";
+    public static final String SUM_BY_USER_ID_AND_INCOME_BY_PERIOD = "SELECT SUM(amount) AS result " +
+            "FROM financial_tracker.transactions " +
+            "WHERE user_id = :userId " +
+            "AND is_income = :income " +
+            "AND date >= :startDate AND date < :endDate";
+
+    public static final String FIND_BY_USER_ID_AND_DATE = "SELECT * " +
+            "FROM financial_tracker.transactions " +
+            "WHERE user_id = :userId " +
+            "AND date = :date";
+    public static final String FIND_BY_USER_ID_AND_CATEGORY = "SELECT * " +
+            "FROM financial_tracker.transactions " +
+            "WHERE user_id = :userId " +
+            "AND category = :category";
+    public static final String FIND_BY_USER_ID_AND_INCOME = "SELECT * " +
+            "FROM financial_tracker.transactions " +
+            "WHERE user_id = :userId " +
+            "AND is_income = :income";
+    public static final String GET_CONSUMPTION_BY_USER_ID_AND_CATEGORY = "SELECT SUM(amount) AS result " +
+            "FROM financial_tracker.transactions " +
+            "WHERE user_id = :userId " +
+            "AND category = :category";
+
+    private ReactiveTransactionSqlQueries() {
+        // Приватный конструктор для предотвращения создания экземпляров класса
+    }
+}
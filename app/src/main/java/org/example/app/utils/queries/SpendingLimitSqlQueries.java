@@ -8,12 +8,23 @@ public final class SpendingLimitSqlQueries {
             "SELECT * FROM financial_tracker.spending_limits WHERE is_active = ? AND user_id = ?";
     public static final String FIND_BY_ID =
             "SELECT * FROM financial_tracker.spending_limits WHERE id = ?";
+    public static final String FIND_ALL_BY_IDS =
+            "SELECT * FROM financial_tracker.spending_limits WHERE id = ANY(?)";
     public static final String SAVE =
             "INSERT INTO financial_tracker.spending_limits (user_id, limit_amount, is_active) VALUES (?, ?, ?)";
     public static final String UPDATE =
-            "UPDATE financial_tracker.spending_limits SET user_id = ?, limit_amount = ?, is_active = ? WHERE id = ?";
+            "UPDATE financial_tracker.spending_limits l " +
+                    "SET user_id = ?, limit_amount = ?, is_active = ?, version = l.version + 1 " +
+                    "FROM (SELECT * FROM financial_tracker.spending_limits WHERE id = ? FOR UPDATE) old " +
+                    "WHERE l.id = old.id AND l.version = COALESCE(?, l.version) " +
+                    "RETURNING old.*, l.version AS new_version";
     public static final String DELETE_BY_ID =
-            "DELETE FROM financial_tracker.spending_limits WHERE id = ?";
+            "DELETE FROM financial_tracker.spending_limits WHERE id = ? " +
+                    "RETURNING user_id";
+    public static final String DELETE_BATCH_BY_USER_ID =
+            "DELETE FROM financial_tracker.spending_limits " +
+                    "WHERE id IN (SELECT id FROM financial_tracker.spending_limits WHERE user_id = ? LIMIT ?)";
+    public static final String DELETE_ALL_BY_USER_ID = "DELETE FROM financial_tracker.spending_limits WHERE user_id = ?";
 
     private SpendingLimitSqlQueries() {
         // Приватный конструктор для предотвращения создания экземпляров класса
@@ -0,0 +1,34 @@
+package org.example.app.utils.queries;
+
+/**
+ * Класс с SQL-запросами для работы с outbox изменений транзакций.
+ * Позиция в outbox задаётся идентификатором транзакции БД (тип {@code xid8}, передаётся строкой)
+ * и идентификатором записи; срок хранения записей передаётся в секундах.
+ */
+public final class TransactionOutboxSqlQueries {
+    public static final String SAVE = "INSERT INTO financial_tracker.transaction_outbox " +
+            "(transaction_id, change_type, " +
+            "old_user_id, old_amount, old_category, old_date, old_is_income, " +
+            "new_user_id, new_amount, new_category, new_date, new_is_income, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, now())";
+    public static final String FIND_AFTER = "SELECT *, tx_id::text AS tx_id_text " +
+            "FROM financial_tracker.transaction_outbox " +
+            "WHERE (tx_id, id) > (CAST(? AS xid8), ?) " +
+            "AND tx_id < pg_snapshot_xmin(pg_current_snapshot()) " +
+            "ORDER BY tx_id, id " +
+            "LIMIT ?";
+    public static final String CURRENT_POSITION = "SELECT pg_snapshot_xmin(pg_current_snapshot())::text AS tx_id";
+    public static final String CURRENT_SNAPSHOT = "SELECT pg_current_snapshot()::text AS snapshot";
+    public static final String CLAIM_NOTIFICATION = "UPDATE financial_tracker.transaction_outbox " +
+            "SET notified_at = now() " +
+            "WHERE id = ? AND notified_at IS NULL";
+    public static final String FIND_IDS_BY_USER_ID = "SELECT id " +
+            "FROM financial_tracker.transaction_outbox " +
+            "WHERE old_user_id = ? OR new_user_id = ?";
+    public static final String DELETE_OLDER_THAN = "DELETE FROM financial_tracker.transaction_outbox " +
+            "WHERE created_at < now() - ? * interval '1 second'";
+
+    private TransactionOutboxSqlQueries() {
+        // Приватный конструктор для предотвращения создания экземпляров класса
+    }
+}
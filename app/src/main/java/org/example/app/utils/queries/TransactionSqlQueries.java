@@ -4,16 +4,35 @@ package org.example.app.utils.queries;
  * Класс с SQL-запросами для работы с транзакциями.
  */
 public final class TransactionSqlQueries {
+    private static final String DELETED_TO_OUTBOX = "INSERT INTO financial_tracker.transaction_outbox " +
+            "(transaction_id, change_type, " +
+            "old_user_id, old_amount, old_category, old_date, old_is_income, created_at) " +
+            "SELECT id, 'DELETED', user_id, amount, category, date, is_income, now() FROM deleted";
     public static final String FIND_ALL = "SELECT * FROM financial_tracker.transactions";
     public static final String FIND_BY_ID = "SELECT * FROM financial_tracker.transactions WHERE id = ?";
+    public static final String FIND_ALL_BY_IDS = "SELECT * FROM financial_tracker.transactions WHERE id = ANY(?)";
     public static final String FIND_BY_USER_ID = "SELECT * FROM financial_tracker.transactions WHERE user_id = ?";
     public static final String SAVE = "INSERT INTO financial_tracker.transactions " +
             "(user_id, amount, category, description, date, is_income) VALUES (?, ?, ?, ?, ?, ?)";
-    public static final String UPDATE = "UPDATE financial_tracker.transactions " +
-            "SET amount = ?, date = ?, is_income = ?, category = ?, description = ?, user_id = ? " +
-            "WHERE id = ?";
+    public static final String UPDATE = "UPDATE financial_tracker.transactions t " +
+            "SET amount = ?, date = ?, is_income = ?, category = ?, description = ?, user_id = ?, " +
+            "version = t.version + 1 " +
+            "FROM (SELECT id, user_id, amount, category, date, is_income " +
+            "FROM financial_tracker.transactions WHERE id = ? FOR UPDATE) old " +
+            "WHERE t.id = old.id AND t.version = COALESCE(?, t.version) " +
+            "RETURNING old.user_id, old.amount, old.category, old.date, old.is_income, t.version AS new_version";
     public static final String DELETE_BY_ID = "DELETE FROM financial_tracker.transactions " +
-            "WHERE id = ?";
+            "WHERE id = ? " +
+            "RETURNING user_id, amount, category, date, is_income";
+    public static final String DELETE_BATCH_BY_USER_ID = "WITH deleted AS (" +
+            "DELETE FROM financial_tracker.transactions " +
+            "WHERE id IN (SELECT id FROM financial_tracker.transactions WHERE user_id = ? LIMIT ?) " +
+            "RETURNING id, user_id, amount, category, date, is_income) " +
+            DELETED_TO_OUTBOX;
+    public static final String DELETE_ALL_BY_USER_ID = "WITH deleted AS (" +
+            "DELETE FROM financial_tracker.transactions WHERE user_id = ? " +
+            "RETURNING id, user_id, amount, category, date, is_income) " +
+            DELETED_TO_OUTBOX;
 
     public static final String GET_CONSUMPTION_BY_USER_ID = "SELECT SUM(amount) AS result " +
             "FROM financial_tracker.transactions " +
@@ -23,21 +42,60 @@ public final class TransactionSqlQueries {
             "FROM financial_tracker.transactions " +
             "WHERE user_id = ? " +
             "AND is_income = ? " +
-            "AND date BETWEEN ? AND ?";
+            "AND date >= ? AND date < ?";
     public static final String GET_INCOME_BY_USER_ID_BY_PERIOD = "SELECT SUM(amount) AS result " +
             "FROM financial_tracker.transactions " +
             "WHERE user_id = ? " +
             "AND is_income = ? " +
-            "AND date BETWEEN ? AND ?";
+            "AND date >= ? AND date < ?";
     public static final String GET_INCOME_BY_USER_ID = "SELECT SUM(amount) AS result " +
             "FROM financial_tracker.transactions " +
             "WHERE user_id = ? " +
             "AND is_income = ?";
+    // Доходы и расходы суммируются одним проходом; при отсутствии доходов баланс равен нулю
+    public static final String GET_BALANCE_BY_USER_ID = "SELECT " +
+            "CASE WHEN bool_or(is_income) THEN SUM(CASE WHEN is_income THEN amount ELSE -amount END) END AS result " +
+            "FROM financial_tracker.transactions " +
+            "WHERE user_id = ?";
     public static final String GET_CONSUMPTION_BY_USER_ID_BY_MONTH = "SELECT SUM(amount) AS result " +
             "FROM financial_tracker.transactions " +
             "WHERE user_id = ? " +
             "AND is_income = ? " +
-            "AND date BETWEEN ? AND ?";
+            "AND date >= ? AND date < ?";
+
+    public static final String GET_CONSUMPTION_GROUPED_BY_USER_ID_BY_PERIOD = "SELECT user_id, SUM(amount) AS result " +
+            "FROM financial_tracker.transactions " +
+            "WHERE is_income = ? " +
+            "AND date >= ? AND date < ? " +
+            "GROUP BY user_id";
+
+    public static final String GET_NET_SAVINGS_BY_USER_ID_GROUPED_BY_MONTH = "SELECT " +
+            "CASE WHEN date >= ? THEN date_trunc('month', date)::date END AS month, " +
+            "SUM(CASE WHEN is_income THEN amount ELSE -amount END) AS result " +
+            "FROM financial_tracker.transactions " +
+            "WHERE user_id = ? " +
+            "GROUP BY 1";
+
+    public static final String GET_CONSUMPTION_TIME_SERIES_BY_USER_ID = "SELECT date_trunc(?, date)::date AS bucket, " +
+            "SUM(amount) AS result " +
+            "FROM financial_tracker.transactions " +
+            "WHERE user_id = ? " +
+            "AND is_income = ? " +
+            "AND date >= ? AND date < ? " +
+            "GROUP BY 1";
+    public static final String GET_CONSUMPTION_TIME_SERIES_BY_USER_ID_AND_CATEGORY = "SELECT date_trunc(?, date)::date AS bucket, " +
+            "SUM(amount) AS result " +
+            "FROM financial_tracker.transactions " +
+            "WHERE user_id = ? " +
+            "AND is_income = ? " +
+            "AND category = ? " +
+            "AND date >= ? AND date < ? " +
+            "GROUP BY 1";
+
+    public static final String FIND_HISTORY_BY_USER_ID = "SELECT id, amount, category, date, is_income " +
+            "FROM financial_tracker.transactions " +
+            "WHERE user_id = ? " +
+            "ORDER BY date, id";
 
     public static final String FIND_BY_USER_ID_AND_DATE = "SELECT * " +
             "FROM financial_tracker.transactions " +
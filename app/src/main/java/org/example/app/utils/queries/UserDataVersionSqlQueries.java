@@ -0,0 +1,18 @@
+package org.example.app.utils.queries;
+
+/**
+ * Класс с SQL-запросами для работы с версиями данных пользователей.
+ */
+public final class UserDataVersionSqlQueries {
+    public static final String FIND_VERSION = "SELECT version " +
+            "FROM financial_tracker.user_data_versions " +
+            "WHERE user_id = ?";
+    public static final String INCREMENT = "INSERT INTO financial_tracker.user_data_versions (user_id, version) " +
+            "VALUES (?, 1) " +
+            "ON CONFLICT (user_id) DO UPDATE " +
+            "SET version = financial_tracker.user_data_versions.version + 1";
+
+    private UserDataVersionSqlQueries() {
+        // Приватный конструктор для предотвращения создания экземпляров класса
+    }
+}
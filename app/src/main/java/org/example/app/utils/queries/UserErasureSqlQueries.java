@@ -0,0 +1,32 @@
+package org.example.app.utils.queries;
+
+/**
+ * Класс с SQL-запросами для работы с задачами удаления пользователей.
+ * Задача забирается на выполнение, если её ещё нет, если она завершена или если выполняющая её попытка
+ * не сообщала о ходе дольше заданного времени (в секундах); ход записывается только актуальной попыткой.
+ */
+public final class UserErasureSqlQueries {
+    public static final String CLAIM = "INSERT INTO financial_tracker.user_erasures AS e " +
+            "(user_id, status, attempt, transactions_deleted, goals_deleted, spending_limits_deleted, error, " +
+            "updated_at) " +
+            "VALUES (?, 'PENDING', 1, 0, 0, 0, NULL, now()) " +
+            "ON CONFLICT (user_id) DO UPDATE " +
+            "SET status = 'PENDING', attempt = e.attempt + 1, transactions_deleted = 0, goals_deleted = 0, " +
+            "spending_limits_deleted = 0, error = NULL, updated_at = now() " +
+            "WHERE e.status NOT IN ('PENDING', 'RUNNING') OR e.updated_at < now() - ? * interval '1 second' " +
+            "RETURNING *";
+    public static final String FIND_BY_USER_ID = "SELECT * FROM financial_tracker.user_erasures WHERE user_id = ?";
+    public static final String LOCK_ATTEMPT = "SELECT user_id FROM financial_tracker.user_erasures " +
+            "WHERE user_id = ? AND attempt = ? FOR UPDATE";
+    public static final String UPDATE = "UPDATE financial_tracker.user_erasures " +
+            "SET status = ?, transactions_deleted = ?, goals_deleted = ?, spending_limits_deleted = ?, error = ?, " +
+            "updated_at = now() " +
+            "WHERE user_id = ? AND attempt = ?";
+    public static final String LOCK_USER = "SELECT id FROM financial_tracker.users WHERE id = ? FOR UPDATE";
+    public static final String DELETE_FINISHED_OLDER_THAN = "DELETE FROM financial_tracker.user_erasures " +
+            "WHERE status IN ('COMPLETED', 'FAILED') AND updated_at < now() - ? * interval '1 second'";
+
+    private UserErasureSqlQueries() {
+        // Приватный конструктор для предотвращения создания экземпляров класса
+    }
+}
@@ -8,10 +8,13 @@ public final class UserSqlQueries {
     public static final String FIND_BY_ID = "SELECT * FROM financial_tracker.users WHERE id = ?";
     public static final String SAVE = "INSERT INTO financial_tracker.users (name, email, password, role, is_banned) " +
             "VALUES (?, ?, ?, ?, ?)";
-    public static final String UPDATE = "UPDATE financial_tracker.users " +
-            "SET name = ?, email = ?, password = ?, role = ?, is_banned = ? " +
-            "WHERE id = ?";
-    public static final String DELETE_BY_ID = "DELETE FROM financial_tracker.users WHERE id = ?";
+    public static final String UPDATE = "UPDATE financial_tracker.users u " +
+            "SET name = ?, email = ?, password = ?, role = ?, is_banned = ?, version = u.version + 1 " +
+            "FROM (SELECT * FROM financial_tracker.users WHERE id = ? FOR UPDATE) old " +
+            "WHERE u.id = old.id AND u.version = COALESCE(?, u.version) " +
+            "RETURNING old.*, u.version AS new_version";
+    public static final String DELETE_BY_ID = "DELETE FROM financial_tracker.users WHERE id = ? " +
+            "RETURNING id";
     public static final String FIND_BY_EMAIL = "SELECT * FROM financial_tracker.users WHERE email = ?";
 
     private UserSqlQueries() {
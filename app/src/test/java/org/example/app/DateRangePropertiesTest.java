@@ -0,0 +1,122 @@
+package org.example.app;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import org.example.app.application.cache.CubeQuery;
+import org.example.app.application.cache.CubeRow;
+import org.example.app.application.cache.TransactionCube;
+import org.example.app.domain.model.Category;
+import org.example.app.domain.model.DateRange;
+import org.example.app.domain.model.TimeBucket;
+import org.example.app.domain.model.Transaction;
+import org.example.app.domain.model.TransactionHistory;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DateRangePropertiesTest {
+    private static final LocalDate ORIGIN = LocalDate.of(2020, 1, 1);
+    private static final int DAYS = 3 * 366;
+
+    @Property
+    public void closedRangeIncludesBothEnds(@ForAll("dates") LocalDate first, @ForAll("dates") LocalDate last,
+                                            @ForAll("dates") LocalDate date) {
+        if (last.isBefore(first)) {
+            return;
+        }
+        DateRange range = DateRange.closed(first, last);
+
+        assertEquals(!date.isBefore(first) && !date.isAfter(last), range.contains(date));
+    }
+
+    @Property
+    public void monthRangeContainsExactlyTheDaysOfTheMonth(@ForAll("dates") LocalDate date,
+                                                          @ForAll("dates") LocalDate other) {
+        YearMonth month = YearMonth.from(date);
+        DateRange range = DateRange.month(month);
+
+        assertTrue(range.contains(date));
+        assertEquals(month.equals(YearMonth.from(other)), range.contains(other));
+        assertEquals(range.to(), DateRange.month(month.plusMonths(1)).from());
+    }
+
+    @Property
+    public void splitRangeCoversEachDayExactlyOnce(@ForAll("ranges") DateRange range, @ForAll("dates") LocalDate pivot,
+                                                  @ForAll("dates") LocalDate date) {
+        if (!range.contains(pivot)) {
+            return;
+        }
+        boolean left = DateRange.of(range.from(), pivot).contains(date);
+        boolean right = DateRange.of(pivot, range.to()).contains(date);
+
+        assertFalse(left && right);
+        assertEquals(range.contains(date), left || right);
+    }
+
+    @Property
+    public void bucketStartsAtOrBeforeDateAndNextBucketStartsAfterIt(@ForAll TimeBucket bucket,
+                                                                    @ForAll("dates") LocalDate date) {
+        LocalDate start = bucket.start(date);
+
+        assertTrue(!start.isAfter(date) && bucket.next(start).isAfter(date));
+        assertEquals(start, bucket.start(start));
+        if (bucket == TimeBucket.WEEK) {
+            assertEquals(DayOfWeek.MONDAY, start.getDayOfWeek());
+        }
+    }
+
+    @Property(tries = 200)
+    public void cubeSumOverRangeMatchesFilteredSum(@ForAll("transactions") List<Transaction> transactions,
+                                                   @ForAll("ranges") DateRange range) {
+        List<Transaction> sorted = new ArrayList<>(transactions);
+        sorted.sort(Comparator.comparing(Transaction::getDate).thenComparing(Transaction::getId));
+        TransactionCube cube = TransactionCube.of(new TransactionHistory(sorted, Set.of()));
+
+        long expected = sorted.stream()
+                .filter(transaction -> range.contains(transaction.getDate()))
+                .mapToLong(transaction -> transaction.getAmount().movePointRight(2).longValueExact())
+                .sum();
+        long actual = cube.aggregate(new CubeQuery(range.from(), range.to(), CubeQuery.Granularity.NONE,
+                        false, null, false)).stream()
+                .mapToLong(CubeRow::expense)
+                .sum();
+
+        assertEquals(expected, actual);
+    }
+
+    @Provide
+    Arbitrary<LocalDate> dates() {
+        return Arbitraries.integers().between(0, DAYS).map(ORIGIN::plusDays);
+    }
+
+    @Provide
+    Arbitrary<DateRange> ranges() {
+        return Combinators.combine(dates(), Arbitraries.integers().between(0, 120))
+                .as((from, length) -> DateRange.of(from, from.plusDays(length)));
+    }
+
+    @Provide
+    Arbitrary<List<Transaction>> transactions() {
+        Arbitrary<Transaction> transaction = Combinators.combine(
+                        Arbitraries.longs().between(1, 1_000_000),
+                        Arbitraries.integers().between(1, 99_999_999),
+                        dates())
+                .as((id, cents, date) -> new Transaction(id, 1L, BigDecimal.valueOf(cents, 2),
+                        Category.PRODUCTS, null, date, false));
+        return transaction.list().ofMaxSize(50).uniqueElements(Transaction::getId);
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.app;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.app.utils.JsonUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FastWritersModuleTest {
+    private final ObjectMapper tuned = new JsonUtil().getObjectMapper();
+    private final ObjectMapper reference = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+
+    @Test
+    @DisplayName("BigDecimal values are written as equal JSON numbers")
+    public void writesDecimalsTest() throws Exception {
+        List<BigDecimal> values = List.of(
+                new BigDecimal("0"), new BigDecimal("0.00"), new BigDecimal("0.05"), new BigDecimal("-0.05"),
+                new BigDecimal("125.50"), new BigDecimal("-99999.99"), new BigDecimal("123456789012345678"),
+                new BigDecimal("0.000000000000000001"), new BigDecimal("1E+3"),
+                new BigDecimal("12345678901234567890.12"));
+
+        for (BigDecimal value : values) {
+            String json = tuned.writeValueAsString(value);
+            assertEquals(0, value.compareTo(new BigDecimal(json)), json);
+        }
+        assertEquals("125.50", tuned.writeValueAsString(new BigDecimal("125.50")));
+    }
+
+    @Test
+    @DisplayName("LocalDate values are written as ISO-8601 strings")
+    public void writesDatesTest() throws Exception {
+        for (LocalDate date : List.of(LocalDate.of(2025, 3, 5), LocalDate.of(999, 12, 31),
+                LocalDate.of(10000, 1, 1), LocalDate.of(-1, 1, 1))) {
+            assertEquals(reference.writeValueAsString(date), tuned.writeValueAsString(date));
+        }
+    }
+}
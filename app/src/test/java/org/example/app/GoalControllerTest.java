@@ -1,24 +1,31 @@
 package org.example.app;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.app.application.cache.UserDataVersions;
 import org.example.app.application.dto.goal.GoalCreateDTO;
 import org.example.app.application.dto.goal.GoalDTO;
 import org.example.app.application.dto.goal.GoalEditDTO;
+import org.example.app.application.dto.goal.GoalProgressDTO;
 import org.example.app.application.exception.ResourceNotFoundException;
 import org.example.app.application.handler.GlobalExceptionHandler;
 import org.example.app.application.service.GoalService;
+import org.example.app.infrastucture.web.UserDataETagInterceptor;
 import org.example.app.presentation.controller.GoalController;
 import org.example.app.util.GoalGenerator;
+import org.example.app.util.InMemoryUserDataVersionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 
@@ -27,11 +34,14 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -49,12 +59,14 @@ public class GoalControllerTest {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final GoalGenerator generator = new GoalGenerator();
+    private final UserDataVersions userDataVersions = new UserDataVersions(new InMemoryUserDataVersionRepository());
 
     @BeforeEach
     public void setUp() throws Exception {
         MockitoAnnotations.openMocks(this).close();
         mockMvc = MockMvcBuilders.standaloneSetup(goalController)
                 .setControllerAdvice(new GlobalExceptionHandler())
+                .addInterceptors(new UserDataETagInterceptor(userDataVersions))
                 .build();
     }
 
@@ -72,6 +84,38 @@ public class GoalControllerTest {
                 .andExpect(jsonPath("$.description").value(expectedGoal.getDescription()));
     }
 
+    @Test
+    @DisplayName("GET /api/goals/{userId}/progress returns progress of each goal and status OK")
+    public void getGoalProgressByUserTest() throws Exception {
+        GoalProgressDTO progress = new GoalProgressDTO(1L, "Car", new BigDecimal("1000.00"),
+                new BigDecimal("250.00"), new BigDecimal("25.00"), new BigDecimal("150.00"),
+                LocalDate.of(2026, 3, 1));
+
+        when(goalService.getProgressByUser(anyLong())).thenReturn(List.of(progress));
+
+        mockMvc.perform(get(BASE_URL + "/{userId}/progress", 1L)
+                        .contentType(JSON_CONTENT_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].goalId").value(1))
+                .andExpect(jsonPath("$[0].progressPercent").value(25.00))
+                .andExpect(jsonPath("$[0].monthlySavingsRate").value(150.00));
+    }
+
+    @Test
+    @DisplayName("GET /api/goals/{userId}/progress is always recalculated and carries no ETag")
+    public void getGoalProgressWithoutETagTest() throws Exception {
+        when(goalService.getProgressByUser(anyLong())).thenReturn(List.of());
+
+        mockMvc.perform(get(BASE_URL + "/{userId}/progress", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+
+        mockMvc.perform(get(BASE_URL + "/{userId}/progress", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-0\""))
+                .andExpect(status().isOk());
+        verify(goalService, times(2)).getProgressByUser(1L);
+    }
+
     @Test
     @DisplayName("GET /api/goals/{id}/user returns all goals for a user and status OK")
     public void getGoalByIdUserTest() throws Exception {
@@ -56,7 +56,8 @@ public class GoalServiceTest {
              Statement statement = connection.createStatement()) {
             statement.execute("CREATE SCHEMA IF NOT EXISTS financial_tracker");
             statement.execute("CREATE TABLE IF NOT EXISTS financial_tracker.goals " +
-                    "(id SERIAL PRIMARY KEY, user_id INT NOT NULL , description TEXT, target_amount DECIMAL(10, 2) NOT NULL)");
+                    "(id SERIAL PRIMARY KEY, user_id INT NOT NULL , description TEXT, target_amount DECIMAL(10, 2) NOT NULL, " +
+                    "version BIGINT NOT NULL DEFAULT 0)");
         }
     }
 
@@ -116,10 +117,11 @@ public class GoalServiceTest {
         Goal createGoal = generator.getGoal();
         Long id = goalRepository.save(createGoal);
 
-        goalRepository.deleteById(id);
+        Optional<Long> userId = goalRepository.deleteById(id);
 
         Optional<Goal> results = goalRepository.findById(id);
 
+        assertEquals(createGoal.getUserId(), userId.get());
         assertTrue(results.isEmpty());
     }
 
@@ -158,7 +160,6 @@ public class GoalServiceTest {
     @Test
     @DisplayName("Should delete goal with ID not found")
     public void deleteGoalByIdNotFoundTest() {
-        assertThrows(RuntimeException.class,
-                () -> goalRepository.deleteById(99999L));
+        assertTrue(goalRepository.deleteById(99999L).isEmpty());
     }
 }
@@ -0,0 +1,108 @@
+package org.example.app;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.app.infrastucture.jdbc.JdbcProxies;
+import org.example.app.infrastucture.jdbc.QueryStats;
+import org.example.app.infrastucture.jdbc.SqlStatementMetrics;
+import org.example.app.utils.queries.TransactionSqlQueries;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+public class JdbcProxiesTest {
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this).close();
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement);
+        when(connection.prepareStatement(TransactionSqlQueries.FIND_BY_USER_ID)).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(statement.executeUpdate()).thenReturn(1);
+        when(resultSet.next()).thenReturn(true, true, false);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        QueryStats.end();
+    }
+
+    @Test
+    @DisplayName("Statements and fetched rows are counted for the current request")
+    public void countsStatementsAndRowsTest() throws Exception {
+        QueryStats stats = QueryStats.begin();
+
+        Connection wrapped = JdbcProxies.wrap(connection, null);
+        try (PreparedStatement stmt = wrapped.prepareStatement("SELECT 1");
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                // Читаем все строки
+            }
+            stmt.executeUpdate();
+        }
+
+        assertEquals(2, stats.getStatements());
+        assertEquals(2, stats.getRows());
+    }
+
+    @Test
+    @DisplayName("Connections outside of a request are returned unwrapped")
+    public void leavesConnectionUnwrappedOutsideRequestTest() {
+        assertSame(connection, JdbcProxies.wrap(connection, null));
+    }
+
+    @Test
+    @DisplayName("Statements are reported with bind types but without values")
+    public void reportsBindShapeTest() throws Exception {
+        List<String> shapes = new ArrayList<>();
+        Connection wrapped = JdbcProxies.wrap(connection,
+                (sql, elapsedNanos, bindShape) -> shapes.add(bindShape.get()));
+
+        try (PreparedStatement stmt = wrapped.prepareStatement("SELECT 1")) {
+            stmt.setLong(1, 42L);
+            stmt.setString(2, "secret");
+            stmt.executeUpdate();
+        }
+
+        assertEquals(List.of("[long, string]"), shapes);
+    }
+
+    @Test
+    @DisplayName("Statements are aggregated under the name of their SQL template")
+    public void aggregatesByTemplateNameTest() throws Exception {
+        SqlStatementMetrics metrics = new SqlStatementMetrics(new SimpleMeterRegistry(), Duration.ofSeconds(1));
+        Connection wrapped = JdbcProxies.wrap(connection, metrics);
+
+        try (PreparedStatement stmt = wrapped.prepareStatement(TransactionSqlQueries.FIND_BY_USER_ID)) {
+            stmt.setLong(1, 1L);
+            stmt.executeQuery().close();
+        }
+
+        List<SqlStatementMetrics.StatementSummary> top = metrics.top(5);
+        assertEquals(1, top.size());
+        assertEquals("TransactionSqlQueries.FIND_BY_USER_ID", top.get(0).statement());
+        assertEquals(1, top.get(0).count());
+    }
+}
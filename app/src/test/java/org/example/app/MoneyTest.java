@@ -0,0 +1,34 @@
+package org.example.app;
+
+import org.example.app.utils.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MoneyTest {
+
+    @Test
+    @DisplayName("Amounts are converted to minor units and back exactly")
+    public void convertsExactlyTest() {
+        assertEquals(12550L, Money.toMinor(new BigDecimal("125.5")));
+        assertEquals(-5L, Money.toMinor(new BigDecimal("-0.05")));
+        assertEquals(99999999L, Money.toMinor(new BigDecimal("999999.99")));
+        assertEquals(100000L, Money.toMinor(new BigDecimal("1E+3")));
+        assertEquals(new BigDecimal("125.50"), Money.toBigDecimal(12550L));
+        assertEquals(new BigDecimal("-0.05"), Money.toBigDecimal(-5L));
+    }
+
+    @Test
+    @DisplayName("Fractions of a minor unit and overflow are rejected")
+    public void rejectsInexactValuesTest() {
+        assertThrows(ArithmeticException.class, () -> Money.toMinor(new BigDecimal("0.005")));
+        assertThrows(ArithmeticException.class, () -> Money.toMinor(new BigDecimal("1E+20")));
+        assertThrows(ArithmeticException.class, () -> Money.add(Long.MAX_VALUE, 1L));
+        assertThrows(ArithmeticException.class, () -> Money.subtract(Long.MIN_VALUE, 1L));
+        assertThrows(ArithmeticException.class, () -> Money.negate(Long.MIN_VALUE));
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.app;
+
+import org.example.app.infrastucture.config.PoolTuningProperties;
+import org.example.app.infrastucture.jdbc.PoolSizeAdvisor;
+import org.example.app.infrastucture.jdbc.PoolSizeAdvisor.PoolSample;
+import org.example.app.infrastucture.jdbc.PoolSizeAdvisor.Recommendation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PoolSizeAdvisorTest {
+    private static final Duration WINDOW = Duration.ofSeconds(10);
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final PoolSizeAdvisor advisor = new PoolSizeAdvisor(new PoolTuningProperties());
+
+    @Test
+    @DisplayName("Pool size follows Little's law with headroom and shrinks by at most one connection")
+    public void sizeFollowsLittlesLawTest() {
+        // 1000 соединений/с по 8 мс — в среднем 8 занятых соединений, с запасом 1.5 — 12
+        PoolSample busy = new PoolSample(WINDOW, 10_000, 0.1, 2, 8, 0, 3);
+        // 100 соединений/с по 8 мс — в среднем 0.8 занятых соединений
+        PoolSample idle = new PoolSample(WINDOW, 1_000, 0.1, 2, 8, 0, 3);
+
+        assertEquals(12, advisor.recommend(busy, 10, TIMEOUT).poolSize());
+        assertEquals(19, advisor.recommend(idle, 20, TIMEOUT).poolSize());
+        assertEquals(5, advisor.recommend(idle, 5, TIMEOUT).poolSize());
+    }
+
+    @Test
+    @DisplayName("Connection waits grow the pool only while the database is fast")
+    public void waitsGrowPoolOnlyWhenDatabaseIsFastTest() {
+        PoolSample waitingFastDb = new PoolSample(WINDOW, 1_000, 20, 150, 8, 2, 3);
+        PoolSample waitingSlowDb = new PoolSample(WINDOW, 1_000, 20, 150, 80, 2, 75);
+
+        assertEquals(11, advisor.recommend(waitingFastDb, 10, TIMEOUT).poolSize());
+        assertEquals(10, advisor.recommend(waitingSlowDb, 10, TIMEOUT).poolSize());
+        assertEquals(40, advisor.recommend(waitingFastDb, 40, TIMEOUT).poolSize());
+    }
+
+    @Test
+    @DisplayName("Connection timeout is four times the longest wait within the configured bounds")
+    public void connectionTimeoutIsBoundedTest() {
+        Recommendation moderate = advisor.recommend(new PoolSample(WINDOW, 1_000, 20, 150, 8, 0, 3), 10, TIMEOUT);
+        Recommendation fast = advisor.recommend(new PoolSample(WINDOW, 1_000, 0.1, 2, 8, 0, 3), 10, TIMEOUT);
+        Recommendation unused = advisor.recommend(new PoolSample(WINDOW, 0, 0, 0, 0, 0, 0), 10, TIMEOUT);
+
+        assertEquals(Duration.ofMillis(600), moderate.connectionTimeout());
+        assertEquals(Duration.ofMillis(250), fast.connectionTimeout());
+        assertEquals(TIMEOUT, unused.connectionTimeout());
+        assertEquals(10, unused.poolSize());
+    }
+}
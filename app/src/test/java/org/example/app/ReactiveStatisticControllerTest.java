@@ -0,0 +1,107 @@
+package org.example.app;
+
+import org.example.app.application.dto.statistic.TimeSeriesPointDTO;
+import org.example.app.application.handler.GlobalExceptionHandler;
+import org.example.app.application.service.ReactiveTransactionService;
+import org.example.app.application.service.TransactionAnalyticsService;
+import org.example.app.domain.model.TimeBucket;
+import org.example.app.presentation.controller.ReactiveStatisticController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+public class ReactiveStatisticControllerTest {
+    private static final String BASE_URL = "/api/transactions/statistics/1/";
+
+    private WebTestClient webTestClient;
+
+    @Mock
+    private ReactiveTransactionService mockService;
+
+    @Mock
+    private TransactionAnalyticsService analyticsService;
+
+    @InjectMocks
+    private ReactiveStatisticController controller;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this).close();
+        webTestClient = WebTestClient.bindToController(controller)
+                .controllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("GET /transactions/statistics/balance returns correct balance for a user")
+    public void handleBalanceReturnsCorrectBalanceTest() {
+        BigDecimal expectedBalance = new BigDecimal("100.00");
+        when(mockService.getBalanceByUserId(anyLong())).thenReturn(Mono.just(expectedBalance));
+
+        webTestClient.get().uri(BASE_URL + "balance")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo(expectedBalance.toString());
+    }
+
+    @Test
+    @DisplayName("GET /transactions/statistics/consumption returns 200 with empty body when user has no transactions")
+    public void handleConsumptionWithoutTransactionsReturnsEmptyBodyTest() {
+        when(mockService.getConsumptionByUserId(anyLong())).thenReturn(Mono.empty());
+
+        webTestClient.get().uri(BASE_URL + "consumption")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    @DisplayName("GET /transactions/statistics/consumption-by-period correctly processes date parameters")
+    public void handleConsumptionByPeriodProcessesDatesCorrectlyTest() {
+        BigDecimal expectedConsumption = new BigDecimal("100.00");
+        when(mockService.getConsumptionByUserIdByPeriodDate(anyLong(), any(), any()))
+                .thenReturn(Mono.just(expectedConsumption));
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder
+                        .path(BASE_URL + "consumption-by-period")
+                        .queryParam("startDate", "2023-01-01")
+                        .queryParam("endDate", "2023-01-31")
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo(expectedConsumption.toString());
+    }
+
+    @Test
+    @DisplayName("GET /transactions/statistics/timeseries returns one point per bucket")
+    public void handleTimeSeriesTest() {
+        when(analyticsService.getConsumptionTimeSeries(1L, TimeBucket.MONTH, LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 3, 1), null))
+                .thenReturn(List.of(new TimeSeriesPointDTO(LocalDate.of(2025, 1, 1), new BigDecimal("10.00")),
+                        new TimeSeriesPointDTO(LocalDate.of(2025, 2, 1), new BigDecimal("0.00"))));
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder
+                        .path(BASE_URL + "timeseries")
+                        .queryParam("from", "2025-01-01")
+                        .queryParam("to", "2025-03-01")
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].amount").isEqualTo(10.0);
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.app;
+
+import org.example.app.application.dto.transaction.TransactionCreateDTO;
+import org.example.app.application.handler.GlobalExceptionHandler;
+import org.example.app.application.service.ReactiveTransactionService;
+import org.example.app.application.service.TransactionService;
+import org.example.app.domain.model.Category;
+import org.example.app.presentation.controller.ReactiveTransactionController;
+import org.example.app.presentation.controller.TransactionController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReactiveTransactionControllerTest {
+    private static final String BASE_URL = "/api/transactions";
+
+    private WebTestClient webTestClient;
+
+    @Mock
+    private ReactiveTransactionService reactiveTransactionService;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @InjectMocks
+    private ReactiveTransactionController controller;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this).close();
+        webTestClient = WebTestClient.bindToController(controller)
+                .controllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("POST /transactions with Idempotency-Key creates the transaction through the idempotent path")
+    public void createWithIdempotencyKeyTest() {
+        when(transactionService.create(any(TransactionCreateDTO.class), eq("key-1"))).thenReturn(1L);
+
+        webTestClient.post().uri(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(TransactionController.IDEMPOTENCY_KEY_HEADER, "key-1")
+                .bodyValue(createDTO())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(String.class).isEqualTo("Transaction added");
+
+        verify(transactionService).create(any(TransactionCreateDTO.class), eq("key-1"));
+        verify(transactionService, never()).create(any(TransactionCreateDTO.class));
+    }
+
+    @Test
+    @DisplayName("POST /transactions without Idempotency-Key creates the transaction as before")
+    public void createWithoutIdempotencyKeyTest() {
+        when(transactionService.create(any(TransactionCreateDTO.class))).thenReturn(1L);
+
+        webTestClient.post().uri(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(createDTO())
+                .exchange()
+                .expectStatus().isCreated();
+
+        verify(transactionService).create(any(TransactionCreateDTO.class));
+        verify(transactionService, never()).create(any(TransactionCreateDTO.class), anyString());
+    }
+
+    private static TransactionCreateDTO createDTO() {
+        return new TransactionCreateDTO(1L, new BigDecimal("100.00"), Category.PRODUCTS, "milk",
+                LocalDate.of(2025, 3, 5), false);
+    }
+}
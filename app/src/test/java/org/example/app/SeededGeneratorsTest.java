@@ -0,0 +1,56 @@
+package org.example.app;
+
+import org.example.app.util.GoalGenerator;
+import org.example.app.util.LimitGenerator;
+import org.example.app.util.TransactionGenerator;
+import org.example.app.util.UserGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SeededGeneratorsTest {
+    private static final long SEED = 42L;
+
+    @Test
+    @DisplayName("Generators with the same seed produce identical load-test data")
+    public void sameSeedProducesSameDataTest() {
+        assertEquals(generate(SEED), generate(SEED));
+    }
+
+    @Test
+    @DisplayName("Seeded transaction dates do not depend on the current date")
+    public void seededDatesAreAnchoredToFixedEpochTest() {
+        TransactionGenerator generator = new TransactionGenerator(SEED);
+        LocalDate anchor = LocalDate.of(2025, 1, 1).plusDays(SEED);
+
+        for (int i = 0; i < 1_000; i++) {
+            LocalDate date = generator.getTransaction().getDate();
+            assertTrue(date.isBefore(anchor) && !date.isBefore(anchor.minusDays(30)),
+                    "date " + date + " is outside the 30 days before " + anchor);
+        }
+    }
+
+    private static List<String> generate(long seed) {
+        UserGenerator userGenerator = new UserGenerator(seed);
+        TransactionGenerator transactionGenerator = new TransactionGenerator(seed);
+        GoalGenerator goalGenerator = new GoalGenerator(seed);
+        LimitGenerator limitGenerator = new LimitGenerator(seed);
+
+        List<String> data = new ArrayList<>();
+        for (int user = 0; user < 10; user++) {
+            data.add(userGenerator.getUser().toString());
+            for (int i = 0; i < 20; i++) {
+                data.add(transactionGenerator.getTransaction().toString());
+            }
+            data.add(goalGenerator.getGoal().toString());
+            data.add(limitGenerator.getLimit().toString());
+        }
+        return data;
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.app;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.app.application.cache.SingleFlight;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SingleFlightTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight = new SingleFlight(meterRegistry);
+
+    @Test
+    @DisplayName("Concurrent calls with the same key share one computation and its result")
+    public void concurrentIdenticalCallsAreCoalescedTest() throws Exception {
+        int callers = 8;
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<BigDecimal>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.execute("balance", () -> {
+                computations.incrementAndGet();
+                started.countDown();
+                await(release);
+                return new BigDecimal("10.00");
+            }, 1L)));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("balance", () -> {
+                    computations.incrementAndGet();
+                    return BigDecimal.ZERO;
+                }, 1L)));
+            }
+            while (coalesced() < callers - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            for (Future<BigDecimal> result : results) {
+                assertEquals(new BigDecimal("10.00"), result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, computations.get());
+        assertEquals(1.0, meterRegistry.get(SingleFlight.METRIC_NAME).tag("role", "leader").counter().count());
+    }
+
+    @Test
+    @DisplayName("Calls with different arguments and sequential calls are computed separately")
+    public void differentOrSequentialCallsAreNotCoalescedTest() {
+        AtomicInteger computations = new AtomicInteger();
+
+        singleFlight.execute("balance", computations::incrementAndGet, 1L);
+        singleFlight.execute("balance", computations::incrementAndGet, 1L);
+        singleFlight.execute("balance", computations::incrementAndGet, 2L);
+        singleFlight.execute("income", computations::incrementAndGet, 1L);
+
+        assertEquals(4, computations.get());
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("balance", () -> {
+            throw new IllegalStateException("Database unavailable");
+        }, 1L));
+        int afterFailure = singleFlight.execute("balance", () -> 2, 1L);
+        assertEquals(2, afterFailure);
+    }
+
+    private double coalesced() {
+        return meterRegistry.find(SingleFlight.METRIC_NAME).tag("role", "coalesced").counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package org.example.app;
+
+import org.example.app.application.cache.ActiveSpendingLimitCache;
+import org.example.app.application.event.SpendingLimitExceededEvent;
+import org.example.app.application.service.MonthlySpendingTracker;
+import org.example.app.application.service.SpendingLimitEngine;
+import org.example.app.domain.model.Category;
+import org.example.app.domain.model.MonthlySpending;
+import org.example.app.domain.model.OutboxSnapshot;
+import org.example.app.domain.model.SpendingLimit;
+import org.example.app.domain.model.Transaction;
+import org.example.app.domain.model.TransactionChange;
+import org.example.app.domain.model.TransactionChangeType;
+import org.example.app.domain.repository.TransactionOutboxRepository;
+import org.example.app.domain.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SpendingLimitEngineTest {
+    private static final Long USER_ID = 1L;
+    private static final long SNAPSHOT_XMAX = 100;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionOutboxRepository outboxRepository;
+
+    @Mock
+    private ActiveSpendingLimitCache limitCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SpendingLimitEngine engine;
+    private long nextChangeId = 1;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this).close();
+        when(transactionRepository.getMonthlySpending(any()))
+                .thenReturn(new MonthlySpending(YearMonth.now(), Map.of(USER_ID, new BigDecimal("90.00")),
+                        new OutboxSnapshot(SNAPSHOT_XMAX - 1, SNAPSHOT_XMAX, Set.of(SNAPSHOT_XMAX - 1))));
+        when(limitCache.get(USER_ID))
+                .thenReturn(List.of(new SpendingLimit(10L, USER_ID, new BigDecimal("100.00"), true)));
+        when(outboxRepository.claimNotification(anyLong())).thenReturn(true);
+
+        MonthlySpendingTracker tracker = new MonthlySpendingTracker(transactionRepository);
+        engine = new SpendingLimitEngine(tracker, limitCache, outboxRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Event is published once when consumption crosses the limit")
+    public void publishesEventOnlyWhenLimitIsCrossedTest() {
+        engine.onTransactionChanges(List.of(
+                change(null, expense("20.00")),
+                change(null, expense("5.00"))));
+
+        ArgumentCaptor<SpendingLimitExceededEvent> captor = ArgumentCaptor.forClass(SpendingLimitExceededEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        assertEquals(new BigDecimal("110.00"), captor.getValue().consumption());
+        assertEquals(10L, captor.getValue().limitId());
+    }
+
+    @Test
+    @DisplayName("Editing the expense that crossed the limit does not publish the event again")
+    public void editOfCrossingExpenseDoesNotRepublishTest() {
+        Transaction crossing = expense("20.00");
+        Transaction described = expense("20.00");
+        described.setDescription("edited");
+        Transaction increased = expense("25.00");
+
+        engine.onTransactionChanges(List.of(
+                change(null, crossing),
+                change(crossing, described),
+                change(described, increased)));
+
+        verify(eventPublisher, times(1)).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Deleted expense is subtracted before the next evaluation")
+    public void deletedExpenseIsSubtractedTest() {
+        Transaction transaction = expense("5.00");
+        engine.onTransactionChanges(List.of(
+                change(null, transaction),
+                change(transaction, null),
+                change(null, expense("10.00"))));
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Income and expenses outside the current month are ignored")
+    public void ignoresIncomeAndOtherMonthsTest() {
+        Transaction income = expense("50.00");
+        income.setIncome(true);
+        Transaction lastMonth = expense("50.00");
+        lastMonth.setDate(LocalDate.now().minusMonths(1));
+
+        engine.onTransactionChanges(List.of(change(null, income), change(null, lastMonth)));
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Changes already counted in the seed or delivered twice are not applied again")
+    public void skipsCountedAndRedeliveredChangesTest() {
+        TransactionChange counted = new TransactionChange(nextChangeId++, SNAPSHOT_XMAX - 2, 1L,
+                TransactionChangeType.CREATED, null, expense("20.00"), LocalDateTime.now());
+        TransactionChange small = change(null, expense("5.00"));
+
+        engine.onTransactionChanges(List.of(counted, small));
+        engine.onTransactionChanges(List.of(small));
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Event is not published when another instance has already claimed the notification")
+    public void doesNotPublishWithoutClaimTest() {
+        when(outboxRepository.claimNotification(anyLong())).thenReturn(false);
+
+        engine.onTransactionChanges(List.of(change(null, expense("20.00"))));
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private TransactionChange change(Transaction before, Transaction after) {
+        TransactionChangeType type = before == null ? TransactionChangeType.CREATED
+                : after == null ? TransactionChangeType.DELETED : TransactionChangeType.UPDATED;
+        long id = nextChangeId++;
+        return new TransactionChange(id, SNAPSHOT_XMAX + id, 1L, type, before, after, LocalDateTime.now());
+    }
+
+    private Transaction expense(String amount) {
+        return new Transaction(1L, USER_ID, new BigDecimal(amount), Category.PRODUCTS,
+                "test", LocalDate.now(), false);
+    }
+}
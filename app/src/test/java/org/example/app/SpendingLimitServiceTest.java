@@ -58,7 +58,8 @@ public class SpendingLimitServiceTest {
              Statement statement = connection.createStatement()) {
             statement.execute("CREATE SCHEMA IF NOT EXISTS financial_tracker");
             statement.execute("CREATE TABLE IF NOT EXISTS financial_tracker.spending_limits " +
-                    "(id SERIAL PRIMARY KEY, user_id INT NOT NULL , limit_amount DECIMAL(10, 2) NOT NULL , is_active BOOLEAN NOT NULL )");
+                    "(id SERIAL PRIMARY KEY, user_id INT NOT NULL , limit_amount DECIMAL(10, 2) NOT NULL , is_active BOOLEAN NOT NULL , " +
+                    "version BIGINT NOT NULL DEFAULT 0)");
         }
     }
 
@@ -189,7 +190,6 @@ public class SpendingLimitServiceTest {
     @Test
     @DisplayName("Should delete limit not found")
     public void deleteLimitNotFoundTest() {
-        assertThrows(RuntimeException.class,
-                () -> repository.deleteById(99999L));
+        assertTrue(repository.deleteById(99999L).isEmpty());
     }
 }
@@ -1,26 +1,42 @@
 package org.example.app;
 
+import org.example.app.application.cache.CubeQuery;
+import org.example.app.application.dto.statistic.TimeSeriesPointDTO;
+import org.example.app.application.dto.statistic.TransactionAggregateDTO;
+import org.example.app.application.exception.WorkloadSaturatedException;
 import org.example.app.application.handler.GlobalExceptionHandler;
+import org.example.app.application.service.TransactionAnalyticsService;
 import org.example.app.application.service.TransactionService;
 import org.example.app.domain.model.Category;
+import org.example.app.domain.model.TimeBucket;
 import org.example.app.presentation.controller.StatisticController;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 public class StatisticControllerTest {
@@ -31,6 +47,9 @@ public class StatisticControllerTest {
     @Mock
     private TransactionService mockService;
 
+    @Mock
+    private TransactionAnalyticsService analyticsService;
+
     @InjectMocks
     private StatisticController controller;
 
@@ -132,4 +151,59 @@ public class StatisticControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string(expectedConsumption.toString()));
     }
+
+    @Test
+    @DisplayName("/transactions/statistics/aggregate passes filters and grouping to the analytics service")
+    public void handleAggregateTest() throws Exception {
+        TransactionAggregateDTO row = new TransactionAggregateDTO(LocalDate.of(2025, 3, 1), Category.PRODUCTS,
+                new BigDecimal("0.00"), new BigDecimal("125.50"), new BigDecimal("-125.50"), 3);
+        when(analyticsService.aggregate(anyLong(), any())).thenReturn(List.of(row));
+
+        mockMvc.perform(get(BASE_URL + "aggregate")
+                        .param("from", "2025-01-01")
+                        .param("to", "2025-04-01")
+                        .param("granularity", "MONTH")
+                        .param("byCategory", "true")
+                        .param("category", "PRODUCTS", "HOUSE")
+                        .param("income", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].category").value("PRODUCTS"))
+                .andExpect(jsonPath("$[0].count").value(3));
+
+        ArgumentCaptor<CubeQuery> query = ArgumentCaptor.forClass(CubeQuery.class);
+        verify(analyticsService).aggregate(eq(1L), query.capture());
+        assertEquals(new CubeQuery(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 4, 1), CubeQuery.Granularity.MONTH,
+                true, Set.of(Category.PRODUCTS, Category.HOUSE), false), query.getValue());
+    }
+
+    @Test
+    @DisplayName("GET /transactions/statistics/timeseries returns one point per bucket")
+    public void handleTimeSeriesTest() throws Exception {
+        when(analyticsService.getConsumptionTimeSeries(1L, TimeBucket.WEEK, LocalDate.of(2025, 3, 3),
+                LocalDate.of(2025, 3, 17), Category.PRODUCTS))
+                .thenReturn(List.of(new TimeSeriesPointDTO(LocalDate.of(2025, 3, 3), new BigDecimal("12.50")),
+                        new TimeSeriesPointDTO(LocalDate.of(2025, 3, 10), new BigDecimal("0.00"))));
+
+        mockMvc.perform(get(BASE_URL + "timeseries")
+                        .param("granularity", "WEEK")
+                        .param("from", "2025-03-03")
+                        .param("to", "2025-03-17")
+                        .param("category", "PRODUCTS"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].amount").value(12.5))
+                .andExpect(jsonPath("$[1].amount").value(0.0));
+    }
+
+    @Test
+    @DisplayName("GET /transactions/statistics/balance returns 503 with Retry-After when analytics are saturated")
+    public void handleBalanceWhenAnalyticsSaturatedTest() throws Exception {
+        when(mockService.getBalanceByUserId(anyLong()))
+                .thenThrow(new WorkloadSaturatedException("Too many concurrent analytics requests, retry later",
+                        Duration.ofMillis(4500)));
+
+        mockMvc.perform(get(BASE_URL + "balance"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"));
+    }
 }
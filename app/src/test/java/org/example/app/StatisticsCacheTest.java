@@ -0,0 +1,56 @@
+package org.example.app;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.app.application.cache.SingleFlight;
+import org.example.app.application.cache.StatisticsCache;
+import org.example.app.application.cache.UserDataVersions;
+import org.example.app.domain.model.Category;
+import org.example.app.util.InMemoryUserDataVersionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class StatisticsCacheTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserDataVersions userDataVersions = new UserDataVersions(new InMemoryUserDataVersionRepository());
+    private final StatisticsCache cache = new StatisticsCache(userDataVersions, new SingleFlight(meterRegistry),
+            meterRegistry, DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+
+    @Test
+    @DisplayName("Repeated reads are served from the cache until the user's data version changes")
+    public void entriesAreInvalidatedByVersionBumpTest() {
+        AtomicInteger loads = new AtomicInteger();
+
+        BigDecimal first = cache.get("balance", 1L, () -> BigDecimal.valueOf(loads.incrementAndGet()));
+        BigDecimal second = cache.get("balance", 1L, () -> BigDecimal.valueOf(loads.incrementAndGet()));
+        userDataVersions.bump(1L);
+        BigDecimal afterChange = cache.get("balance", 1L, () -> BigDecimal.valueOf(loads.incrementAndGet()));
+
+        assertEquals(BigDecimal.ONE, first);
+        assertEquals(BigDecimal.ONE, second);
+        assertEquals(BigDecimal.valueOf(2), afterChange);
+    }
+
+    @Test
+    @DisplayName("Entries are keyed by user, query and parameters")
+    public void entriesAreKeyedByUserQueryAndParamsTest() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("consumption-by-category", 1L, () -> BigDecimal.valueOf(loads.incrementAndGet()), Category.PRODUCTS);
+        cache.get("consumption-by-category", 1L, () -> BigDecimal.valueOf(loads.incrementAndGet()), Category.TRANSPORT);
+        cache.get("consumption-by-category", 2L, () -> BigDecimal.valueOf(loads.incrementAndGet()), Category.PRODUCTS);
+        cache.get("balance", 1L, () -> BigDecimal.valueOf(loads.incrementAndGet()));
+        userDataVersions.bump(2L);
+        BigDecimal untouched = cache.get("consumption-by-category", 1L,
+                () -> BigDecimal.valueOf(loads.incrementAndGet()), Category.PRODUCTS);
+
+        assertEquals(4, loads.get());
+        assertEquals(BigDecimal.ONE, untouched);
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.app;
+
+import org.example.app.application.cache.TransactionCube;
+import org.example.app.application.cache.TransactionCubeCache;
+import org.example.app.application.dto.statistic.TimeSeriesPointDTO;
+import org.example.app.application.service.TransactionAnalyticsService;
+import org.example.app.domain.model.Category;
+import org.example.app.domain.model.DateRange;
+import org.example.app.domain.model.TimeBucket;
+import org.example.app.domain.model.Transaction;
+import org.example.app.domain.model.TransactionHistory;
+import org.example.app.domain.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TransactionAnalyticsServiceTest {
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private TransactionCubeCache transactionCubeCache;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @InjectMocks
+    private TransactionAnalyticsService service;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this).close();
+    }
+
+    @Test
+    @DisplayName("Time series is read with one query and buckets without consumption are zero-filled")
+    public void timeSeriesFromDatabaseIsZeroFilledTest() {
+        when(transactionRepository.getConsumptionTimeSeries(USER_ID, TimeBucket.MONTH, null,
+                DateRange.of(LocalDate.of(2025, 1, 15), LocalDate.of(2025, 4, 1))))
+                .thenReturn(Map.of(LocalDate.of(2025, 2, 1), new BigDecimal("40.25")));
+
+        List<TimeSeriesPointDTO> result = service.getConsumptionTimeSeries(USER_ID, TimeBucket.MONTH,
+                LocalDate.of(2025, 1, 15), LocalDate.of(2025, 4, 1), null);
+
+        assertEquals(List.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1), LocalDate.of(2025, 3, 1)),
+                result.stream().map(TimeSeriesPointDTO::getPeriod).toList());
+        assertEquals(List.of(new BigDecimal("0.00"), new BigDecimal("40.25"), new BigDecimal("0.00")),
+                result.stream().map(TimeSeriesPointDTO::getAmount).toList());
+    }
+
+    @Test
+    @DisplayName("Time series is computed from the loaded cube without querying the database")
+    public void timeSeriesFromCubeTest() {
+        when(transactionCubeCache.getIfPresent(USER_ID)).thenReturn(TransactionCube.of(new TransactionHistory(List.of(
+                new Transaction(1L, USER_ID, new BigDecimal("12.50"), Category.PRODUCTS, null,
+                        LocalDate.of(2025, 3, 4), false),
+                new Transaction(2L, USER_ID, new BigDecimal("7.00"), Category.TRANSPORT, null,
+                        LocalDate.of(2025, 3, 5), false),
+                new Transaction(3L, USER_ID, new BigDecimal("100.00"), Category.INCOME, null,
+                        LocalDate.of(2025, 3, 12), true)),
+                Set.of())));
+
+        List<TimeSeriesPointDTO> result = service.getConsumptionTimeSeries(USER_ID, TimeBucket.WEEK,
+                LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 17), Category.PRODUCTS);
+
+        assertEquals(List.of(new BigDecimal("12.50"), new BigDecimal("0.00")),
+                result.stream().map(TimeSeriesPointDTO::getAmount).toList());
+        verify(transactionRepository, never()).getConsumptionTimeSeries(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Empty or too long periods are rejected")
+    public void timeSeriesRejectsInvalidPeriodTest() {
+        assertThrows(IllegalArgumentException.class, () -> service.getConsumptionTimeSeries(USER_ID,
+                TimeBucket.DAY, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 1), null));
+        assertThrows(IllegalArgumentException.class, () -> service.getConsumptionTimeSeries(USER_ID,
+                TimeBucket.DAY, LocalDate.of(2020, 1, 1), LocalDate.of(2025, 1, 1), null));
+    }
+}
@@ -1,10 +1,12 @@
 package org.example.app;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.app.application.dto.BatchGetDTO;
 import org.example.app.application.dto.transaction.TransactionCreateDTO;
 import org.example.app.application.dto.transaction.TransactionDTO;
 import org.example.app.application.dto.transaction.TransactionEditDTO;
 import org.example.app.application.exception.ResourceNotFoundException;
+import org.example.app.application.exception.VersionConflictException;
 import org.example.app.application.handler.GlobalExceptionHandler;
 import org.example.app.application.service.TransactionService;
 import org.example.app.presentation.controller.TransactionController;
@@ -27,6 +29,9 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -90,6 +95,31 @@ public class TransactionControllerTest {
                         containsString(expectedTransaction.getDescription())));
     }
 
+    @Test
+    @DisplayName("POST /api/transactions/batch-get returns transactions for the requested IDs")
+    public void batchGetTransactionsTest() throws Exception {
+        TransactionDTO transactionDTO = generator.getTransactionDTO();
+        TransactionDTO transactionDTO2 = generator.getTransactionDTO();
+
+        when(mockService.getAllByIds(List.of(2L, 1L))).thenReturn(List.of(transactionDTO2, transactionDTO));
+
+        mockMvc.perform(post(BASE_URL + "/batch-get")
+                        .contentType(JSON_CONTENT_TYPE)
+                        .content(mapper.writeValueAsString(new BatchGetDTO(List.of(2L, 1L)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].description", containsString(transactionDTO2.getDescription())))
+                .andExpect(jsonPath("$[1].description", containsString(transactionDTO.getDescription())));
+    }
+
+    @Test
+    @DisplayName("POST /api/transactions/batch-get with an empty list of IDs returns 400 BAD REQUEST")
+    public void batchGetTransactionsWithEmptyIdsTest() throws Exception {
+        mockMvc.perform(post(BASE_URL + "/batch-get")
+                        .contentType(JSON_CONTENT_TYPE)
+                        .content(mapper.writeValueAsString(new BatchGetDTO(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("GET /api/transactions/{id}/user returns transactions by user ID returns the correct list of TransactionDTOs")
     public void getTransactionsByUserIdTest() throws Exception {
@@ -125,6 +155,24 @@ public class TransactionControllerTest {
                 .andExpect(jsonPath("$", containsString("Transaction added")));
     }
 
+    @Test
+    @DisplayName("POST /api/transactions with an Idempotency-Key header creates the transaction through the idempotent path")
+    public void createTransactionWithIdempotencyKeyTest() throws Exception {
+        TransactionCreateDTO createDTO = generator.getCreateDTO();
+
+        when(mockService.create(any(TransactionCreateDTO.class), eq("retry-key"))).thenReturn(1L);
+
+        mockMvc.perform(post(BASE_URL)
+                        .contentType(JSON_CONTENT_TYPE)
+                        .header(TransactionController.IDEMPOTENCY_KEY_HEADER, "retry-key")
+                        .content(mapper.writeValueAsString(createDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", containsString("Transaction added")));
+
+        verify(mockService).create(any(TransactionCreateDTO.class), eq("retry-key"));
+        verify(mockService, never()).create(any(TransactionCreateDTO.class));
+    }
+
     @Test
     @DisplayName("POST /api/transactions/{id} updating an existing transaction with valid data returns 200 OK status")
     public void updateTransactionWithValidDataTest() throws Exception {
@@ -139,6 +187,21 @@ public class TransactionControllerTest {
                 .andExpect(jsonPath("$", containsString("Transaction updated successfully")));
     }
 
+    @Test
+    @DisplayName("POST /api/transactions/{id} updating a transaction with a stale version returns 409 CONFLICT")
+    public void updateTransactionWithStaleVersionTest() throws Exception {
+        TransactionEditDTO editDTO = generator.getEditDTO();
+        editDTO.setVersion(1L);
+
+        doThrow(new VersionConflictException("Transaction was modified concurrently"))
+                .when(mockService).update(any(TransactionEditDTO.class));
+
+        mockMvc.perform(post(BASE_URL + "/{id}", 1L)
+                        .contentType(JSON_CONTENT_TYPE)
+                        .content(mapper.writeValueAsString(editDTO)))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     @DisplayName("DELETE /api/transactions/{id} deleting a transaction by ID returns 404 Not Found status")
     public void deleteTransactionByIdTest() throws Exception {
@@ -0,0 +1,128 @@
+package org.example.app;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.app.application.cache.CubeQuery;
+import org.example.app.application.cache.CubeRow;
+import org.example.app.application.cache.TransactionCube;
+import org.example.app.application.cache.TransactionCubeCache;
+import org.example.app.application.cache.UserDataVersions;
+import org.example.app.domain.model.Category;
+import org.example.app.domain.model.Transaction;
+import org.example.app.domain.model.TransactionChange;
+import org.example.app.domain.model.TransactionChangeType;
+import org.example.app.domain.model.TransactionHistory;
+import org.example.app.domain.repository.TransactionRepository;
+import org.example.app.util.InMemoryUserDataVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TransactionCubeTest {
+    private static final Long USER_ID = 1L;
+
+    private TransactionCube cube;
+
+    @BeforeEach
+    public void setUp() {
+        cube = TransactionCube.of(new TransactionHistory(List.of(
+                transaction(1L, "100.00", Category.INCOME, LocalDate.of(2025, 1, 31), true),
+                transaction(2L, "12.50", Category.PRODUCTS, LocalDate.of(2025, 2, 2), false),
+                transaction(3L, "7.25", Category.TRANSPORT, LocalDate.of(2025, 2, 3), false),
+                transaction(4L, "40.00", Category.PRODUCTS, LocalDate.of(2025, 2, 10), false)),
+                Set.of(100L)));
+    }
+
+    @Test
+    @DisplayName("Aggregates by month and category within a half-open date range")
+    public void aggregatesByMonthAndCategoryTest() {
+        List<CubeRow> rows = cube.aggregate(new CubeQuery(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 10),
+                CubeQuery.Granularity.MONTH, true, null, null));
+
+        assertEquals(List.of(
+                new CubeRow(LocalDate.of(2025, 1, 1), Category.INCOME, 10000, 0, 1),
+                new CubeRow(LocalDate.of(2025, 2, 1), Category.PRODUCTS, 0, 1250, 1),
+                new CubeRow(LocalDate.of(2025, 2, 1), Category.TRANSPORT, 0, 725, 1)), rows);
+    }
+
+    @Test
+    @DisplayName("Weeks start on Monday and filters apply to category and income flag")
+    public void aggregatesByWeekWithFiltersTest() {
+        List<CubeRow> rows = cube.aggregate(new CubeQuery(null, null, CubeQuery.Granularity.WEEK, false,
+                Set.of(Category.PRODUCTS, Category.TRANSPORT), false));
+
+        assertEquals(List.of(
+                new CubeRow(LocalDate.of(2025, 1, 27), null, 0, 1250, 1),
+                new CubeRow(LocalDate.of(2025, 2, 3), null, 0, 725, 1),
+                new CubeRow(LocalDate.of(2025, 2, 10), null, 0, 4000, 1)), rows);
+    }
+
+    @Test
+    @DisplayName("Changes replace rows by transaction id and already loaded changes are skipped")
+    public void appliesChangesTest() {
+        Transaction before = transaction(2L, "12.50", Category.PRODUCTS, LocalDate.of(2025, 2, 2), false);
+        Transaction after = transaction(2L, "20.00", Category.HOUSE, LocalDate.of(2025, 1, 5), false);
+
+        assertSame(cube, cube.apply(USER_ID, change(100L, before, after)));
+
+        TransactionCube updated = cube.apply(USER_ID, change(101L, before, after));
+        TransactionCube replayed = updated.apply(USER_ID, change(101L, before, after));
+        TransactionCube deleted = replayed.apply(USER_ID, change(102L, transaction(4L, "40.00",
+                Category.PRODUCTS, LocalDate.of(2025, 2, 10), false), null));
+
+        CubeQuery total = new CubeQuery(null, null, CubeQuery.Granularity.MONTH, false, null, null);
+        assertEquals(List.of(
+                new CubeRow(LocalDate.of(2025, 1, 1), null, 10000, 2000, 2),
+                new CubeRow(LocalDate.of(2025, 2, 1), null, 0, 725, 1)), deleted.aggregate(total));
+        assertEquals(3, deleted.size());
+    }
+
+    @Test
+    @DisplayName("Cache reloads a cube loaded before the latest change of user data")
+    public void cacheReloadsCubeWithStaleVersionTest() {
+        TransactionRepository transactionRepository = mock(TransactionRepository.class);
+        UserDataVersions userDataVersions = new UserDataVersions(new InMemoryUserDataVersionRepository());
+        TransactionCubeCache cache = new TransactionCubeCache(transactionRepository, userDataVersions,
+                new SimpleMeterRegistry(), DataSize.ofMegabytes(1), Duration.ofMinutes(30));
+        when(transactionRepository.getTransactionHistory(USER_ID)).thenReturn(
+                new TransactionHistory(List.of(transaction(1L, "100.00", Category.INCOME,
+                        LocalDate.of(2025, 1, 31), true)), Set.of()),
+                new TransactionHistory(List.of(), Set.of()));
+
+        assertEquals(1, cache.get(USER_ID).size());
+        assertEquals(1, cache.get(USER_ID).size());
+
+        userDataVersions.bump(USER_ID);
+
+        assertNull(cache.getIfPresent(USER_ID));
+        assertEquals(0, cache.get(USER_ID).size());
+        assertEquals(0, cache.getIfPresent(USER_ID).size());
+        verify(transactionRepository, times(2)).getTransactionHistory(USER_ID);
+    }
+
+    private static Transaction transaction(Long id, String amount, Category category, LocalDate date,
+                                           boolean income) {
+        return new Transaction(id, USER_ID, new BigDecimal(amount), category, null, date, income);
+    }
+
+    private static TransactionChange change(Long id, Transaction before, Transaction after) {
+        Long transactionId = before != null ? before.getId() : after.getId();
+        return new TransactionChange(id, id, transactionId, TransactionChangeType.UPDATED, before, after,
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.app;
+
+import org.example.app.application.dto.transaction.TransactionCreateDTO;
+import org.example.app.application.service.TransactionRequestHash;
+import org.example.app.domain.model.Category;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class TransactionRequestHashTest {
+
+    @Test
+    @DisplayName("Request hash is a fixed SHA-256 of the canonical request, independent of the JVM instance")
+    public void hashIsStableTest() {
+        TransactionCreateDTO dto = new TransactionCreateDTO(1L, new BigDecimal("1500.50"), Category.PRODUCTS,
+                "milk", LocalDate.of(2025, 3, 5), false);
+
+        assertEquals("2071c7dd3aa60e9210395aabf74e76c8328133b773c99eb764e4560a5b1f7997",
+                TransactionRequestHash.of(dto));
+    }
+
+    @Test
+    @DisplayName("Equal amounts with different scale hash equally, shifted field boundaries do not")
+    public void hashIsCanonicalTest() {
+        TransactionCreateDTO dto = new TransactionCreateDTO(1L, new BigDecimal("1500.50"), Category.PRODUCTS,
+                "milk", LocalDate.of(2025, 3, 5), false);
+        TransactionCreateDTO rescaled = new TransactionCreateDTO(1L, new BigDecimal("1500.5"), Category.PRODUCTS,
+                "milk", LocalDate.of(2025, 3, 5), false);
+        TransactionCreateDTO otherDescription = new TransactionCreateDTO(1L, new BigDecimal("1500.50"),
+                Category.PRODUCTS, "milk|", LocalDate.of(2025, 3, 5), false);
+
+        assertEquals(TransactionRequestHash.of(dto), TransactionRequestHash.of(rescaled));
+        assertNotEquals(TransactionRequestHash.of(dto), TransactionRequestHash.of(otherDescription));
+    }
+}
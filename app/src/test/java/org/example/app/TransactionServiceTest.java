@@ -3,8 +3,19 @@ package org.example.app;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import org.example.app.domain.model.Category;
+import org.example.app.domain.model.DateRange;
+import org.example.app.domain.model.OutboxPosition;
+import org.example.app.domain.model.SavingsHistory;
+import org.example.app.domain.model.TimeBucket;
 import org.example.app.domain.model.Transaction;
+import org.example.app.domain.model.TransactionChange;
+import org.example.app.domain.model.TransactionChangeType;
+import org.example.app.domain.model.TransactionHistory;
+import org.example.app.domain.repository.IdempotencyKeyRepository;
+import org.example.app.domain.repository.TransactionOutboxRepository;
 import org.example.app.domain.repository.TransactionRepository;
+import org.example.app.domain.repository.impl.IdempotencyKeyRepositoryImpl;
+import org.example.app.domain.repository.impl.TransactionOutboxRepositoryImpl;
 import org.example.app.domain.repository.impl.TransactionRepositoryImpl;
 import org.example.app.util.TransactionGenerator;
 import org.junit.jupiter.api.BeforeAll;
@@ -19,14 +30,18 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.Statement;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
@@ -42,6 +57,8 @@ public class TransactionServiceTest {
 
     private static TransactionGenerator generator = new TransactionGenerator();
     private static TransactionRepository repository;
+    private static TransactionOutboxRepository outboxRepository;
+    private static IdempotencyKeyRepository idempotencyKeyRepository;
     private static HikariDataSource dataSource;
     private static HikariConfig config;
 
@@ -55,6 +72,8 @@ public class TransactionServiceTest {
         dataSource = new HikariDataSource(config);
         // Инициализация репозитория и сервиса
         repository = new TransactionRepositoryImpl(dataSource);
+        outboxRepository = new TransactionOutboxRepositoryImpl(dataSource);
+        idempotencyKeyRepository = new IdempotencyKeyRepositoryImpl(dataSource);
 
         // Создание таблицы и тестовых данных
         try (Connection connection = dataSource.getConnection();
@@ -62,7 +81,21 @@ public class TransactionServiceTest {
             statement.execute("CREATE SCHEMA IF NOT EXISTS financial_tracker");
             statement.execute("CREATE TABLE IF NOT EXISTS financial_tracker.transactions " +
                     "(id SERIAL PRIMARY KEY, user_id INT NOT NULL , amount DECIMAL(10, 2) NOT NULL , " +
-                    "category VARCHAR(100) NOT NULL , description TEXT, date TIMESTAMP, is_income BOOLEAN)");
+                    "category VARCHAR(100) NOT NULL , description TEXT, date DATE, is_income BOOLEAN, " +
+                    "version BIGINT NOT NULL DEFAULT 0)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_transactions_user_id_date " +
+                    "ON financial_tracker.transactions (user_id, date)");
+            statement.execute("CREATE TABLE IF NOT EXISTS financial_tracker.transaction_outbox " +
+                    "(id BIGSERIAL PRIMARY KEY, transaction_id INT NOT NULL, change_type VARCHAR(16) NOT NULL, " +
+                    "old_user_id INT, old_amount DECIMAL(10, 2), old_category VARCHAR(100), " +
+                    "old_date DATE, old_is_income BOOLEAN, " +
+                    "new_user_id INT, new_amount DECIMAL(10, 2), new_category VARCHAR(100), " +
+                    "new_date DATE, new_is_income BOOLEAN, created_at TIMESTAMP NOT NULL, " +
+                    "tx_id xid8 NOT NULL DEFAULT pg_current_xact_id(), notified_at TIMESTAMP)");
+            statement.execute("CREATE TABLE IF NOT EXISTS financial_tracker.idempotency_keys " +
+                    "(user_id INT NOT NULL, idempotency_key VARCHAR(64) NOT NULL, request_hash VARCHAR(64) NOT NULL, " +
+                    "transaction_id BIGINT NOT NULL, created_at TIMESTAMP NOT NULL, " +
+                    "PRIMARY KEY (user_id, idempotency_key))");
         }
 
         for (Transaction transaction : generator.getTransactionList()) {
@@ -86,6 +119,58 @@ public class TransactionServiceTest {
         assertTrue(resultToString.contains(create.getCategory().name()));
     }
 
+    @Test
+    @DisplayName("Should save a batch of transactions and assign their ids")
+    public void saveAllTransactionsTest() {
+        Long userId = 555L;
+        List<Transaction> batch = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Transaction transaction = generator.getTransaction();
+            transaction.setUserId(userId);
+            batch.add(transaction);
+        }
+
+        repository.saveAll(batch);
+
+        assertTrue(batch.stream().allMatch(transaction -> transaction.getId() != null));
+        assertEquals(5, repository.findAllByUserId(userId).size());
+    }
+
+    @Test
+    @DisplayName("Should find transactions by a list of ids in one query and skip unknown ids")
+    public void findAllTransactionsByIdsTest() {
+        Long first = repository.save(generator.getTransaction());
+        Long second = repository.save(generator.getTransaction());
+
+        List<Transaction> result = repository.findAllByIds(List.of(second, first, 99999L));
+
+        assertEquals(2, result.size());
+        assertTrue(result.stream().map(Transaction::getId).toList().containsAll(List.of(first, second)));
+        assertTrue(repository.findAllByIds(List.of()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should save a transaction only once for the same idempotency key")
+    public void saveWithIdempotencyKeyTest() {
+        Long userId = 777L;
+        Transaction first = generator.getTransaction();
+        first.setUserId(userId);
+        Transaction retry = generator.getTransaction();
+        retry.setUserId(userId);
+
+        Optional<Long> id = repository.saveWithIdempotencyKey(first, "retry-key", "request-hash",
+                Duration.ofHours(1));
+        Optional<Long> retried = repository.saveWithIdempotencyKey(retry, "retry-key", "request-hash",
+                Duration.ofHours(1));
+
+        assertTrue(id.isPresent());
+        assertTrue(retried.isEmpty());
+        assertEquals(1, repository.findAllByUserId(userId).size());
+        assertEquals(id.get(), idempotencyKeyRepository.findLive(userId, "retry-key", Duration.ofHours(1))
+                .orElseThrow().transactionId());
+        assertEquals(0, idempotencyKeyRepository.deleteExpired(Duration.ofHours(1)));
+    }
+
     @Test
     @DisplayName("Should retrieve all transactions for a specific user")
     public void getAllTransactionsByUserIdTest() {
@@ -122,6 +207,32 @@ public class TransactionServiceTest {
         assertEquals("description", result.getDescription());
     }
 
+    @Test
+    @DisplayName("Should reject update with a stale version and keep the stored transaction")
+    public void updateTransactionWithStaleVersionTest() {
+        Transaction create = generator.getTransaction();
+        Long id = repository.save(create);
+        Long version = repository.findById(id).get().getVersion();
+
+        Transaction first = generator.getTransaction();
+        first.setId(id);
+        first.setVersion(version);
+        first.setDescription("first");
+        Optional<Transaction> previous = repository.update(first);
+
+        Transaction second = generator.getTransaction();
+        second.setId(id);
+        second.setVersion(version);
+        second.setDescription("second");
+        Optional<Transaction> conflict = repository.update(second);
+
+        assertTrue(previous.isPresent());
+        assertEquals(create.getAmount().compareTo(previous.get().getAmount()), 0);
+        assertEquals(Long.valueOf(version + 1), first.getVersion());
+        assertTrue(conflict.isEmpty());
+        assertEquals("first", repository.findById(id).get().getDescription());
+    }
+
     @Test
     @DisplayName("Should delete a transaction and verify it's removed")
     public void deleteTransactionTest() {
@@ -135,6 +246,112 @@ public class TransactionServiceTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    @DisplayName("Should write create, update and delete changes to the outbox")
+    public void writeTransactionChangesToOutboxTest() {
+        OutboxPosition start = outboxRepository.currentPosition();
+        Transaction create = generator.getTransaction();
+        Long id = repository.save(create);
+
+        Transaction edit = generator.getTransaction();
+        edit.setId(id);
+        edit.setAmount(new BigDecimal("42.00"));
+        repository.update(edit);
+        repository.deleteById(id);
+
+        List<TransactionChange> result = outboxRepository.findAfter(start, 100).stream()
+                .filter(change -> change.getTransactionId().equals(id))
+                .toList();
+
+        assertEquals(3, result.size());
+        assertEquals(TransactionChangeType.CREATED, result.get(0).getType());
+        assertEquals(TransactionChangeType.UPDATED, result.get(1).getType());
+        assertEquals(0, create.getAmount().compareTo(result.get(1).getBefore().getAmount()));
+        assertEquals(0, new BigDecimal("42.00").compareTo(result.get(1).getAfter().getAmount()));
+        assertEquals(TransactionChangeType.DELETED, result.get(2).getType());
+        assertNull(result.get(2).getAfter());
+    }
+
+    @Test
+    @DisplayName("Should deliver outbox changes to every reader, notify once and keep changes until they are pruned by age")
+    public void readOutboxFromPositionTest() {
+        OutboxPosition start = outboxRepository.currentPosition();
+        Long id = repository.save(generator.getTransaction());
+
+        List<TransactionChange> firstReader = outboxRepository.findAfter(start, 100);
+        List<TransactionChange> secondReader = outboxRepository.findAfter(start, 100);
+        TransactionChange last = firstReader.get(firstReader.size() - 1);
+        List<TransactionChange> afterLast = outboxRepository.findAfter(
+                new OutboxPosition(last.getTxId(), last.getId()), 100);
+
+        assertEquals(id, last.getTransactionId());
+        assertEquals(firstReader.size(), secondReader.size());
+        assertTrue(afterLast.isEmpty());
+        assertTrue(outboxRepository.claimNotification(last.getId()));
+        assertFalse(outboxRepository.claimNotification(last.getId()));
+        assertEquals(0, outboxRepository.deleteOlderThan(Duration.ofHours(1)));
+        assertFalse(outboxRepository.findAfter(start, 100).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should aggregate balance and monthly net savings for a user")
+    public void getSavingsHistoryTest() {
+        Long userId = 4321L;
+        LocalDate today = LocalDate.now();
+        repository.save(new Transaction(null, userId, new BigDecimal("100.00"), Category.INCOME,
+                "salary", today, true));
+        repository.save(new Transaction(null, userId, new BigDecimal("30.00"), Category.PRODUCTS,
+                "food", today, false));
+        repository.save(new Transaction(null, userId, new BigDecimal("20.00"), Category.PRODUCTS,
+                "food", today.minusYears(1), false));
+
+        SavingsHistory result = repository.getSavingsHistory(userId, today.withDayOfMonth(1));
+
+        assertEquals(0, new BigDecimal("50.00").compareTo(result.getBalance()));
+        assertEquals(1, result.getMonthlyNet().size());
+        assertEquals(0, new BigDecimal("70.00").compareTo(result.getMonthlyNet().get(YearMonth.from(today))));
+    }
+
+    @Test
+    @DisplayName("Should read transaction history ordered by date together with pending outbox changes")
+    public void getTransactionHistoryTest() {
+        Long userId = 4322L;
+        LocalDate today = LocalDate.now();
+        Long later = repository.save(new Transaction(null, userId, new BigDecimal("30.00"), Category.PRODUCTS,
+                "food", today, false));
+        Long earlier = repository.save(new Transaction(null, userId, new BigDecimal("100.00"), Category.INCOME,
+                "salary", today.minusDays(3), true));
+
+        TransactionHistory result = repository.getTransactionHistory(userId);
+
+        assertEquals(List.of(earlier, later), result.getTransactions().stream().map(Transaction::getId).toList());
+        assertEquals(2, result.getPendingChangeIds().size());
+    }
+
+    @Test
+    @DisplayName("Should group consumption by week with a single query")
+    public void getConsumptionTimeSeriesTest() {
+        Long userId = 4323L;
+        repository.save(new Transaction(null, userId, new BigDecimal("10.00"), Category.PRODUCTS,
+                "monday", LocalDate.of(2025, 3, 3), false));
+        repository.save(new Transaction(null, userId, new BigDecimal("5.50"), Category.TRANSPORT,
+                "sunday", LocalDate.of(2025, 3, 9), false));
+        repository.save(new Transaction(null, userId, new BigDecimal("20.00"), Category.PRODUCTS,
+                "next week", LocalDate.of(2025, 3, 12), false));
+        repository.save(new Transaction(null, userId, new BigDecimal("100.00"), Category.INCOME,
+                "salary", LocalDate.of(2025, 3, 4), true));
+
+        Map<LocalDate, BigDecimal> all = repository.getConsumptionTimeSeries(userId, TimeBucket.WEEK, null,
+                DateRange.month(YearMonth.of(2025, 3)));
+        Map<LocalDate, BigDecimal> products = repository.getConsumptionTimeSeries(userId, TimeBucket.WEEK,
+                Category.PRODUCTS, DateRange.month(YearMonth.of(2025, 3)));
+
+        assertEquals(Map.of(LocalDate.of(2025, 3, 3), new BigDecimal("15.50"),
+                LocalDate.of(2025, 3, 10), new BigDecimal("20.00")), all);
+        assertEquals(Map.of(LocalDate.of(2025, 3, 3), new BigDecimal("10.00"),
+                LocalDate.of(2025, 3, 10), new BigDecimal("20.00")), products);
+    }
+
     @Test
     @DisplayName("Should return empty list for non-existent user")
     public void getTransactionByWrongUserIdTest() {
@@ -186,11 +403,37 @@ public class TransactionServiceTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    @DisplayName("Should delete user's transactions in bounded batches and write them to the outbox")
+    public void deleteTransactionsBatchByUserIdTest() {
+        Long userId = 7001L;
+        OutboxPosition start = outboxRepository.currentPosition();
+        for (int i = 0; i < 3; i++) {
+            Transaction transaction = generator.getTransaction();
+            transaction.setUserId(userId);
+            repository.save(transaction);
+        }
+
+        int firstBatch = repository.deleteBatchByUserId(userId, 2);
+        int secondBatch = repository.deleteBatchByUserId(userId, 2);
+        int thirdBatch = repository.deleteBatchByUserId(userId, 2);
+
+        assertEquals(2, firstBatch);
+        assertEquals(1, secondBatch);
+        assertEquals(0, thirdBatch);
+        assertTrue(repository.findAllByUserId(userId).isEmpty());
+
+        List<TransactionChange> deleted = outboxRepository.findAfter(start, 100).stream()
+                .filter(change -> change.getType() == TransactionChangeType.DELETED)
+                .toList();
+        assertEquals(3, deleted.size());
+        assertTrue(deleted.stream().allMatch(change -> userId.equals(change.getBefore().getUserId())));
+    }
+
     @Test
     @DisplayName("Should delete transaction not found")
     public void deleteNotFoundTransactionTest() {
-        assertThrows(RuntimeException.class,
-                () -> repository.deleteById(99999L));
+        assertTrue(repository.deleteById(99999L).isEmpty());
     }
 
     @Test
@@ -222,18 +465,32 @@ public class TransactionServiceTest {
         LocalDate startDate = LocalDate.of(2025, 3, 6);
         LocalDate endDate = LocalDate.of(2025, 3, 10);
 
-        BigDecimal result = repository.getConsumptionByUserIdByPeriodDate(1234L, startDate, endDate);
+        BigDecimal result = repository.getConsumptionByUserIdByPeriodDate(1234L,
+                DateRange.closed(startDate, endDate));
 
         assertEquals(new BigDecimal(100.00).setScale(2), result);
     }
 
+    @Test
+    @DisplayName("Should include the last day of a closed range and exclude the end of a half-open range")
+    public void getConsumptionByUserIdByPeriodDateBoundariesTest() {
+        LocalDate startDate = LocalDate.of(2025, 3, 5);
+        LocalDate endDate = LocalDate.of(2025, 3, 7);
+
+        assertEquals(new BigDecimal("1300.00"), repository.getConsumptionByUserIdByPeriodDate(1234L,
+                DateRange.closed(startDate, endDate)));
+        assertEquals(new BigDecimal("1200.00"), repository.getConsumptionByUserIdByPeriodDate(1234L,
+                DateRange.of(startDate, endDate)));
+    }
+
     @Test
     @DisplayName("Should calculate income for a user within date range")
     public void getIncomeByUserIdByPeriodDateTest() {
         LocalDate startDate = LocalDate.of(2025, 2, 20);
         LocalDate endDate = LocalDate.of(2025, 2, 28);
 
-        BigDecimal result = repository.getIncomeByUserIdByPeriodDate(1234L, startDate, endDate);
+        BigDecimal result = repository.getIncomeByUserIdByPeriodDate(1234L,
+                DateRange.closed(startDate, endDate));
 
         assertEquals(new BigDecimal(50000.00).setScale(2), result);
     }
@@ -254,6 +511,18 @@ public class TransactionServiceTest {
         assertEquals(new BigDecimal(47500.00).setScale(2), result);
     }
 
+    @Test
+    @DisplayName("Should return zero balance for a user without income")
+    public void getBalanceByUserIdWithoutIncomeTest() {
+        Transaction expense = generator.getTransaction();
+        expense.setUserId(8001L);
+        expense.setIncome(false);
+        repository.save(expense);
+
+        assertEquals(0, BigDecimal.ZERO.compareTo(repository.getBalanceByUserId(8001L)));
+        assertEquals(0, BigDecimal.ZERO.compareTo(repository.getBalanceByUserId(8002L)));
+    }
+
     @Test
     @DisplayName("Should find transactions for a user on specific date")
     public void findAllByUserIdByDateTest() {
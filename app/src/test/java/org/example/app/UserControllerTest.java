@@ -5,9 +5,11 @@ import org.example.app.application.dto.AuthDTO;
 import org.example.app.application.dto.user.UserCreateDTO;
 import org.example.app.application.dto.user.UserDTO;
 import org.example.app.application.dto.user.UserEditDTO;
+import org.example.app.application.dto.user.UserErasureDTO;
 import org.example.app.application.exception.ResourceNotFoundException;
 import org.example.app.application.handler.GlobalExceptionHandler;
 import org.example.app.application.service.UserService;
+import org.example.app.domain.model.UserErasureStatus;
 import org.example.app.presentation.controller.UserController;
 import org.example.app.util.UserGenerator;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +33,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -150,10 +153,27 @@ public class UserControllerTest {
     }
 
     @Test
-    @DisplayName("DELETE /api/users/{id} deletes a user and returns 400 NO_CONTENT")
+    @DisplayName("DELETE /api/users/{id} starts user deletion and returns 202 ACCEPTED")
     public void deleteUserTest() throws Exception {
+        when(userService.delete(1L))
+                .thenReturn(new UserErasureDTO(1L, UserErasureStatus.PENDING, 0, 0, 0, null));
+
         mockMvc.perform(delete(BASE_URL + "/1"))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/users/1/erasure"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("GET /api/users/{id}/erasure returns user deletion progress with 200 OK")
+    public void getUserErasureTest() throws Exception {
+        when(userService.getErasure(1L))
+                .thenReturn(new UserErasureDTO(1L, UserErasureStatus.RUNNING, 1000, 2, 0, null));
+
+        mockMvc.perform(get(BASE_URL + "/1/erasure"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.transactionsDeleted").value(1000));
     }
 
     @Test
@@ -0,0 +1,86 @@
+package org.example.app;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.app.application.cache.SingleFlight;
+import org.example.app.application.cache.StatisticsCache;
+import org.example.app.application.cache.UserDataVersions;
+import org.example.app.domain.repository.UserDataVersionRepository;
+import org.example.app.domain.repository.impl.UserDataVersionRepositoryImpl;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+@Testcontainers
+public class UserDataVersionServiceTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres")
+            .withDatabaseName("postgresTest")
+            .withUsername("rootTest")
+            .withPassword("passwordTest");
+
+    private static UserDataVersionRepository repository;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(postgres.getJdbcUrl());
+        config.setUsername(postgres.getUsername());
+        config.setPassword(postgres.getPassword());
+
+        HikariDataSource dataSource = new HikariDataSource(config);
+        repository = new UserDataVersionRepositoryImpl(dataSource);
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS financial_tracker");
+            statement.execute("CREATE TABLE IF NOT EXISTS financial_tracker.user_data_versions " +
+                    "(user_id BIGINT PRIMARY KEY, version BIGINT NOT NULL)");
+        }
+    }
+
+    @Test
+    @DisplayName("Should start at zero and increment each user once per batch")
+    public void incrementVersionsTest() {
+        assertEquals(0, repository.findVersion(100L));
+
+        repository.increment(List.of(100L, 101L, 100L));
+        repository.increment(List.of(100L));
+
+        assertEquals(2, repository.findVersion(100L));
+        assertEquals(1, repository.findVersion(101L));
+    }
+
+    @Test
+    @DisplayName("A change made through one instance invalidates cached statistics of another instance")
+    public void versionBumpIsSharedBetweenInstancesTest() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UserDataVersions writerNode = new UserDataVersions(repository);
+        UserDataVersions readerNode = new UserDataVersions(repository);
+        StatisticsCache readerCache = new StatisticsCache(readerNode, new SingleFlight(meterRegistry),
+                meterRegistry, DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+        AtomicInteger loads = new AtomicInteger();
+
+        readerCache.get("balance", 200L, () -> BigDecimal.valueOf(loads.incrementAndGet()));
+        writerNode.bump(200L);
+        BigDecimal afterChange = readerCache.get("balance", 200L, () -> BigDecimal.valueOf(loads.incrementAndGet()));
+
+        assertEquals(BigDecimal.valueOf(2), afterChange);
+        assertEquals(readerNode.get(200L), writerNode.get(200L));
+    }
+}
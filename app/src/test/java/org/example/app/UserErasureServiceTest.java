@@ -0,0 +1,151 @@
+package org.example.app;
+
+import org.example.app.application.cache.ActiveSpendingLimitCache;
+import org.example.app.application.cache.UserDataVersions;
+import org.example.app.application.dto.user.UserErasureDTO;
+import org.example.app.application.exception.ResourceNotFoundException;
+import org.example.app.application.exception.UserErasureInProgressException;
+import org.example.app.application.service.UserErasureService;
+import org.example.app.domain.model.User;
+import org.example.app.domain.model.UserErasureStatus;
+import org.example.app.domain.repository.GoalRepository;
+import org.example.app.domain.repository.SpendingLimitRepository;
+import org.example.app.domain.repository.TransactionRepository;
+import org.example.app.domain.repository.UserRepository;
+import org.example.app.util.InMemoryUserDataVersionRepository;
+import org.example.app.util.InMemoryUserErasureRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class UserErasureServiceTest {
+    private static final Long USER_ID = 1L;
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private SpendingLimitRepository spendingLimitRepository;
+
+    @Mock
+    private ActiveSpendingLimitCache activeSpendingLimitCache;
+
+    private final InMemoryUserErasureRepository userErasureRepository = new InMemoryUserErasureRepository();
+
+    private UserErasureService service;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this).close();
+        service = createService(new SyncTaskExecutor());
+    }
+
+    @Test
+    @DisplayName("Dependent rows are deleted in batches until none are left, then the erasure is completed")
+    public void deletesDependentRowsInBatchesBeforeUserTest() {
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(new User()));
+        when(transactionRepository.deleteBatchByUserId(USER_ID, BATCH_SIZE)).thenReturn(2, 2, 1, 0);
+        when(goalRepository.deleteBatchByUserId(USER_ID, BATCH_SIZE)).thenReturn(1, 0);
+        when(spendingLimitRepository.deleteBatchByUserId(USER_ID, BATCH_SIZE)).thenReturn(0);
+
+        service.start(USER_ID);
+        UserErasureDTO progress = service.getProgress(USER_ID).orElseThrow();
+
+        assertEquals(UserErasureStatus.COMPLETED, progress.getStatus());
+        assertEquals(5, progress.getTransactionsDeleted());
+        assertEquals(1, progress.getGoalsDeleted());
+        assertEquals(0, progress.getSpendingLimitsDeleted());
+        verify(transactionRepository, times(4)).deleteBatchByUserId(USER_ID, BATCH_SIZE);
+        verify(spendingLimitRepository, times(2)).deleteBatchByUserId(USER_ID, BATCH_SIZE);
+        verify(activeSpendingLimitCache).invalidate(USER_ID);
+    }
+
+    @Test
+    @DisplayName("A failed batch leaves the user in place and reports the error")
+    public void failedBatchIsReportedTest() {
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(new User()));
+        when(transactionRepository.deleteBatchByUserId(USER_ID, BATCH_SIZE))
+                .thenThrow(new RuntimeException("Connection refused"));
+
+        service.start(USER_ID);
+        UserErasureDTO progress = service.getProgress(USER_ID).orElseThrow();
+
+        assertEquals(UserErasureStatus.FAILED, progress.getStatus());
+        assertEquals("Connection refused", progress.getError());
+        verify(goalRepository, never()).deleteBatchByUserId(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Erasure of a missing user is rejected and not recorded")
+    public void missingUserIsRejectedTest() {
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> service.start(USER_ID));
+        assertTrue(service.getProgress(USER_ID).isEmpty());
+        verify(transactionRepository, never()).deleteBatchByUserId(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Writes are rejected while an erasure is active and allowed after it fails")
+    public void writesAreRejectedWhileErasureIsActiveTest() {
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(new User()));
+        service = createService(task -> {
+        });
+
+        UserErasureDTO accepted = service.start(USER_ID);
+
+        assertEquals(UserErasureStatus.PENDING, accepted.getStatus());
+        assertEquals(UserErasureStatus.PENDING, service.start(USER_ID).getStatus());
+        assertThrows(UserErasureInProgressException.class, () -> service.requireNotErasing(USER_ID));
+        assertDoesNotThrow(() -> service.requireNotErasing(2L));
+    }
+
+    @Test
+    @DisplayName("An attempt taken over by another instance stops without overwriting its progress")
+    public void takenOverAttemptStopsTest() {
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(new User()));
+        when(transactionRepository.deleteBatchByUserId(USER_ID, BATCH_SIZE)).thenAnswer(invocation -> {
+            userErasureRepository.takeOver(USER_ID);
+            return BATCH_SIZE;
+        });
+
+        service.start(USER_ID);
+        UserErasureDTO progress = service.getProgress(USER_ID).orElseThrow();
+
+        assertEquals(UserErasureStatus.RUNNING, progress.getStatus());
+        assertEquals(0, progress.getTransactionsDeleted());
+        verify(transactionRepository, times(1)).deleteBatchByUserId(USER_ID, BATCH_SIZE);
+    }
+
+    private UserErasureService createService(TaskExecutor taskExecutor) {
+        return new UserErasureService(userRepository, transactionRepository, goalRepository,
+                spendingLimitRepository, userErasureRepository, activeSpendingLimitCache,
+                new UserDataVersions(new InMemoryUserDataVersionRepository()), taskExecutor, BATCH_SIZE,
+                Duration.ZERO, Duration.ofMinutes(5), Duration.ofHours(1));
+    }
+}
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
@@ -57,7 +58,7 @@ public class UserServiceTest {
             statement.execute("CREATE SCHEMA IF NOT EXISTS financial_tracker");
             statement.execute("CREATE TABLE IF NOT EXISTS financial_tracker.users " +
                     "(id SERIAL PRIMARY KEY, name VARCHAR(100), email VARCHAR(100) NOT NULL, " +
-                    "password VARCHAR(100) NOT NULL, role VARCHAR(30), is_banned BOOLEAN)");
+                    "password VARCHAR(100) NOT NULL, role VARCHAR(30), is_banned BOOLEAN, version BIGINT NOT NULL DEFAULT 0)");
         }
     }
 
@@ -126,7 +127,7 @@ public class UserServiceTest {
 
         Long id = userRepository.save(createUser);
 
-        userRepository.deleteById(id);
+        assertTrue(userRepository.deleteById(id));
 
         Optional<User> result = userRepository.findById(id);
 
@@ -188,7 +189,6 @@ public class UserServiceTest {
     @DisplayName("Should delete user with invalid ID")
     public void deleteUserWithInvalidIDTest() {
 
-        assertThrows(RuntimeException.class,
-                () -> userRepository.deleteById(9999L));
+        assertFalse(userRepository.deleteById(9999L));
     }
 }
@@ -0,0 +1,76 @@
+package org.example.app;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.app.application.exception.WorkloadSaturatedException;
+import org.example.app.domain.repository.WorkloadClass;
+import org.example.app.infrastucture.config.WorkloadProperties;
+import org.example.app.infrastucture.jdbc.WorkloadAspect;
+import org.example.app.infrastucture.jdbc.WorkloadBulkheads;
+import org.example.app.infrastucture.jdbc.WorkloadContext;
+import org.example.auditstarter.model.AuditLog;
+import org.example.auditstarter.repository.AuditLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkloadAspectTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HikariDataSource dataSource = new HikariDataSource();
+    private WorkloadBulkheads bulkheads;
+
+    @AfterEach
+    public void tearDown() {
+        bulkheads.destroy();
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("Audit records written by the audit starter repository pass through the AUDIT bulkhead")
+    public void auditStarterRepositoryUsesAuditBulkheadTest() {
+        List<WorkloadClass> observed = new ArrayList<>();
+        AuditLogRepository repository = proxy(auditBulkhead(1), auditLog -> observed.add(WorkloadContext.current()));
+
+        repository.save(new AuditLog());
+
+        assertEquals(List.of(WorkloadClass.AUDIT), observed);
+        assertEquals(0.0, meterRegistry.get(WorkloadBulkheads.IN_FLIGHT_METRIC_NAME)
+                .tag("workload", "audit").gauge().value());
+    }
+
+    @Test
+    @DisplayName("A saturated AUDIT bulkhead rejects audit records")
+    public void saturatedAuditBulkheadRejectsAuditTest() {
+        List<AuditLog> saved = new ArrayList<>();
+        AuditLogRepository repository = proxy(auditBulkhead(0), saved::add);
+
+        assertThrows(WorkloadSaturatedException.class, () -> repository.save(new AuditLog()));
+
+        assertTrue(saved.isEmpty());
+        assertEquals(1.0, meterRegistry.get(WorkloadBulkheads.REJECTED_METRIC_NAME)
+                .tag("workload", "audit").counter().count());
+    }
+
+    private WorkloadProperties auditBulkhead(int maxConcurrent) {
+        WorkloadProperties properties = new WorkloadProperties();
+        WorkloadProperties.Bulkhead audit = new WorkloadProperties.Bulkhead();
+        audit.setMaxConcurrent(maxConcurrent);
+        properties.getClasses().put(WorkloadClass.AUDIT, audit);
+        return properties;
+    }
+
+    private AuditLogRepository proxy(WorkloadProperties properties, AuditLogRepository target) {
+        bulkheads = new WorkloadBulkheads(properties, meterRegistry, dataSource);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new WorkloadAspect(bulkheads));
+        return factory.getProxy();
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.app;
+
+import org.example.app.application.exception.WorkloadSaturatedException;
+import org.example.app.infrastucture.web.WorkloadAwareAuthenticationEntryPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.web.authentication.www.BasicAuthenticationEntryPoint;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class WorkloadAwareAuthenticationEntryPointTest {
+    private WorkloadAwareAuthenticationEntryPoint entryPoint;
+
+    @BeforeEach
+    public void setUp() {
+        BasicAuthenticationEntryPoint basic = new BasicAuthenticationEntryPoint();
+        basic.setRealmName("Realm");
+        entryPoint = new WorkloadAwareAuthenticationEntryPoint(basic);
+    }
+
+    @Test
+    @DisplayName("Saturated user lookup during authentication returns 503 with Retry-After instead of 401")
+    public void saturatedLookupReturnsServiceUnavailableTest() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        WorkloadSaturatedException saturated =
+                new WorkloadSaturatedException("Too many concurrent point-reads requests, retry later",
+                        Duration.ofMillis(1500));
+
+        entryPoint.commence(new MockHttpServletRequest(), response,
+                new InternalAuthenticationServiceException(saturated.getMessage(), saturated));
+
+        assertEquals(503, response.getStatus());
+        assertEquals("2", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertNull(response.getHeader(HttpHeaders.WWW_AUTHENTICATE));
+        assertEquals(saturated.getMessage(), response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Bad credentials still return 401 with the Basic challenge")
+    public void badCredentialsReturnUnauthorizedTest() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        entryPoint.commence(new MockHttpServletRequest(), response, new BadCredentialsException("Bad credentials"));
+
+        assertEquals(401, response.getStatus());
+        assertEquals("Basic realm=\"Realm\"", response.getHeader(HttpHeaders.WWW_AUTHENTICATE));
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.app;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.app.application.exception.WorkloadSaturatedException;
+import org.example.app.domain.repository.WorkloadClass;
+import org.example.app.infrastucture.config.WorkloadProperties;
+import org.example.app.infrastucture.jdbc.WorkloadBulkheads;
+import org.example.app.infrastucture.jdbc.WorkloadContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkloadBulkheadsTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HikariDataSource dataSource = new HikariDataSource();
+    private WorkloadBulkheads bulkheads;
+
+    @BeforeEach
+    public void setUp() {
+        WorkloadProperties properties = new WorkloadProperties();
+        WorkloadProperties.Bulkhead analytics = new WorkloadProperties.Bulkhead();
+        analytics.setMaxConcurrent(1);
+        analytics.setRetryAfter(Duration.ofSeconds(5));
+        properties.getClasses().put(WorkloadClass.ANALYTICS, analytics);
+        bulkheads = new WorkloadBulkheads(properties, meterRegistry, dataSource);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        bulkheads.destroy();
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("A saturated workload class rejects calls while other classes keep running")
+    public void saturatedClassRejectsCallsTest() throws Throwable {
+        String result = bulkheads.execute(WorkloadClass.ANALYTICS, () -> {
+            assertEquals(WorkloadClass.ANALYTICS, WorkloadContext.current());
+
+            ExecutionException rejected = assertThrows(ExecutionException.class, () -> CompletableFuture
+                    .supplyAsync(() -> callUnchecked(WorkloadClass.ANALYTICS)).get());
+            WorkloadSaturatedException cause = assertInstanceOf(WorkloadSaturatedException.class,
+                    rejected.getCause());
+            assertEquals(Duration.ofSeconds(5), cause.getRetryAfter());
+
+            assertEquals("point-reads", CompletableFuture
+                    .supplyAsync(() -> callUnchecked(WorkloadClass.POINT_READS)).get());
+            return "analytics";
+        });
+
+        assertEquals("analytics", result);
+        assertNull(WorkloadContext.current());
+        assertEquals(1.0, meterRegistry.get(WorkloadBulkheads.REJECTED_METRIC_NAME)
+                .tag("workload", "analytics").counter().count());
+        assertEquals(0.0, meterRegistry.get(WorkloadBulkheads.IN_FLIGHT_METRIC_NAME)
+                .tag("workload", "analytics").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Nested calls of the same class reuse the permit and restore the outer class")
+    public void nestedCallsReusePermitTest() throws Throwable {
+        bulkheads.execute(WorkloadClass.ANALYTICS, () -> {
+            bulkheads.execute(WorkloadClass.ANALYTICS, () -> null);
+            bulkheads.execute(WorkloadClass.AUDIT, () -> {
+                assertEquals(WorkloadClass.AUDIT, WorkloadContext.current());
+                return null;
+            });
+            assertEquals(WorkloadClass.ANALYTICS, WorkloadContext.current());
+            return null;
+        });
+
+        assertNull(WorkloadContext.current());
+    }
+
+    @Test
+    @DisplayName("Background threads wait for a slot of a saturated class instead of being rejected")
+    public void backgroundCallsWaitForSlotTest() throws Throwable {
+        CompletableFuture<String> background = new CompletableFuture<>();
+        Thread thread = new Thread(WorkloadContext.inBackground(
+                () -> background.complete(callUnchecked(WorkloadClass.ANALYTICS))));
+
+        bulkheads.execute(WorkloadClass.ANALYTICS, () -> {
+            thread.start();
+            thread.join(200);
+            assertTrue(thread.isAlive());
+            return null;
+        });
+
+        assertEquals("analytics", background.get(5, TimeUnit.SECONDS));
+        assertFalse(WorkloadContext.isBackground());
+        assertEquals(0, meterRegistry.find(WorkloadBulkheads.REJECTED_METRIC_NAME).counters().size());
+    }
+
+    private String callUnchecked(WorkloadClass workloadClass) {
+        try {
+            return bulkheads.execute(workloadClass, () -> workloadClass.name().toLowerCase().replace('_', '-'));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
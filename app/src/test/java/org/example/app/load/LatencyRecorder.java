@@ -0,0 +1,60 @@
+package org.example.app.load;
+
+import java.util.Arrays;
+
+/**
+ * Накопитель задержек одной операции. Используется одним потоком; результаты потоков объединяются
+ * через {@link #merge(LatencyRecorder)}. Процентили считаются по отсортированному массиву всех значений.
+ */
+public class LatencyRecorder {
+    private long[] latencies = new long[1024];
+    private int size;
+    private long errors;
+
+    public void record(long latencyNanos) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = latencyNanos;
+    }
+
+    public void recordError() {
+        errors++;
+    }
+
+    public void merge(LatencyRecorder other) {
+        for (int i = 0; i < other.size; i++) {
+            record(other.latencies[i]);
+        }
+        errors += other.errors;
+    }
+
+    public int count() {
+        return size;
+    }
+
+    public long errors() {
+        return errors;
+    }
+
+    /**
+     * Возвращает процентили задержки в миллисекундах.
+     *
+     * @param percentiles процентили от 0 до 100
+     * @return значения процентилей в том же порядке
+     */
+    public double[] percentilesMillis(double... percentiles) {
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+
+        double[] result = new double[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            if (size == 0) {
+                continue;
+            }
+            int index = (int) Math.ceil(percentiles[i] / 100.0 * size) - 1;
+            result[i] = sorted[Math.max(0, Math.min(size - 1, index))] / 1_000_000.0;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,221 @@
+package org.example.app.load;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.app.domain.model.Goal;
+import org.example.app.domain.model.Role;
+import org.example.app.domain.model.SpendingLimit;
+import org.example.app.domain.model.Transaction;
+import org.example.app.domain.model.User;
+import org.example.app.domain.repository.UserRepository;
+import org.example.app.domain.repository.impl.UserRepositoryImpl;
+import org.example.app.util.GoalGenerator;
+import org.example.app.util.LimitGenerator;
+import org.example.app.util.TransactionGenerator;
+import org.example.app.util.UserGenerator;
+import org.example.app.utils.queries.GoalSqlQueries;
+import org.example.app.utils.queries.SpendingLimitSqlQueries;
+import org.example.app.utils.queries.TransactionSqlQueries;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Наполняет БД синтетическими пользователями, транзакциями, целями и лимитами.
+ * <p>
+ * Пользователи делятся на непересекающиеся диапазоны по числу потоков, и каждый диапазон
+ * заполняется генераторами с собственным seed, поэтому при одинаковых параметрах данные повторяются.
+ * Пользователи вставляются пакетами через {@code saveAll}, транзакции, цели и лимиты — пакетной вставкой
+ * без записей в outbox, поэтому наполнение не затрагивает очередь изменений работающих экземпляров приложения.
+ * </p>
+ */
+public class LoadDataSeeder {
+    static final String EMAIL_PREFIX = "load-user-";
+    static final String EMAIL_DOMAIN = "@loadtest.local";
+
+    private final LoadTestSettings settings;
+    private final HikariDataSource dataSource;
+    private final UserRepository userRepository;
+
+    public LoadDataSeeder(LoadTestSettings settings, HikariDataSource dataSource) {
+        this.settings = settings;
+        this.dataSource = dataSource;
+        this.userRepository = new UserRepositoryImpl(dataSource);
+    }
+
+    /**
+     * Наполняет БД и выводит итоговую скорость вставки.
+     */
+    public void seed() throws Exception {
+        String encodedPassword = new BCryptPasswordEncoder().encode(settings.password());
+        AtomicLong insertedTransactions = new AtomicLong();
+        long started = System.nanoTime();
+
+        int partitions = Math.max(1, settings.seedThreads());
+        int usersPerPartition = (settings.users() + partitions - 1) / partitions;
+        ExecutorService executor = Executors.newFixedThreadPool(partitions);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int partition = 0; partition < partitions; partition++) {
+                int from = partition * usersPerPartition;
+                int to = Math.min(settings.users(), from + usersPerPartition);
+                long seed = settings.seed() + partition;
+                futures.add(executor.submit(() -> {
+                    seedPartition(from, to, seed, encodedPassword, insertedTransactions);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        System.out.printf("Создано пользователей: %d, транзакций: %d за %.1f с (%.0f транзакций/с)%n",
+                settings.users(), insertedTransactions.get(), seconds, insertedTransactions.get() / seconds);
+    }
+
+    /**
+     * Возвращает идентификаторы и email всех пользователей, созданных наполнителем.
+     *
+     * @return список пользователей нагрузочного теста
+     */
+    public List<User> findSeededUsers() throws SQLException {
+        List<User> users = new ArrayList<>();
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "SELECT id, email FROM financial_tracker.users WHERE email LIKE ? ORDER BY id")) {
+            stmt.setString(1, EMAIL_PREFIX + "%");
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    User user = new User();
+                    user.setId(rs.getLong("id"));
+                    user.setEmail(rs.getString("email"));
+                    users.add(user);
+                }
+            }
+        }
+        return users;
+    }
+
+    private void seedPartition(int from, int to, long seed, String encodedPassword, AtomicLong inserted)
+            throws SQLException {
+        UserGenerator userGenerator = new UserGenerator(seed);
+        TransactionGenerator transactionGenerator = new TransactionGenerator(seed);
+        GoalGenerator goalGenerator = new GoalGenerator(seed);
+        LimitGenerator limitGenerator = new LimitGenerator(seed);
+
+        int usersPerBatch = Math.max(1, settings.batchSize() / Math.max(1, settings.transactionsPerUser()));
+        for (int start = from; start < to; start += usersPerBatch) {
+            int end = Math.min(to, start + usersPerBatch);
+
+            List<User> users = new ArrayList<>();
+            for (int i = start; i < end; i++) {
+                User user = userGenerator.getUser();
+                user.setEmail(EMAIL_PREFIX + i + EMAIL_DOMAIN);
+                user.setPassword(encodedPassword);
+                user.setRole(Role.USER);
+                user.setBanned(false);
+                users.add(user);
+            }
+            userRepository.saveAll(users);
+
+            List<Transaction> transactions = new ArrayList<>(settings.batchSize());
+            List<Goal> goals = new ArrayList<>(users.size());
+            List<SpendingLimit> limits = new ArrayList<>(users.size());
+            for (User user : users) {
+                for (int i = 0; i < settings.transactionsPerUser(); i++) {
+                    Transaction transaction = transactionGenerator.getTransaction();
+                    transaction.setUserId(user.getId());
+                    transactions.add(transaction);
+                    if (transactions.size() == settings.batchSize()) {
+                        insertTransactions(transactions);
+                        inserted.addAndGet(transactions.size());
+                        transactions = new ArrayList<>(settings.batchSize());
+                    }
+                }
+
+                Goal goal = goalGenerator.getGoal();
+                goal.setUserId(user.getId());
+                goals.add(goal);
+
+                SpendingLimit limit = limitGenerator.getLimit();
+                limit.setUserId(user.getId());
+                limit.setActive(true);
+                limits.add(limit);
+            }
+            insertTransactions(transactions);
+            inserted.addAndGet(transactions.size());
+            insertGoals(goals);
+            insertLimits(limits);
+        }
+    }
+
+    /**
+     * Вставляет транзакции пакетом без записей в outbox, в отличие от {@code TransactionRepository.saveAll}:
+     * кэши приложения строятся из БД при первом обращении, а события о миллионах исходных транзакций
+     * только заняли бы обработчик outbox работающих экземпляров приложения.
+     */
+    private void insertTransactions(List<Transaction> transactions) throws SQLException {
+        insertBatch(TransactionSqlQueries.SAVE, transactions, (stmt, transaction) -> {
+            stmt.setLong(1, transaction.getUserId());
+            stmt.setBigDecimal(2, transaction.getAmount());
+            stmt.setString(3, transaction.getCategory().name());
+            stmt.setString(4, transaction.getDescription());
+            stmt.setDate(5, Date.valueOf(transaction.getDate()));
+            stmt.setBoolean(6, transaction.isIncome());
+        });
+    }
+
+    private void insertGoals(List<Goal> goals) throws SQLException {
+        insertBatch(GoalSqlQueries.SAVE, goals, (stmt, goal) -> {
+            stmt.setLong(1, goal.getUserId());
+            stmt.setString(2, goal.getDescription());
+            stmt.setBigDecimal(3, goal.getTargetAmount());
+        });
+    }
+
+    private void insertLimits(List<SpendingLimit> limits) throws SQLException {
+        insertBatch(SpendingLimitSqlQueries.SAVE, limits, (stmt, limit) -> {
+            stmt.setLong(1, limit.getUserId());
+            stmt.setBigDecimal(2, limit.getLimit());
+            stmt.setBoolean(3, limit.isActive());
+        });
+    }
+
+    private <T> void insertBatch(String sql, List<T> rows, RowBinder<T> binder) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (T row : rows) {
+                    binder.bind(stmt, row);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowBinder<T> {
+        void bind(PreparedStatement stmt, T row) throws SQLException;
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.app.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.app.application.dto.transaction.TransactionCreateDTO;
+import org.example.app.domain.model.User;
+import org.example.app.util.TransactionGenerator;
+import org.example.app.utils.JsonUtil;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Подаёт нагрузку на REST API запущенного приложения и выводит пропускную способность и процентили задержки.
+ * <p>
+ * Каждый клиент работает в замкнутом цикле: выбирает случайного пользователя и операцию с заданной долей
+ * записей и отправляет следующий запрос после получения ответа. Запросы аутентифицируются через Basic,
+ * как и у настоящих клиентов, поэтому в задержку входит проверка пароля.
+ * </p>
+ */
+public class LoadDriver {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 100};
+    private static final List<String> READ_OPERATIONS = List.of("transactions", "balance", "goal-progress");
+    private static final String WRITE_OPERATION = "create-transaction";
+
+    private final LoadTestSettings settings;
+    private final List<User> users;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new JsonUtil().getObjectMapper();
+
+    public LoadDriver(LoadTestSettings settings, List<User> users) {
+        this.settings = settings;
+        this.users = users;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Выполняет прогрев и измерение, затем выводит отчёт.
+     */
+    public void run() throws Exception {
+        if (users.isEmpty()) {
+            throw new IllegalStateException("No load test users found, run the seed mode first");
+        }
+
+        System.out.printf("Прогрев: %d с%n", settings.warmupSeconds());
+        execute(settings.warmupSeconds());
+
+        System.out.printf("Измерение: %d с, клиентов: %d, доля записей: %.2f%n",
+                settings.durationSeconds(), settings.threads(), settings.writeRatio());
+        Map<String, LatencyRecorder> results = execute(settings.durationSeconds());
+        report(results, settings.durationSeconds());
+    }
+
+    private Map<String, LatencyRecorder> execute(int seconds) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(settings.threads());
+        try {
+            List<Future<Map<String, LatencyRecorder>>> futures = new ArrayList<>();
+            for (int i = 0; i < settings.threads(); i++) {
+                long seed = settings.seed() + i;
+                futures.add(executor.submit(() -> runClient(seed, deadline)));
+            }
+
+            Map<String, LatencyRecorder> merged = new LinkedHashMap<>();
+            for (Future<Map<String, LatencyRecorder>> future : futures) {
+                future.get().forEach((operation, recorder) ->
+                        merged.computeIfAbsent(operation, key -> new LatencyRecorder()).merge(recorder));
+            }
+            return merged;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private Map<String, LatencyRecorder> runClient(long seed, long deadline) {
+        Random random = new Random(seed);
+        TransactionGenerator generator = new TransactionGenerator(seed);
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+
+        while (System.nanoTime() < deadline) {
+            User user = users.get(random.nextInt(users.size()));
+            boolean write = random.nextDouble() < settings.writeRatio();
+            String operation = write ? WRITE_OPERATION : READ_OPERATIONS.get(random.nextInt(READ_OPERATIONS.size()));
+            LatencyRecorder recorder = recorders.computeIfAbsent(operation, key -> new LatencyRecorder());
+
+            long started = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request(operation, user, generator),
+                        HttpResponse.BodyHandlers.discarding());
+                long latency = System.nanoTime() - started;
+                if (response.statusCode() >= 400) {
+                    recorder.recordError();
+                } else {
+                    recorder.record(latency);
+                }
+            } catch (Exception e) {
+                recorder.recordError();
+            }
+        }
+        return recorders;
+    }
+
+    private HttpRequest request(String operation, User user, TransactionGenerator generator) throws Exception {
+        String credentials = Base64.getEncoder().encodeToString(
+                (user.getEmail() + ":" + settings.password()).getBytes(StandardCharsets.UTF_8));
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Basic " + credentials);
+
+        return switch (operation) {
+            case "transactions" -> builder
+                    .uri(URI.create(settings.baseUrl() + "/api/transactions/" + user.getId() + "/user/"))
+                    .GET().build();
+            case "balance" -> builder
+                    .uri(URI.create(settings.baseUrl() + "/api/transactions/statistics/" + user.getId() + "/balance"))
+                    .GET().build();
+            case "goal-progress" -> builder
+                    .uri(URI.create(settings.baseUrl() + "/api/goals/" + user.getId() + "/progress"))
+                    .GET().build();
+            default -> {
+                TransactionCreateDTO dto = generator.getCreateDTO();
+                dto.setUserId(user.getId());
+                yield builder
+                        .uri(URI.create(settings.baseUrl() + "/api/transactions"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(dto)))
+                        .build();
+            }
+        };
+    }
+
+    private void report(Map<String, LatencyRecorder> results, int seconds) {
+        LatencyRecorder total = new LatencyRecorder();
+        System.out.printf("%-20s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        results.forEach((operation, recorder) -> {
+            printRow(operation, recorder, seconds);
+            total.merge(recorder);
+        });
+        printRow("total", total, seconds);
+    }
+
+    private void printRow(String operation, LatencyRecorder recorder, int seconds) {
+        double[] p = recorder.percentilesMillis(PERCENTILES);
+        System.out.printf("%-20s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                operation, recorder.count(), recorder.errors(), (double) recorder.count() / seconds,
+                p[0], p[1], p[2], p[3], p[4]);
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.app.load;
+
+/**
+ * Параметры нагрузочного теста. Читаются из системных свойств с префиксом {@code load.}.
+ *
+ * @param mode               режим запуска: seed, drive или all
+ * @param jdbcUrl            адрес БД для наполнения данными
+ * @param dbUser             пользователь БД
+ * @param dbPassword         пароль БД
+ * @param baseUrl            адрес запущенного приложения
+ * @param users              число создаваемых пользователей
+ * @param transactionsPerUser число транзакций на пользователя
+ * @param batchSize          размер пакета вставки
+ * @param seedThreads        число потоков наполнения
+ * @param seed               начальное значение генераторов для воспроизводимости
+ * @param password           пароль создаваемых пользователей, используется для Basic-аутентификации
+ * @param threads            число параллельных клиентов при подаче нагрузки
+ * @param warmupSeconds      длительность прогрева, результаты которого не учитываются
+ * @param durationSeconds    длительность измерения
+ * @param writeRatio         доля операций записи от 0 до 1
+ */
+public record LoadTestSettings(String mode,
+                               String jdbcUrl,
+                               String dbUser,
+                               String dbPassword,
+                               String baseUrl,
+                               int users,
+                               int transactionsPerUser,
+                               int batchSize,
+                               int seedThreads,
+                               long seed,
+                               String password,
+                               int threads,
+                               int warmupSeconds,
+                               int durationSeconds,
+                               double writeRatio) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                System.getProperty("load.mode", "all"),
+                System.getProperty("load.jdbcUrl",
+                        "jdbc:postgresql://localhost:5432/postgres?reWriteBatchedInserts=true"),
+                System.getProperty("load.dbUser", "root"),
+                System.getProperty("load.dbPassword", "password"),
+                System.getProperty("load.baseUrl", "http://localhost:8080"),
+                Integer.getInteger("load.users", 1_000),
+                Integer.getInteger("load.transactionsPerUser", 100),
+                Integer.getInteger("load.batchSize", 1_000),
+                Integer.getInteger("load.seedThreads", 4),
+                Long.getLong("load.seed", 42L),
+                System.getProperty("load.password", "load-test-password"),
+                Integer.getInteger("load.threads", 16),
+                Integer.getInteger("load.warmupSeconds", 10),
+                Integer.getInteger("load.durationSeconds", 60),
+                Double.parseDouble(System.getProperty("load.writeRatio", "0.2")));
+    }
+}
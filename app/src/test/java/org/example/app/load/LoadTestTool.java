@@ -0,0 +1,40 @@
+package org.example.app.load;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Точка входа нагрузочного теста.
+ * <p>
+ * Режим {@code seed} наполняет локальную PostgreSQL синтетическими данными, режим {@code drive}
+ * подаёт нагрузку на запущенное приложение, режим {@code all} выполняет оба шага.
+ * Параметры задаются системными свойствами, см. {@link LoadTestSettings}.
+ * </p>
+ */
+public final class LoadTestTool {
+
+    private LoadTestTool() {
+        // Приватный конструктор для предотвращения создания экземпляров класса
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(settings.jdbcUrl());
+        config.setUsername(settings.dbUser());
+        config.setPassword(settings.dbPassword());
+        config.setMaximumPoolSize(Math.max(2, settings.seedThreads() + 1));
+
+        try (HikariDataSource dataSource = new HikariDataSource(config)) {
+            LoadDataSeeder seeder = new LoadDataSeeder(settings, dataSource);
+
+            if (!"drive".equals(settings.mode())) {
+                seeder.seed();
+            }
+            if (!"seed".equals(settings.mode())) {
+                new LoadDriver(settings, seeder.findSeededUsers()).run();
+            }
+        }
+    }
+}
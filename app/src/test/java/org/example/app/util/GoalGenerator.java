@@ -8,12 +8,21 @@ import org.example.app.domain.model.Goal;
 import org.instancio.Instancio;
 
 import java.math.BigDecimal;
+import java.util.Random;
 
 import static org.instancio.Select.field;
 
 
 public class GoalGenerator {
-    private final Faker faker = new Faker();
+    private final Faker faker;
+
+    public GoalGenerator() {
+        this.faker = new Faker();
+    }
+
+    public GoalGenerator(long seed) {
+        this.faker = new Faker(new Random(seed));
+    }
 
     public GoalDTO getGoalDTO() {
         return Instancio.of(GoalDTO.class)
@@ -49,6 +58,7 @@ public class GoalGenerator {
 
     public Goal getGoal() {
         return Instancio.of(Goal.class)
+                .withSeed(faker.random().nextLong())
                 .ignore(field(Goal::getId))
                 .set(field(Goal::getUserId), (long) faker.number().numberBetween(1, 200))
                 .set(field(Goal::getDescription), faker.text().text(15))
@@ -0,0 +1,21 @@
+package org.example.app.util;
+
+import org.example.app.domain.repository.UserDataVersionRepository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryUserDataVersionRepository implements UserDataVersionRepository {
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public long findVersion(Long userId) {
+        return versions.getOrDefault(userId, 0L);
+    }
+
+    @Override
+    public void increment(Collection<Long> userIds) {
+        userIds.forEach(userId -> versions.merge(userId, 1L, Long::sum));
+    }
+}
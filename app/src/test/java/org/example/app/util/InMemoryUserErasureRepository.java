@@ -0,0 +1,67 @@
+package org.example.app.util;
+
+import org.example.app.domain.model.UserErasure;
+import org.example.app.domain.model.UserErasureStatus;
+import org.example.app.domain.repository.UserErasureRepository;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryUserErasureRepository implements UserErasureRepository {
+    private final Map<Long, UserErasure> erasures = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized Optional<UserErasure> claim(Long userId, Duration staleAfter) {
+        UserErasure existing = erasures.get(userId);
+        if (existing != null && existing.getStatus().isActive()) {
+            return Optional.empty();
+        }
+
+        int attempt = existing == null ? 1 : existing.getAttempt() + 1;
+        UserErasure erasure = new UserErasure(userId, UserErasureStatus.PENDING, attempt, 0, 0, 0, null);
+        erasures.put(userId, copy(erasure));
+        return Optional.of(erasure);
+    }
+
+    @Override
+    public Optional<UserErasure> findByUserId(Long userId) {
+        return Optional.ofNullable(erasures.get(userId)).map(InMemoryUserErasureRepository::copy);
+    }
+
+    @Override
+    public synchronized boolean update(UserErasure erasure) {
+        UserErasure stored = erasures.get(erasure.getUserId());
+        if (stored == null || stored.getAttempt() != erasure.getAttempt()) {
+            return false;
+        }
+        erasures.put(erasure.getUserId(), copy(erasure));
+        return true;
+    }
+
+    @Override
+    public synchronized boolean complete(UserErasure erasure) {
+        erasure.setStatus(UserErasureStatus.COMPLETED);
+        return update(erasure);
+    }
+
+    @Override
+    public int deleteFinishedOlderThan(Duration retention) {
+        return 0;
+    }
+
+    public void takeOver(Long userId) {
+        erasures.computeIfPresent(userId, (id, erasure) -> {
+            UserErasure next = copy(erasure);
+            next.setAttempt(erasure.getAttempt() + 1);
+            return next;
+        });
+    }
+
+    private static UserErasure copy(UserErasure erasure) {
+        return new UserErasure(erasure.getUserId(), erasure.getStatus(), erasure.getAttempt(),
+                erasure.getTransactionsDeleted(), erasure.getGoalsDeleted(), erasure.getSpendingLimitsDeleted(),
+                erasure.getError());
+    }
+}
@@ -8,11 +8,20 @@ import org.example.app.domain.model.SpendingLimit;
 import org.instancio.Instancio;
 
 import java.math.BigDecimal;
+import java.util.Random;
 
 import static org.instancio.Select.field;
 
 public class LimitGenerator {
-    private final Faker faker = new Faker();
+    private final Faker faker;
+
+    public LimitGenerator() {
+        this.faker = new Faker();
+    }
+
+    public LimitGenerator(long seed) {
+        this.faker = new Faker(new Random(seed));
+    }
 
     public SpendingLimitDTO getSpendingLimitDTO() {
         return Instancio.of(SpendingLimitDTO.class)
@@ -45,6 +54,7 @@ public class LimitGenerator {
 
     public SpendingLimit getLimit() {
         return Instancio.of(SpendingLimit.class)
+                .withSeed(faker.random().nextLong())
                 .ignore(field(SpendingLimit::getId))
                 .set(field(SpendingLimit::getUserId), (long) faker.number().numberBetween(1, 200))
                 .set(field(SpendingLimit::isActive), faker.bool().bool())
@@ -13,12 +13,27 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 import static org.instancio.Select.field;
 
 public class TransactionGenerator {
-    private final Faker faker = new Faker();
+    // Точка отсчёта дат при заданном seed: даты не должны зависеть от дня запуска
+    private static final LocalDate SEED_EPOCH = LocalDate.of(2025, 1, 1);
+
+    private final Faker faker;
+    private final LocalDate anchor;
+
+    public TransactionGenerator() {
+        this.faker = new Faker();
+        this.anchor = null;
+    }
+
+    public TransactionGenerator(long seed) {
+        this.faker = new Faker(new Random(seed));
+        this.anchor = SEED_EPOCH.plusDays(Math.floorMod(seed, 365));
+    }
 
     public TransactionDTO getTransactionDTO() {
         return Instancio.of(TransactionDTO.class)
@@ -60,6 +75,7 @@ public class TransactionGenerator {
 
     public Transaction getTransaction() {
         return Instancio.of(Transaction.class)
+                .withSeed(faker.random().nextLong())
                 .ignore(field(Transaction::getId))
                 .set(field(Transaction::getUserId), (long) faker.number().numberBetween(1, 200))
                 .set(field(Transaction::getDescription), faker.text().text(15))
@@ -110,6 +126,9 @@ public class TransactionGenerator {
     }
 
     private LocalDate randomDate() {
+        if (anchor != null) {
+            return anchor.minusDays(faker.number().numberBetween(1, 31));
+        }
         return faker.date()
                 .past(30, TimeUnit.DAYS)
                 .toInstant()
@@ -8,10 +8,20 @@ import org.example.app.domain.model.Role;
 import org.example.app.domain.model.User;
 import org.instancio.Instancio;
 
+import java.util.Random;
+
 import static org.instancio.Select.field;
 
 public class UserGenerator {
-    private final Faker faker = new Faker();
+    private final Faker faker;
+
+    public UserGenerator() {
+        this.faker = new Faker();
+    }
+
+    public UserGenerator(long seed) {
+        this.faker = new Faker(new Random(seed));
+    }
 
     public UserDTO getUserDTO() {
         return Instancio.of(UserDTO.class)
@@ -45,6 +55,7 @@ public class UserGenerator {
 
     public User getUser() {
         return Instancio.of(User.class)
+                .withSeed(faker.random().nextLong())
                 .ignore(field(User::getId))
                 .set(field(User::getName), faker.internet().username())
                 .set(field(User::getEmail), faker.internet().emailAddress())
@@ -0,0 +1,70 @@
+package org.example.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Точка входа для запуска бенчмарков.
+ * <p>
+ * Принимает стандартные аргументы командной строки JMH и сохраняет результаты в JSON-файл
+ * {@code <benchmark.results.dir>/jmh-<commit>.json}, чтобы результаты разных коммитов можно было сравнивать.
+ * Коммит берётся из системного свойства {@code benchmark.commit}, а если оно не задано — из {@code git rev-parse}.
+ * </p>
+ */
+public final class BenchmarkRunner {
+    private static final String RESULTS_DIR = System.getProperty("benchmark.results.dir", "benchmarks/results");
+
+    private BenchmarkRunner() {
+        // Приватный конструктор для предотвращения создания экземпляров класса
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        Path resultsDir = Path.of(RESULTS_DIR);
+        Files.createDirectories(resultsDir);
+        Path result = resultsDir.resolve("jmh-" + resolveCommit() + ".json");
+
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .build();
+
+        new Runner(options).run();
+        System.out.println("Результаты сохранены в " + result.toAbsolutePath());
+    }
+
+    private static String resolveCommit() {
+        String commit = System.getProperty("benchmark.commit");
+        if (commit != null && !commit.isBlank()) {
+            return commit;
+        }
+
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD")
+                    .redirectErrorStream(true)
+                    .start();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+                String line = reader.readLine();
+                if (process.waitFor() == 0 && line != null && !line.isBlank()) {
+                    return line.trim();
+                }
+            }
+        } catch (IOException e) {
+            // git недоступен, используем значение по умолчанию
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "unknown";
+    }
+}
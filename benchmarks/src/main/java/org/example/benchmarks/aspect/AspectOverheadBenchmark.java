@@ -0,0 +1,102 @@
+package org.example.benchmarks.aspect;
+
+import org.example.auditstarter.aspect.AuditAspect;
+import org.example.auditstarter.model.AuditLog;
+import org.example.auditstarter.repository.AuditLogRepository;
+import org.example.loggingstarter.aspect.LoggingAspect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк накладных расходов {@link LoggingAspect} и {@link AuditAspect} на один вызов.
+ * <p>
+ * Аспекты применяются через {@link AspectJProxyFactory} к тем же целевым классам, что и без прокси,
+ * поэтому разница между парными методами равна стоимости прокси и совета.
+ * Репозиторий аудита не пишет в БД, чтобы измерялась только работа аспекта.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AspectOverheadBenchmark {
+    private SampleService plainService;
+    private SampleService loggedService;
+    private SampleController plainController;
+    private SampleController auditedController;
+
+    @Setup
+    public void setUp() {
+        plainService = new SampleService();
+        plainController = new SampleController();
+
+        AspectJProxyFactory serviceProxy = new AspectJProxyFactory(new SampleService());
+        serviceProxy.setProxyTargetClass(true);
+        serviceProxy.addAspect(new LoggingAspect());
+        loggedService = serviceProxy.getProxy();
+
+        AuditLogRepository noOpRepository = new AuditLogRepository() {
+            @Override
+            public void save(AuditLog auditLog) {
+                // Запись в БД не входит в измерение
+            }
+        };
+        AspectJProxyFactory controllerProxy = new AspectJProxyFactory(new SampleController());
+        controllerProxy.setProxyTargetClass(true);
+        controllerProxy.addAspect(new AuditAspect(noOpRepository));
+        auditedController = controllerProxy.getProxy();
+    }
+
+    @Benchmark
+    public long serviceWithoutAspect() {
+        return plainService.sum(40L, 2L);
+    }
+
+    @Benchmark
+    public long serviceWithLoggingAspect() {
+        return loggedService.sum(40L, 2L);
+    }
+
+    @Benchmark
+    public void controllerWithoutAspect(Blackhole blackhole) {
+        blackhole.consume(plainController.show(42L));
+    }
+
+    @Benchmark
+    public void controllerWithAuditAspect(Blackhole blackhole) {
+        blackhole.consume(auditedController.show(42L));
+    }
+
+    @Service
+    public static class SampleService {
+        public long sum(long a, long b) {
+            return a + b;
+        }
+    }
+
+    @RestController
+    public static class SampleController {
+        @GetMapping("/sample/{id}")
+        public ResponseEntity<Long> show(Long id) {
+            return ResponseEntity.ok(id);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.benchmarks.mapper;
+
+import org.example.app.application.dto.transaction.TransactionCreateDTO;
+import org.example.app.application.dto.transaction.TransactionDTO;
+import org.example.app.application.dto.transaction.TransactionEditDTO;
+import org.example.app.application.mapper.TransactionMapper;
+import org.example.app.application.mapper.TransactionMapperImpl;
+import org.example.app.domain.model.Category;
+import org.example.app.domain.model.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк преобразований, сгенерированных MapStruct для {@link TransactionMapper}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionMapperBenchmark {
+    private TransactionMapper mapper;
+    private Transaction transaction;
+    private TransactionCreateDTO createDTO;
+    private TransactionEditDTO editDTO;
+
+    @Setup
+    public void setUp() {
+        mapper = new TransactionMapperImpl();
+        transaction = new Transaction(1L, 10L, new BigDecimal("125.50"), Category.PRODUCTS,
+                "Groceries", LocalDate.of(2025, 3, 5), false);
+
+        createDTO = new TransactionCreateDTO();
+        createDTO.setUserId(10L);
+        createDTO.setAmount(new BigDecimal("125.50"));
+        createDTO.setCategory(Category.PRODUCTS);
+        createDTO.setDescription("Groceries");
+        createDTO.setDate(LocalDate.of(2025, 3, 5));
+        createDTO.setIncome(false);
+
+        editDTO = new TransactionEditDTO();
+        editDTO.setId(1L);
+        editDTO.setUserId(10L);
+        editDTO.setAmount(new BigDecimal("99.90"));
+        editDTO.setCategory(Category.TRANSPORT);
+        editDTO.setDescription("Taxi");
+        editDTO.setDate(LocalDate.of(2025, 3, 6));
+        editDTO.setIncome(false);
+    }
+
+    @Benchmark
+    public TransactionDTO mapToDto() {
+        return mapper.map(transaction);
+    }
+
+    @Benchmark
+    public Transaction mapFromCreateDto() {
+        return mapper.map(createDTO);
+    }
+
+    @Benchmark
+    public Transaction updateFromEditDto() {
+        Transaction target = mapper.copy(transaction);
+        mapper.update(editDTO, target);
+        return target;
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.benchmarks.mapper;
+
+import org.example.app.application.dto.user.UserCreateDTO;
+import org.example.app.application.dto.user.UserDTO;
+import org.example.app.application.mapper.UserMapper;
+import org.example.app.application.mapper.UserMapperImpl;
+import org.example.app.domain.model.Role;
+import org.example.app.domain.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк преобразований, сгенерированных MapStruct для {@link UserMapper}.
+ * Кодирование пароля заменено тривиальной реализацией, чтобы измерялось само преобразование, а не BCrypt.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMapperBenchmark {
+    private UserMapper mapper;
+    private User user;
+    private UserCreateDTO createDTO;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        mapper = new UserMapperImpl();
+        Field passwordEncoder = UserMapper.class.getDeclaredField("passwordEncoder");
+        passwordEncoder.setAccessible(true);
+        passwordEncoder.set(mapper, new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        });
+
+        user = new User(1L, "John Smith", "john@example.com", "secret", Role.USER, false);
+        createDTO = new UserCreateDTO("John Smith", "john@example.com", "secret", Role.USER, false);
+    }
+
+    @Benchmark
+    public UserDTO mapToDto() {
+        return mapper.map(user);
+    }
+
+    @Benchmark
+    public User mapFromCreateDto() {
+        return mapper.map(createDTO);
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.benchmarks.money;
+
+import org.example.app.utils.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк суммирования 10 млн сумм {@code DECIMAL(10,2)}: {@link BigDecimal} против копеек в {@code long}.
+ * <p>
+ * {@code bigDecimal} — сложение объектов, как прежде в агрегациях; {@code minorUnits} — сложение через
+ * {@link Money#add} с проверкой переполнения; {@code minorUnitsUnchecked} — сложение без проверки, для оценки
+ * её стоимости; {@code toMinorUnits} — перевод уже загруженных {@link BigDecimal} в копейки на границе.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class MoneySumBenchmark {
+    private static final int AMOUNTS = 10_000_000;
+
+    private BigDecimal[] decimals;
+    private long[] minorUnits;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        decimals = new BigDecimal[AMOUNTS];
+        minorUnits = new long[AMOUNTS];
+        for (int i = 0; i < AMOUNTS; i++) {
+            long amount = random.nextInt(100_000_000);
+            decimals[i] = BigDecimal.valueOf(amount, 2);
+            minorUnits[i] = amount;
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal amount : decimals) {
+            total = total.add(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long minorUnits() {
+        long total = 0;
+        for (long amount : minorUnits) {
+            total = Money.add(total, amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long minorUnitsUnchecked() {
+        long total = 0;
+        for (long amount : minorUnits) {
+            total += amount;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long toMinorUnits() {
+        long total = 0;
+        for (BigDecimal amount : decimals) {
+            total = Money.add(total, Money.toMinor(amount));
+        }
+        return total;
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.benchmarks.repository;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.app.domain.model.Transaction;
+import org.example.app.domain.repository.TransactionRepository;
+import org.example.app.domain.repository.impl.TransactionRepositoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк чтения и маппинга строк в {@link TransactionRepositoryImpl}.
+ * <p>
+ * В качестве БД используется встроенная H2 в режиме совместимости с PostgreSQL, поэтому
+ * результаты отражают стоимость JDBC-кода и маппинга, а не сетевые задержки и планировщик PostgreSQL.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionRowMappingBenchmark {
+    private static final long USER_ID = 1L;
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    private HikariDataSource dataSource;
+    private TransactionRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:benchmark" + rows + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(4);
+        dataSource = new HikariDataSource(config);
+        repository = new TransactionRepositoryImpl(dataSource);
+
+        try (Connection conn = dataSource.getConnection();
+             Statement statement = conn.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS financial_tracker");
+            statement.execute("CREATE TABLE financial_tracker.transactions " +
+                    "(id SERIAL PRIMARY KEY, user_id INT NOT NULL, amount DECIMAL(10, 2) NOT NULL, " +
+                    "category VARCHAR(100) NOT NULL, description TEXT, date DATE, is_income BOOLEAN, " +
+                    "version BIGINT NOT NULL DEFAULT 0)");
+        }
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("INSERT INTO financial_tracker.transactions " +
+                     "(user_id, amount, category, description, date, is_income) VALUES (?, ?, ?, ?, ?, ?)")) {
+            LocalDate start = LocalDate.of(2025, 1, 1);
+            for (int i = 0; i < rows; i++) {
+                stmt.setLong(1, USER_ID);
+                stmt.setBigDecimal(2, BigDecimal.valueOf(1000 + i, 2));
+                stmt.setString(3, i % 5 == 0 ? "INCOME" : "PRODUCTS");
+                stmt.setString(4, "Transaction " + i);
+                stmt.setDate(5, Date.valueOf(start.plusDays(i % 365)));
+                stmt.setBoolean(6, i % 5 == 0);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public List<Transaction> findAllByUserId() {
+        return repository.findAllByUserId(USER_ID);
+    }
+
+    @Benchmark
+    public Optional<Transaction> findById() {
+        return repository.findById(1L);
+    }
+}
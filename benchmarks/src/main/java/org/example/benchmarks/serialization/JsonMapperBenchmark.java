@@ -0,0 +1,106 @@
+package org.example.benchmarks.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.app.application.dto.goal.GoalDTO;
+import org.example.app.application.dto.limit.SpendingLimitDTO;
+import org.example.app.application.dto.transaction.TransactionDTO;
+import org.example.app.application.dto.user.UserDTO;
+import org.example.app.domain.model.Category;
+import org.example.app.domain.model.Role;
+import org.example.app.utils.JsonUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк пропускной способности JSON-сериализации DTO.
+ * <p>
+ * {@code default} — {@link ObjectMapper} только с {@link JavaTimeModule}, как прежде в {@link JsonUtil};
+ * {@code tuned} — настройки приложения: Blackbird и сериализаторы сумм и дат без промежуточных строк.
+ * Результат пишется в поток, отбрасывающий байты, чтобы измерялась только сериализация.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonMapperBenchmark {
+    private static final int ROWS = 100;
+
+    @Param({"default", "tuned"})
+    private String mapper;
+
+    private ObjectMapper objectMapper;
+    private List<TransactionDTO> transactions;
+    private List<GoalDTO> goals;
+    private List<SpendingLimitDTO> limits;
+    private List<UserDTO> users;
+
+    @Setup
+    public void setUp() {
+        if ("tuned".equals(mapper)) {
+            objectMapper = new JsonUtil().getObjectMapper();
+        } else {
+            objectMapper = new ObjectMapper()
+                    .registerModule(new JavaTimeModule())
+                    .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        }
+
+        Random random = new Random(42);
+        Category[] categories = Category.values();
+        transactions = new ArrayList<>(ROWS);
+        goals = new ArrayList<>(ROWS);
+        limits = new ArrayList<>(ROWS);
+        users = new ArrayList<>(ROWS);
+        for (long i = 0; i < ROWS; i++) {
+            BigDecimal amount = BigDecimal.valueOf(random.nextInt(1_000_000), 2);
+            transactions.add(new TransactionDTO(i, 10L, amount, categories[random.nextInt(categories.length)],
+                    "Transaction " + i, LocalDate.of(2025, 1, 1).plusDays(random.nextInt(365)),
+                    random.nextBoolean(), 0L));
+            goals.add(new GoalDTO(i, 10L, "Goal " + i, amount, 0L));
+            limits.add(new SpendingLimitDTO(i, 10L, amount, random.nextBoolean(), 0L));
+            users.add(new UserDTO(i, "User " + i, "user" + i + "@example.com", Role.USER, false, 0L));
+        }
+    }
+
+    @Benchmark
+    public void transactions() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), transactions);
+    }
+
+    @Benchmark
+    public void goals() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), goals);
+    }
+
+    @Benchmark
+    public void limits() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), limits);
+    }
+
+    @Benchmark
+    public void users() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), users);
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.benchmarks.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.example.app.application.dto.transaction.TransactionDTO;
+import org.example.app.domain.model.Category;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Бенчмарк сериализации списка {@link TransactionDTO} в JSON, Smile и CBOR, с gzip и без.
+ * Помимо времени сериализации в результатах публикуется размер ответа в байтах ({@code payloadBytes}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationFormatBenchmark {
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    private ObjectMapper mapper;
+    private List<TransactionDTO> transactions;
+
+    /**
+     * Размер последнего сериализованного ответа.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireSize {
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper = switch (format) {
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            default -> builder.build();
+        };
+
+        Random random = new Random(42);
+        Category[] categories = Category.values();
+        transactions = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            TransactionDTO dto = new TransactionDTO();
+            dto.setId((long) i);
+            dto.setUserId(10L);
+            dto.setAmount(BigDecimal.valueOf(random.nextInt(1_000_000), 2));
+            dto.setCategory(categories[random.nextInt(categories.length)]);
+            dto.setDescription("Transaction " + i);
+            dto.setDate(LocalDate.of(2025, 1, 1).plusDays(random.nextInt(365)));
+            dto.setIncome(random.nextBoolean());
+            transactions.add(dto);
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize(WireSize size) throws IOException {
+        byte[] payload = mapper.writeValueAsBytes(transactions);
+        size.payloadBytes = payload.length;
+        return payload;
+    }
+
+    @Benchmark
+    public byte[] serializeGzip(WireSize size) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            mapper.writeValue(gzip, transactions);
+        }
+        byte[] payload = out.toByteArray();
+        size.payloadBytes = payload.length;
+        return payload;
+    }
+}